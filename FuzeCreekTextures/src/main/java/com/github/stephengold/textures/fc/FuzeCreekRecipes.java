@@ -0,0 +1,155 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.textures.fc;
+
+import com.github.stephengold.georg.Recipe;
+import java.awt.Color;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * Public factories for the recipes of the Fuze Creek textures, so apps can
+ * generate them at runtime (for instance via RuntimeTextures) with any
+ * parameters, instead of loading PNG files.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class FuzeCreekRecipes {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(FuzeCreekRecipes.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private FuzeCreekRecipes() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Instantiate a recipe for a LeftBankCell or RightBankCell, named (for
+     * example) "leftBankPlusMinus".
+     *
+     * @param left true for a left bank, false for a right bank
+     * @param upstreamDeltaX the change in the X coordinate of the bank at the
+     * upstream edge (-1, 0, or +1)
+     * @param downstreamDeltaX the change in the X coordinate of the bank at the
+     * downstream edge (-1, 0, or +1)
+     * @param landColor the color of the land (not null)
+     * @param waterColor the color of the water (not null)
+     * @return a new recipe (not null)
+     */
+    public static Recipe bank(boolean left, int upstreamDeltaX,
+            int downstreamDeltaX, Color landColor, Color waterColor) {
+        Validate.inRange(upstreamDeltaX, "upstream delta", -1, 1);
+        Validate.inRange(downstreamDeltaX, "downstream delta", -1, 1);
+        Validate.nonNull(landColor, "land color");
+        Validate.nonNull(waterColor, "water color");
+
+        Recipe result;
+        if (left) {
+            result = new MakeBanks("left", landColor, waterColor,
+                    upstreamDeltaX, downstreamDeltaX);
+        } else {
+            result = new MakeBanks("right", waterColor, landColor,
+                    upstreamDeltaX, downstreamDeltaX);
+        }
+
+        return result;
+    }
+
+    /**
+     * Instantiate a recipe for a naval mine.
+     *
+     * @param mineColor the color of the mine (not null)
+     * @param wakeColor the color of the wake (not null)
+     * @param waterColor the color of the water (not null)
+     * @return a new recipe (not null)
+     */
+    public static Recipe mine(
+            Color mineColor, Color wakeColor, Color waterColor) {
+        Validate.nonNull(mineColor, "mine color");
+        Validate.nonNull(wakeColor, "wake color");
+        Validate.nonNull(waterColor, "water color");
+
+        Recipe result = new MakeMine(mineColor, wakeColor, waterColor);
+        return result;
+    }
+
+    /**
+     * Instantiate a recipe for an octagonal raft, named (for example)
+     * "raft2".
+     *
+     * @param raftWidth the width of the raft (in cells, &gt;0)
+     * @param floatColor the color of the float (not null)
+     * @param floorColor the color of the floor (not null)
+     * @param waterColor the color of the water (not null)
+     * @return a new recipe (not null)
+     */
+    public static Recipe raft(int raftWidth, Color floatColor,
+            Color floorColor, Color waterColor) {
+        Validate.positive(raftWidth, "raft width");
+        Validate.nonNull(floatColor, "float color");
+        Validate.nonNull(floorColor, "floor color");
+        Validate.nonNull(waterColor, "water color");
+
+        Recipe result
+                = new MakeRaft(raftWidth, floatColor, floorColor, waterColor);
+        return result;
+    }
+
+    /**
+     * Instantiate a recipe for a sharp rock.
+     *
+     * @param rockColor1 the color of the upper-right face (not null)
+     * @param rockColor2 the color of the middle faces (not null)
+     * @param rockColor3 the color of the lower-left face (not null)
+     * @param wakeColor the color of the wake (not null)
+     * @param waterColor the color of the water (not null)
+     * @return a new recipe (not null)
+     */
+    public static Recipe rock(Color rockColor1, Color rockColor2,
+            Color rockColor3, Color wakeColor, Color waterColor) {
+        Validate.nonNull(rockColor1, "rock color 1");
+        Validate.nonNull(rockColor2, "rock color 2");
+        Validate.nonNull(rockColor3, "rock color 3");
+        Validate.nonNull(wakeColor, "wake color");
+        Validate.nonNull(waterColor, "water color");
+
+        Recipe result = new MakeRock(
+                rockColor1, rockColor2, rockColor3, wakeColor, waterColor);
+        return result;
+    }
+}
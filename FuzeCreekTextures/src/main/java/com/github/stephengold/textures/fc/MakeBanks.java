@@ -26,22 +26,21 @@
  */
 package com.github.stephengold.textures.fc;
 
+import com.github.stephengold.georg.Pipeline;
+import com.github.stephengold.georg.Recipe;
 import java.awt.Color;
 import java.awt.Graphics2D;
-import java.awt.image.BufferedImage;
-import java.io.IOException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import jme3utilities.Heart;
 import jme3utilities.MyString;
-import org.imgscalr.Scalr;
 
 /**
  * A console application to generate bank textures for Fuze Creek 2-D.
  *
  * @author Stephen Gold sgold@sonic.net
  */
-final class MakeBanks {
+final class MakeBanks extends Recipe {
     // *************************************************************************
     // constants and loggers
 
@@ -55,17 +54,50 @@ final class MakeBanks {
      */
     final private static Logger logger
             = Logger.getLogger(MakeBanks.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * color of the left side
+     */
+    final private Color leftColor;
+    /**
+     * color of the right side
+     */
+    final private Color rightColor;
     /**
-     * filesystem path to the asset directory/folder for output
+     * change in the X coordinate of the bank at the downstream edge (-1, 0,
+     * or +1)
      */
-    final private static String assetDirPath = "build";
+    final private int downstreamDX;
+    /**
+     * change in the X coordinate of the bank at the upstream edge (-1, 0, or
+     * +1)
+     */
+    final private int upstreamDX;
     // *************************************************************************
     // constructors
 
     /**
-     * A private constructor to inhibit instantiation of this class.
+     * Instantiate a recipe for a LeftBankCell or RightBankCell.
+     *
+     * @param leftRight "left" or "right" (not null)
+     * @param leftColor the color of the left side (not null)
+     * @param rightColor the color of the right side (not null)
+     * @param upstreamDeltaX the change in the X coordinate of the bank at the
+     * upstream edge (-1, 0, or +1)
+     * @param downstreamDeltaX the change in the X coordinate of the bank at the
+     * downstream edge (-1, 0, or +1)
      */
-    private MakeBanks() {
+    MakeBanks(String leftRight, Color leftColor, Color rightColor,
+            int upstreamDeltaX, int downstreamDeltaX) {
+        super(String.format("%sBank%s%s", leftRight, mpz(upstreamDeltaX),
+                mpz(downstreamDeltaX)), textureSize, textureSize, finalSize,
+                finalSize);
+        this.leftColor = leftColor;
+        this.rightColor = rightColor;
+        this.upstreamDX = upstreamDeltaX;
+        this.downstreamDX = downstreamDeltaX;
     }
     // *************************************************************************
     // new methods exposed
@@ -84,42 +116,53 @@ final class MakeBanks {
         logger.log(Level.INFO, "working directory is {0}",
                 MyString.quote(userDir));
 
-        // Define colors.
+        // Generate color image maps.
+        Pipeline.generate(recipes());
+    }
+
+    /**
+     * Instantiate the recipes of this application.
+     *
+     * @return a new array (not null, not empty)
+     */
+    static Recipe[] recipes() {
         float opacity = 1f;
         Color landColor = new Color(0.66f, 0.48f, 0.35f, opacity);
         Color waterColor = new Color(0f, 0f, 0.73f, opacity); // dark blue
 
-        // Generate color image maps.
+        Recipe[] result = new Recipe[18];
+        int numRecipes = 0;
         for (int upstreamDX = -1; upstreamDX <= 1; ++upstreamDX) {
             for (int downstreamDX = -1; downstreamDX <= 1; ++downstreamDX) {
-                makeBank("left", landColor, waterColor, upstreamDX,
-                        downstreamDX);
-                makeBank("right", waterColor, landColor, upstreamDX,
-                        downstreamDX);
+                result[numRecipes] = new MakeBanks("left", landColor,
+                        waterColor, upstreamDX, downstreamDX);
+                ++numRecipes;
+                result[numRecipes] = new MakeBanks("right", waterColor,
+                        landColor, upstreamDX, downstreamDX);
+                ++numRecipes;
             }
         }
+
+        return result;
     }
     // *************************************************************************
-    // private methods
+    // Recipe methods
 
     /**
-     * Generate a color image map to visualize a LeftBankCell or RightBankCell.
+     * Draw the master image to visualize a LeftBankCell or RightBankCell.
+     *
+     * @param graphics the graphics context on which to draw (not null)
      */
-    private static void makeBank(String leftRight, Color leftColor,
-            Color rightColor, int upstreamDeltaX, int downstreamDeltaX) {
-        // Create a blank, color buffered image for the texture map.
-        BufferedImage image = new BufferedImage(
-                textureSize, textureSize, BufferedImage.TYPE_4BYTE_ABGR);
-        Graphics2D graphics = image.createGraphics();
-
+    @Override
+    public void render(Graphics2D graphics) {
         // Start with all pixels leftColor.
         graphics.setColor(leftColor);
         graphics.fillRect(0, 0, textureSize, textureSize);
 
         // Fill a polygon on the right side with rightColor.
         int center = textureSize / 2;
-        int downstream = pixelX(downstreamDeltaX);
-        int upstream = pixelX(-upstreamDeltaX);
+        int downstream = pixelX(downstreamDX);
+        int upstream = pixelX(-upstreamDX);
         int right = textureSize;
         int[] xPoints = {right, right, upstream, center, downstream};
 
@@ -130,22 +173,6 @@ final class MakeBanks {
         graphics.setColor(rightColor);
         int numPoints = xPoints.length;
         graphics.fillPolygon(xPoints, yPoints, numPoints);
-
-        // Downsample the image (by 10x) to the desired final size.
-        BufferedImage downsampledImage = Scalr.resize(
-                image, Scalr.Method.ULTRA_QUALITY, Scalr.Mode.AUTOMATIC,
-                finalSize, finalSize, Scalr.OP_ANTIALIAS);
-
-        // Write the downsampled image to the asset file.
-        String upstreamMpz = mpz(upstreamDeltaX);
-        String downstreamMpz = mpz(downstreamDeltaX);
-        String filePath = String.format("%s/%sBank%s%s.png", assetDirPath,
-                leftRight, upstreamMpz, downstreamMpz);
-        try {
-            Heart.writeImage(filePath, downsampledImage);
-        } catch (IOException exception) {
-            throw new RuntimeException(exception);
-        }
     }
 
     /**
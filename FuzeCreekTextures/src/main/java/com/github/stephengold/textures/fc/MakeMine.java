@@ -26,16 +26,15 @@
  */
 package com.github.stephengold.textures.fc;
 
+import com.github.stephengold.georg.Pipeline;
+import com.github.stephengold.georg.Recipe;
 import com.jme3.math.FastMath;
 import java.awt.Color;
 import java.awt.Graphics2D;
-import java.awt.image.BufferedImage;
-import java.io.IOException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import jme3utilities.Heart;
 import jme3utilities.MyString;
-import org.imgscalr.Scalr;
 
 /**
  * A console application to generate the "mine.png" texture for Fuze Creek 2-D.
@@ -45,7 +44,7 @@ import org.imgscalr.Scalr;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-final class MakeMine {
+final class MakeMine extends Recipe {
     // *************************************************************************
     // constants and loggers
 
@@ -59,17 +58,36 @@ final class MakeMine {
      */
     final private static Logger logger
             = Logger.getLogger(MakeMine.class.getName());
+    // *************************************************************************
+    // fields
+
     /**
-     * filesystem path to the asset directory/folder for output
+     * color of the mine
      */
-    final private static String assetDirPath = "build";
+    final private Color mineColor;
+    /**
+     * color of the wake
+     */
+    final private Color wakeColor;
+    /**
+     * color of the water
+     */
+    final private Color waterColor;
     // *************************************************************************
     // constructors
 
     /**
-     * A private constructor to inhibit instantiation of this class.
+     * Instantiate a recipe for a naval mine.
+     *
+     * @param mineColor the color of the mine (not null)
+     * @param wakeColor the color of the wake (not null)
+     * @param waterColor the color of the water (not null)
      */
-    private MakeMine() {
+    MakeMine(Color mineColor, Color wakeColor, Color waterColor) {
+        super("mine", textureSize, textureSize, finalSize, finalSize);
+        this.mineColor = mineColor;
+        this.wakeColor = wakeColor;
+        this.waterColor = waterColor;
     }
     // *************************************************************************
     // new methods exposed
@@ -88,29 +106,36 @@ final class MakeMine {
         logger.log(Level.INFO, "working directory is {0}",
                 MyString.quote(userDir));
 
-        // Define colors.
+        // Generate the color image map.
+        Pipeline.generate(recipes());
+    }
+
+    /**
+     * Instantiate the recipe of this application.
+     *
+     * @return a new array (not null, not empty)
+     */
+    static Recipe[] recipes() {
         float opacity = 1f;
         Color wakeColor = new Color(0.24f, 0.24f, 0.73f, opacity); // light blue
         Color waterColor = new Color(0f, 0f, 0.73f, opacity); // dark blue
         Color mineColor = new Color(0.73f, 0f, 0f, opacity); // red
 
-        // Generate the color image map.
-        makeMine(mineColor, wakeColor, waterColor);
+        Recipe[] result = {new MakeMine(mineColor, wakeColor, waterColor)};
+
+        return result;
     }
     // *************************************************************************
-    // private methods
+    // Recipe methods
 
     /**
-     * Generate a color image map to visualize a naval mine protruding from the
+     * Draw the master image to visualize a naval mine protruding from the
      * water.
+     *
+     * @param graphics the graphics context on which to draw (not null)
      */
-    private static void makeMine(
-            Color mineColor, Color wakeColor, Color waterColor) {
-        // Create a blank, color buffered image for the texture map.
-        BufferedImage image = new BufferedImage(
-                textureSize, textureSize, BufferedImage.TYPE_4BYTE_ABGR);
-        Graphics2D graphics = image.createGraphics();
-
+    @Override
+    public void render(Graphics2D graphics) {
         // Start with all pixels waterColor.
         graphics.setColor(waterColor);
         graphics.fillRect(0, 0, textureSize, textureSize);
@@ -169,18 +194,5 @@ final class MakeMine {
         int[] yPointsHorns2 = {yd, yc, ya, yb};
         int numPointsHorns2 = xPointsHorns2.length;
         graphics.fillPolygon(xPointsHorns2, yPointsHorns2, numPointsHorns2);
-
-        // Downsample the image (by 10x) to the desired final size.
-        BufferedImage downsampledImage = Scalr.resize(
-                image, Scalr.Method.ULTRA_QUALITY, Scalr.Mode.AUTOMATIC,
-                finalSize, finalSize, Scalr.OP_ANTIALIAS);
-
-        // Write the downsampled image to the asset file.
-        String filePath = String.format("%s/mine.png", assetDirPath);
-        try {
-            Heart.writeImage(filePath, downsampledImage);
-        } catch (IOException exception) {
-            throw new RuntimeException(exception);
-        }
     }
 }
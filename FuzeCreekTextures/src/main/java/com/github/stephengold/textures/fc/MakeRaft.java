@@ -26,16 +26,15 @@
  */
 package com.github.stephengold.textures.fc;
 
+import com.github.stephengold.georg.Generator;
+import com.github.stephengold.georg.Recipe;
 import java.awt.Color;
 import java.awt.Graphics2D;
-import java.awt.image.BufferedImage;
-import java.io.IOException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import jme3utilities.Heart;
 import jme3utilities.MyString;
 import jme3utilities.math.MyMath;
-import org.imgscalr.Scalr;
 
 /**
  * A console application to generate the "raft2.png" texture for Fuze Creek 2-D.
@@ -45,7 +44,7 @@ import org.imgscalr.Scalr;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-final class MakeRaft {
+final class MakeRaft extends Recipe {
     // *************************************************************************
     // constants and loggers
 
@@ -62,17 +61,44 @@ final class MakeRaft {
      */
     final private static Logger logger
             = Logger.getLogger(MakeRaft.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * color of the float
+     */
+    final private Color floatColor;
+    /**
+     * color of the floor
+     */
+    final private Color floorColor;
     /**
-     * filesystem path to the asset directory/folder for output
+     * width of the raft (in cells)
      */
-    final private static String assetDirPath = "build";
+    final private int raftWidth;
+    /**
+     * color of the water
+     */
+    final private Color waterColor;
     // *************************************************************************
     // constructors
 
     /**
-     * A private constructor to inhibit instantiation of this class.
+     * Instantiate a recipe for an octagonal raft.
+     *
+     * @param raftWidth the width of the raft (in cells, &gt;0)
+     * @param floatColor the color of the float (not null)
+     * @param floorColor the color of the floor (not null)
+     * @param waterColor the color of the water (not null)
      */
-    private MakeRaft() {
+    MakeRaft(int raftWidth, Color floatColor, Color floorColor,
+            Color waterColor) {
+        super("raft" + raftWidth, raftWidth * textureHeight, textureHeight,
+                raftWidth * textureHeight / 10, textureHeight / 10);
+        this.raftWidth = raftWidth;
+        this.floatColor = floatColor;
+        this.floorColor = floorColor;
+        this.waterColor = waterColor;
     }
     // *************************************************************************
     // new methods exposed
@@ -99,21 +125,20 @@ final class MakeRaft {
 
         // Generate the color image map.
         int raftWidth = 2; // width of the raft (in cells)
-        makeRaft(raftWidth, floatColor, floorColor, waterColor);
+        Generator.generate(
+                new MakeRaft(raftWidth, floatColor, floorColor, waterColor));
     }
     // *************************************************************************
-    // private methods
+    // Recipe methods
 
     /**
-     * Generate a color image map to visualize an octagonal inflatable raft.
+     * Draw the master image to visualize an octagonal inflatable raft.
+     *
+     * @param graphics the graphics context on which to draw (not null)
      */
-    private static void makeRaft(int raftWidth, Color floatColor,
-            Color floorColor, Color waterColor) {
-        // Create a blank, color buffered image for the texture map.
-        int textureWidth = raftWidth * textureHeight;
-        BufferedImage image = new BufferedImage(
-                textureWidth, textureHeight, BufferedImage.TYPE_4BYTE_ABGR);
-        Graphics2D graphics = image.createGraphics();
+    @Override
+    public void render(Graphics2D graphics) {
+        int textureWidth = getMasterWidth();
 
         // Start with all pixels waterColor.
         graphics.setColor(waterColor);
@@ -160,21 +185,5 @@ final class MakeRaft {
         graphics.setColor(floorColor);
         int innerNumPoints = innerXPoints.length;
         graphics.fillPolygon(innerXPoints, innerYPoints, innerNumPoints);
-
-        // Downsample the image (by 10x) to the desired final size.
-        int finalHeight = textureHeight / 10;
-        int finalWidth = textureWidth / 10;
-        BufferedImage downsampledImage = Scalr.resize(
-                image, Scalr.Method.ULTRA_QUALITY, Scalr.Mode.AUTOMATIC,
-                finalWidth, finalHeight, Scalr.OP_ANTIALIAS);
-
-        // Write the downsampled image to the asset file.
-        String filePath
-                = String.format("%s/raft%d.png", assetDirPath, raftWidth);
-        try {
-            Heart.writeImage(filePath, downsampledImage);
-        } catch (IOException exception) {
-            throw new RuntimeException(exception);
-        }
     }
 }
@@ -26,22 +26,21 @@
  */
 package com.github.stephengold.textures.fc;
 
+import com.github.stephengold.georg.Pipeline;
+import com.github.stephengold.georg.Recipe;
 import java.awt.Color;
 import java.awt.Graphics2D;
-import java.awt.image.BufferedImage;
-import java.io.IOException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import jme3utilities.Heart;
 import jme3utilities.MyString;
-import org.imgscalr.Scalr;
 
 /**
  * A console application to generate the "rock.png" texture for Fuze Creek 2-D.
  *
  * @author Stephen Gold sgold@sonic.net
  */
-final class MakeRock {
+final class MakeRock extends Recipe {
     // *************************************************************************
     // constants and loggers
 
@@ -55,17 +54,49 @@ final class MakeRock {
      */
     final private static Logger logger
             = Logger.getLogger(MakeRock.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * color of the upper-right face of the rock
+     */
+    final private Color rockColor1;
+    /**
+     * color of the middle faces of the rock
+     */
+    final private Color rockColor2;
     /**
-     * filesystem path to the asset directory/folder for output
+     * color of the lower-left face of the rock
      */
-    final private static String assetDirPath = "build";
+    final private Color rockColor3;
+    /**
+     * color of the wake
+     */
+    final private Color wakeColor;
+    /**
+     * color of the water
+     */
+    final private Color waterColor;
     // *************************************************************************
     // constructors
 
     /**
-     * A private constructor to inhibit instantiation of this class.
+     * Instantiate a recipe for a sharp rock.
+     *
+     * @param rockColor1 the color of the upper-right face (not null)
+     * @param rockColor2 the color of the middle faces (not null)
+     * @param rockColor3 the color of the lower-left face (not null)
+     * @param wakeColor the color of the wake (not null)
+     * @param waterColor the color of the water (not null)
      */
-    private MakeRock() {
+    MakeRock(Color rockColor1, Color rockColor2, Color rockColor3,
+            Color wakeColor, Color waterColor) {
+        super("rock", textureSize, textureSize, finalSize, finalSize);
+        this.rockColor1 = rockColor1;
+        this.rockColor2 = rockColor2;
+        this.rockColor3 = rockColor3;
+        this.wakeColor = wakeColor;
+        this.waterColor = waterColor;
     }
     // *************************************************************************
     // new methods exposed
@@ -84,7 +115,16 @@ final class MakeRock {
         logger.log(Level.INFO, "working directory is {0}",
                 MyString.quote(userDir));
 
-        // Define colors.
+        // Generate the color image map.
+        Pipeline.generate(recipes());
+    }
+
+    /**
+     * Instantiate the recipe of this application.
+     *
+     * @return a new array (not null, not empty)
+     */
+    static Recipe[] recipes() {
         float opacity = 1f;
         Color wakeColor = new Color(0.24f, 0.24f, 0.73f, opacity); // light blue
         Color waterColor = new Color(0f, 0f, 0.73f, opacity); // dark blue
@@ -93,23 +133,23 @@ final class MakeRock {
         Color landColor = new Color(0.66f, 0.48f, 0.35f, opacity);
         Color color3 = new Color(0.33f, 0.24f, 0.17f, opacity);
 
-        // Generate the color image map.
-        makeRock(color1, landColor, color3, wakeColor, waterColor);
+        Recipe[] result = {
+            new MakeRock(color1, landColor, color3, wakeColor, waterColor)
+        };
+
+        return result;
     }
     // *************************************************************************
-    // private methods
+    // Recipe methods
 
     /**
-     * Generate a color image map to visualize a sharp rock protruding from the
+     * Draw the master image to visualize a sharp rock protruding from the
      * water.
+     *
+     * @param graphics the graphics context on which to draw (not null)
      */
-    private static void makeRock(Color rockColor1, Color rockColor2,
-            Color rockColor3, Color wakeColor, Color waterColor) {
-        // Create a blank, color buffered image for the texture map.
-        BufferedImage image = new BufferedImage(
-                textureSize, textureSize, BufferedImage.TYPE_4BYTE_ABGR);
-        Graphics2D graphics = image.createGraphics();
-
+    @Override
+    public void render(Graphics2D graphics) {
         // Start with all pixels waterColor.
         graphics.setColor(waterColor);
         graphics.fillRect(0, 0, textureSize, textureSize);
@@ -146,19 +186,5 @@ final class MakeRock {
         graphics.setColor(rockColor3);
         int numPoints3 = xPoints3.length;
         graphics.fillPolygon(xPoints3, yPoints3, numPoints3);
-
-        // Downsample the image (by 10x) to the desired final size.
-        BufferedImage downsampledImage = Scalr.resize(
-                image, Scalr.Method.ULTRA_QUALITY, Scalr.Mode.AUTOMATIC,
-                finalSize, finalSize, Scalr.OP_ANTIALIAS);
-
-        // Write the downsampled image to the asset file.
-        String filePath
-                = String.format("%s/rock.png", assetDirPath);
-        try {
-            Heart.writeImage(filePath, downsampledImage);
-        } catch (IOException exception) {
-            throw new RuntimeException(exception);
-        }
     }
 }
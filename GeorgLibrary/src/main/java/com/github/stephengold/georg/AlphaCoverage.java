@@ -0,0 +1,157 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.WritableRaster;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * Utility methods to preserve the alpha-tested coverage of cutout textures
+ * across mip levels. Without such correction, averaging shrinks the alpha of
+ * thin features below the cutoff, so they thin out and vanish with distance.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class AlphaCoverage {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * number of bisection steps used to locate the scaled cutoff
+     */
+    final private static int numSteps = 16;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(AlphaCoverage.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private AlphaCoverage() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Measure the fraction of pixels that would pass an alpha test.
+     *
+     * @param image the image to measure (not null, unaffected)
+     * @param cutoff the alpha cutoff (&gt;0, &lt;1)
+     * @return the fraction of pixels whose alpha exceeds the cutoff (&ge;0,
+     * &le;1) or 1 if the image lacks an alpha channel
+     */
+    public static float coverage(BufferedImage image, float cutoff) {
+        Validate.inRange(cutoff, "cutoff", Float.MIN_VALUE, 1f);
+
+        WritableRaster alphaRaster = image.getAlphaRaster();
+        if (alphaRaster == null) {
+            return 1f;
+        }
+        int[] alphas = alphaRaster.getSamples(0, 0, alphaRaster.getWidth(),
+                alphaRaster.getHeight(), 0, (int[]) null);
+        float result = fraction(alphas, 255f * cutoff);
+
+        return result;
+    }
+
+    /**
+     * Scale the alpha channel of the specified image so that the specified
+     * fraction of its pixels pass an alpha test.
+     *
+     * @param image the image to modify (not null)
+     * @param cutoff the alpha cutoff (&gt;0, &lt;1)
+     * @param target the desired coverage (&ge;0, &le;1)
+     */
+    public static void preserve(
+            BufferedImage image, float cutoff, float target) {
+        Validate.inRange(cutoff, "cutoff", Float.MIN_VALUE, 1f);
+        Validate.fraction(target, "target");
+
+        WritableRaster alphaRaster = image.getAlphaRaster();
+        if (alphaRaster == null || target == 0f) {
+            return;
+        }
+        int width = alphaRaster.getWidth();
+        int height = alphaRaster.getHeight();
+        int[] alphas
+                = alphaRaster.getSamples(0, 0, width, height, 0, (int[]) null);
+        /*
+         * Bisect for the threshold that yields the target coverage.
+         * Coverage decreases as the threshold increases.
+         */
+        float low = 0f;
+        float high = 255f;
+        for (int step = 0; step < numSteps; ++step) {
+            float mid = 0.5f * (low + high);
+            if (fraction(alphas, mid) > target) {
+                low = mid;
+            } else {
+                high = mid;
+            }
+        }
+        float threshold = 0.5f * (low + high);
+        if (threshold <= 0f) {
+            return;
+        }
+        /*
+         * Scale alpha so that the threshold maps to the cutoff.
+         */
+        float scale = 255f * cutoff / threshold;
+        for (int i = 0; i < alphas.length; ++i) {
+            int scaled = Math.round(scale * alphas[i]);
+            alphas[i] = Math.min(scaled, 255);
+        }
+        alphaRaster.setSamples(0, 0, width, height, 0, alphas);
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Calculate the fraction of samples that exceed a threshold.
+     *
+     * @param alphas the alpha samples (not null, not empty, unaffected)
+     * @param threshold the threshold (in 8-bit units)
+     * @return the fraction (&ge;0, &le;1)
+     */
+    private static float fraction(int[] alphas, float threshold) {
+        int count = 0;
+        for (int alpha : alphas) {
+            if (alpha > threshold) {
+                ++count;
+            }
+        }
+        float result = count / (float) alphas.length;
+
+        return result;
+    }
+}
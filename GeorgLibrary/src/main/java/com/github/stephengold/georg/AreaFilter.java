@@ -0,0 +1,136 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+/**
+ * Utility methods to downsample off-heap pixels using an area (box) filter:
+ * each target pixel is the average of the source pixels it covers, weighted
+ * by coverage. Source rows are read one at a time, so the only heap used is
+ * a few rows' worth of arrays.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class AreaFilter {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(AreaFilter.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private AreaFilter() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Downsample interleaved 8-bit RGB or RGBA pixels. Colors are weighted by
+     * alpha, so fully transparent pixels don't bleed into visible ones.
+     *
+     * @param source the source pixels (not null, unaffected)
+     * @param sourceWidth the width of the source (in pixels, &gt;0)
+     * @param sourceHeight the height of the source (in pixels, &gt;0)
+     * @param target storage for the target pixels, with the same layout and
+     * row order as the source (not null, modified)
+     * @param targetWidth the width of the target (in pixels, &gt;0, &le;the
+     * source width)
+     * @param targetHeight the height of the target (in pixels, &gt;0, &le;the
+     * source height)
+     */
+    static void downsample(ByteBuffer source, int sourceWidth,
+            int sourceHeight, ByteBuffer target, int targetWidth,
+            int targetHeight) {
+        int numBands = source.capacity() / (sourceWidth * sourceHeight);
+        double scaleX = sourceWidth / (double) targetWidth;
+        double scaleY = sourceHeight / (double) targetHeight;
+        byte[] sourceRow = new byte[numBands * sourceWidth];
+        byte[] targetRow = new byte[numBands * targetWidth];
+        double[] sums = new double[4 * targetWidth]; // R*A, G*A, B*A, A
+        double[] coverage = new double[targetWidth];
+        ByteBuffer reader = source.duplicate();
+        ByteBuffer writer = target.duplicate();
+
+        for (int ty = 0; ty < targetHeight; ++ty) {
+            Arrays.fill(sums, 0.0);
+            Arrays.fill(coverage, 0.0);
+            double top = ty * scaleY;
+            double bottom = top + scaleY;
+            for (int sy = (int) top; sy < bottom && sy < sourceHeight; ++sy) {
+                double rowWeight = Math.min(sy + 1, bottom) - Math.max(sy, top);
+                reader.position(sy * sourceRow.length);
+                reader.get(sourceRow);
+                for (int tx = 0; tx < targetWidth; ++tx) {
+                    double left = tx * scaleX;
+                    double right = left + scaleX;
+                    int s = 4 * tx;
+                    for (int sx = (int) left;
+                            sx < right && sx < sourceWidth; ++sx) {
+                        double columnWeight
+                                = Math.min(sx + 1, right) - Math.max(sx, left);
+                        double weight = rowWeight * columnWeight;
+                        int i = numBands * sx;
+                        double alpha = (numBands == 4)
+                                ? (sourceRow[i + 3] & 0xFF) / 255.0 : 1.0;
+                        double alphaWeight = alpha * weight;
+                        sums[s] += alphaWeight * (sourceRow[i] & 0xFF);
+                        sums[s + 1] += alphaWeight * (sourceRow[i + 1] & 0xFF);
+                        sums[s + 2] += alphaWeight * (sourceRow[i + 2] & 0xFF);
+                        sums[s + 3] += alphaWeight;
+                        coverage[tx] += weight;
+                    }
+                }
+            }
+
+            for (int tx = 0; tx < targetWidth; ++tx) {
+                double alphaSum = sums[4 * tx + 3];
+                int i = numBands * tx;
+                for (int band = 0; band < 3; ++band) {
+                    double value = (alphaSum > 0.0)
+                            ? sums[4 * tx + band] / alphaSum : 0.0;
+                    targetRow[i + band] = (byte) Math.round(value);
+                }
+                if (numBands == 4) {
+                    double alpha = 255.0 * alphaSum / coverage[tx];
+                    targetRow[i + 3] = (byte) Math.round(alpha);
+                }
+            }
+            writer.position(ty * targetRow.length);
+            writer.put(targetRow);
+        }
+    }
+}
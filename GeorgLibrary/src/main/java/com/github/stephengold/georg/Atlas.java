@@ -0,0 +1,209 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Locale;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * Utility methods to generate texture atlases, so that many small images
+ * (such as GUI icons) can share a single texture bind.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class Atlas {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(Atlas.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private Atlas() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Pack the specified recipes into atlas pages and write the pages to PNG
+     * files, along with an index of UV coordinates. Each recipe's master is
+     * downsampled directly into its slot, without writing a separate texture.
+     * One atlas is generated for each configured scale factor.
+     *
+     * @param atlasName the name of the atlas, without any suffix or extension
+     * (not null, not empty)
+     * @param recipes the recipes to pack (not null, not empty, all with the
+     * same scale factors)
+     */
+    public static void generate(String atlasName, Recipe... recipes) {
+        Validate.nonEmpty(atlasName, "atlas name");
+        Validate.nonEmpty(recipes, "recipes");
+
+        int[] scales = Generator.selectScales(recipes);
+        int numRecipes = recipes.length;
+        BufferedImage[][] images = new BufferedImage[numRecipes][];
+        for (int i = 0; i < numRecipes; ++i) {
+            Recipe recipe = recipes[i];
+            int[] widths = new int[scales.length];
+            int[] heights = new int[scales.length];
+            for (int j = 0; j < scales.length; ++j) {
+                widths[j] = scales[j] * recipe.getFinalWidth();
+                heights[j] = scales[j] * recipe.getFinalHeight();
+            }
+            BufferedImage master = Generator.obtainMaster(recipe);
+            images[i] = Downsampler.cascade(master, widths, heights);
+        }
+
+        for (int j = 0; j < scales.length; ++j) {
+            BufferedImage[] scaled = new BufferedImage[numRecipes];
+            for (int i = 0; i < numRecipes; ++i) {
+                scaled[i] = images[i][j];
+            }
+            String name = Generator.variantName(atlasName, scales[j]);
+            writeAtlas(name, scales[j], recipes, scaled);
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Copy the edge pixels of a slot outward into its gutter, so that
+     * filtering near the edge never samples a neighboring image.
+     *
+     * @param page the atlas page (not null, modified)
+     * @param slot the slot to extend (not null, unaffected)
+     * @param gutter the width of the gutter (in pixels, &ge;0)
+     */
+    private static void extendEdges(
+            BufferedImage page, AtlasSlot slot, int gutter) {
+        int x0 = slot.getX();
+        int y0 = slot.getY();
+        int x1 = x0 + slot.getWidth() - 1;
+        int y1 = y0 + slot.getHeight() - 1;
+        for (int y = y0; y <= y1; ++y) {
+            int left = page.getRGB(x0, y);
+            int right = page.getRGB(x1, y);
+            for (int g = 1; g <= gutter; ++g) {
+                page.setRGB(x0 - g, y, left);
+                page.setRGB(x1 + g, y, right);
+            }
+        }
+        for (int x = x0 - gutter; x <= x1 + gutter; ++x) {
+            int top = page.getRGB(x, y0);
+            int bottom = page.getRGB(x, y1);
+            for (int g = 1; g <= gutter; ++g) {
+                page.setRGB(x, y0 - g, top);
+                page.setRGB(x, y1 + g, bottom);
+            }
+        }
+    }
+
+    /**
+     * Pack images into pages, then write the pages and their index.
+     *
+     * @param name the name of the atlas variant (not null, not empty)
+     * @param scale the scale factor of the variant (&ge;1)
+     * @param recipes the recipes that generated the images (not null)
+     * @param images the images to pack (not null, same length as recipes)
+     */
+    private static void writeAtlas(String name, int scale, Recipe[] recipes,
+            BufferedImage[] images) {
+        int numImages = images.length;
+        int[] widths = new int[numImages];
+        int[] heights = new int[numImages];
+        for (int i = 0; i < numImages; ++i) {
+            widths[i] = images[i].getWidth();
+            heights[i] = images[i].getHeight();
+        }
+        int gutter = scale * ExportSettings.atlasGutter();
+        AtlasPacker packer
+                = new AtlasPacker(scale * ExportSettings.atlasSize(), gutter);
+        AtlasSlot[] slots = packer.pack(widths, heights);
+        /*
+         * Shrink each page to the smallest power of two that holds its slots.
+         */
+        int numPages = 0;
+        for (AtlasSlot slot : slots) {
+            numPages = Math.max(numPages, slot.getPage() + 1);
+        }
+        int[] pageWidths = new int[numPages];
+        int[] pageHeights = new int[numPages];
+        for (AtlasSlot slot : slots) {
+            int p = slot.getPage();
+            pageWidths[p] = Math.max(pageWidths[p], PowerOfTwo.ceiling(
+                    slot.getX() + slot.getWidth() + gutter));
+            pageHeights[p] = Math.max(pageHeights[p], PowerOfTwo.ceiling(
+                    slot.getY() + slot.getHeight() + gutter));
+        }
+
+        StringBuilder index = new StringBuilder(64 * (numImages + 1));
+        index.append("# name page x y width height minU minV maxU maxV")
+                .append(" (V up)\n");
+        for (int p = 0; p < numPages; ++p) {
+            BufferedImage page = new BufferedImage(pageWidths[p],
+                    pageHeights[p], BufferedImage.TYPE_4BYTE_ABGR);
+            Graphics2D graphics = page.createGraphics();
+            graphics.setComposite(AlphaComposite.Src);
+            for (int i = 0; i < numImages; ++i) {
+                AtlasSlot slot = slots[i];
+                if (slot.getPage() == p) {
+                    graphics.drawImage(
+                            images[i], slot.getX(), slot.getY(), null);
+                    extendEdges(page, slot, gutter);
+                    float w = pageWidths[p];
+                    float h = pageHeights[p];
+                    index.append(String.format(Locale.ROOT,
+                            "%s %d %d %d %d %d %s %s %s %s\n",
+                            recipes[i].getAssetName(), p, slot.getX(),
+                            slot.getY(), widths[i], heights[i],
+                            slot.getX() / w,
+                            1f - (slot.getY() + heights[i]) / h,
+                            (slot.getX() + widths[i]) / w,
+                            1f - slot.getY() / h));
+                }
+            }
+            graphics.dispose();
+
+            String pagePath = OutputFiles.path(name + "-" + p + ".png");
+            Generator.writeImage(pagePath, page);
+        }
+
+        String indexPath = OutputFiles.path(name + ".atlas");
+        OutputFiles.writeText(indexPath, index.toString());
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * Pack rectangular images into square atlas pages, surrounding each image
+ * with a gutter to prevent bleeding between neighbors.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class AtlasPacker {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(AtlasPacker.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * width of the gutter on each side of an image (in pixels)
+     */
+    final private int gutter;
+    /**
+     * width and height of each page (in pixels)
+     */
+    final private int pageSize;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a packer.
+     *
+     * @param pageSize the width and height of each page (in pixels, &gt;0)
+     * @param gutter the width of the gutter on each side of an image (in
+     * pixels, &ge;0)
+     */
+    public AtlasPacker(int pageSize, int gutter) {
+        Validate.positive(pageSize, "page size");
+        Validate.nonNegative(gutter, "gutter");
+
+        this.pageSize = pageSize;
+        this.gutter = gutter;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Pack images of the specified sizes, largest first, adding pages as
+     * needed. The result is deterministic.
+     *
+     * @param widths the image widths (in pixels, not null, each &gt;0,
+     * unaffected)
+     * @param heights the image heights (in pixels, not null, same length as
+     * widths, each &gt;0, unaffected)
+     * @return a new array of slots, in the same order as the sizes
+     */
+    public AtlasSlot[] pack(int[] widths, int[] heights) {
+        int numImages = widths.length;
+        Validate.require(heights.length == numImages, "equal-length arrays");
+
+        Integer[] order = new Integer[numImages];
+        for (int i = 0; i < numImages; ++i) {
+            order[i] = i;
+        }
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                int result = Integer.compare(
+                        Math.max(widths[b], heights[b]),
+                        Math.max(widths[a], heights[a]));
+                if (result == 0) {
+                    result = Integer.compare(
+                            widths[b] * heights[b], widths[a] * heights[a]);
+                }
+                if (result == 0) {
+                    result = Integer.compare(a, b);
+                }
+                return result;
+            }
+        });
+
+        List<MaxRectsBin> bins = new ArrayList<>(2);
+        AtlasSlot[] result = new AtlasSlot[numImages];
+        for (int index : order) {
+            int paddedWidth = widths[index] + 2 * gutter;
+            int paddedHeight = heights[index] + 2 * gutter;
+            if (paddedWidth > pageSize || paddedHeight > pageSize) {
+                throw new IllegalArgumentException(String.format(
+                        "A %dx%d image won't fit on a %d-pixel page.",
+                        widths[index], heights[index], pageSize));
+            }
+
+            Rectangle placed = null;
+            int page = 0;
+            while (placed == null) {
+                if (page == bins.size()) {
+                    bins.add(new MaxRectsBin(pageSize, pageSize));
+                }
+                placed = bins.get(page).insert(paddedWidth, paddedHeight);
+                if (placed == null) {
+                    ++page;
+                }
+            }
+            result[index] = new AtlasSlot(page, placed.x + gutter,
+                    placed.y + gutter, widths[index], heights[index]);
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * The location of a single image in a texture atlas. Immutable.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class AtlasSlot {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(AtlasSlot.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * height of the image (in pixels)
+     */
+    final private int height;
+    /**
+     * index of the atlas page
+     */
+    final private int page;
+    /**
+     * width of the image (in pixels)
+     */
+    final private int width;
+    /**
+     * X coordinate of the image's left edge, excluding the gutter
+     */
+    final private int x;
+    /**
+     * Y coordinate of the image's top edge, excluding the gutter
+     */
+    final private int y;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a slot.
+     *
+     * @param page the index of the atlas page (&ge;0)
+     * @param x the X coordinate of the left edge (in pixels, &ge;0)
+     * @param y the Y coordinate of the top edge (in pixels, &ge;0)
+     * @param width the width of the image (in pixels, &gt;0)
+     * @param height the height of the image (in pixels, &gt;0)
+     */
+    public AtlasSlot(int page, int x, int y, int width, int height) {
+        Validate.nonNegative(page, "page");
+        Validate.nonNegative(x, "x");
+        Validate.nonNegative(y, "y");
+        Validate.positive(width, "width");
+        Validate.positive(height, "height");
+
+        this.page = page;
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the height of the image.
+     *
+     * @return the height (in pixels, &gt;0)
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Return the index of the atlas page.
+     *
+     * @return the index (&ge;0)
+     */
+    public int getPage() {
+        return page;
+    }
+
+    /**
+     * Return the width of the image.
+     *
+     * @return the width (in pixels, &gt;0)
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Return the X coordinate of the image's left edge.
+     *
+     * @return the coordinate (in pixels, &ge;0)
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Return the Y coordinate of the image's top edge.
+     *
+     * @return the coordinate (in pixels, &ge;0)
+     */
+    public int getY() {
+        return y;
+    }
+}
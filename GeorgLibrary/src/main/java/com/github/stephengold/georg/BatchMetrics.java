@@ -0,0 +1,236 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+/**
+ * Measure the heap allocations and garbage-collection pauses of a batch, for
+ * the report logged at its end. Allocations are summed over all threads via
+ * HotSpot's per-thread counters. Pauses are collected from the collectors'
+ * notifications, excluding concurrent phases.
+ * <p>
+ * The report is logged at INFO level by a logger whose level is preset, so
+ * it's printed even when the applications mute all other loggers.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class BatchMetrics implements NotificationListener {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(BatchMetrics.class.getName());
+    /**
+     * bytes allocated by each thread that has retired, keyed by thread ID
+     */
+    final private static Map<Long, Long> retired = new HashMap<>(64);
+
+    static {
+        logger.setLevel(Level.INFO);
+    }
+    // *************************************************************************
+    // fields
+
+    /**
+     * number of pauses seen since the batch started
+     */
+    private int numPauses;
+    /**
+     * bytes allocated by all threads when the batch started, or -1 if
+     * unsupported
+     */
+    final private long startBytes;
+    /**
+     * longest pause seen since the batch started (in milliseconds)
+     */
+    private long maxPauseMillis;
+    /**
+     * time when the batch started (in nanoseconds)
+     */
+    final private long startNanos;
+    /**
+     * total duration of the pauses seen since the batch started (in
+     * milliseconds)
+     */
+    private long pauseMillis;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Start measuring a batch.
+     */
+    BatchMetrics() {
+        this.startNanos = System.nanoTime();
+        this.startBytes = allocatedBytes();
+        for (GarbageCollectorMXBean bean
+                : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (bean instanceof NotificationEmitter) {
+                ((NotificationEmitter) bean)
+                        .addNotificationListener(this, null, null);
+            }
+        }
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Stop measuring and log the report, along with the canvas pool's use.
+     *
+     * @param numRecipes the number of recipes in the batch (&ge;0)
+     */
+    void report(int numRecipes) {
+        for (GarbageCollectorMXBean bean
+                : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (bean instanceof NotificationEmitter) {
+                try {
+                    ((NotificationEmitter) bean)
+                            .removeNotificationListener(this);
+                } catch (ListenerNotFoundException exception) {
+                    // the bean was added after the batch started
+                }
+            }
+        }
+
+        double seconds = (System.nanoTime() - startNanos) * 1e-9;
+        long endBytes = allocatedBytes();
+        String allocation = "allocations unmeasured";
+        if (startBytes >= 0L && endBytes >= 0L) {
+            double mib = (endBytes - startBytes) / 1048576.0;
+            allocation = String.format(Locale.ROOT,
+                    "allocated %.1f MiB (%.1f MiB/s)", mib, mib / seconds);
+        }
+        synchronized (this) {
+            logger.log(Level.INFO, String.format(Locale.ROOT,
+                    "batch of %d recipes: %s; %d GC pauses totaling %d ms,"
+                    + " longest %d ms; %s", numRecipes, allocation,
+                    numPauses, pauseMillis, maxPauseMillis,
+                    CanvasPool.describeUse()));
+        }
+    }
+
+    /**
+     * Record the allocations of the current thread, which is about to end,
+     * so they're still counted after it's gone.
+     */
+    static void retireThread() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            long id = Thread.currentThread().getId();
+            long bytes = ((com.sun.management.ThreadMXBean) bean)
+                    .getThreadAllocatedBytes(id);
+            if (bytes >= 0L) {
+                synchronized (retired) {
+                    retired.put(id, bytes);
+                }
+            }
+        }
+    }
+    // *************************************************************************
+    // NotificationListener methods
+
+    /**
+     * Callback when a garbage collection completes.
+     *
+     * @param notification the notification (not null)
+     * @param handback ignored
+     */
+    @Override
+    public void handleNotification(
+            Notification notification, Object handback) {
+        if (!notification.getType().equals(GarbageCollectionNotificationInfo
+                .GARBAGE_COLLECTION_NOTIFICATION)) {
+            return;
+        }
+        CompositeData data = (CompositeData) notification.getUserData();
+        GarbageCollectionNotificationInfo info
+                = GarbageCollectionNotificationInfo.from(data);
+        String action = info.getGcAction().toLowerCase(Locale.ROOT);
+        if (action.contains("concurrent")
+                || info.getGcName().endsWith("Cycles")) {
+            return;
+        }
+
+        long millis = info.getGcInfo().getDuration();
+        synchronized (this) {
+            ++numPauses;
+            pauseMillis += millis;
+            maxPauseMillis = Math.max(maxPauseMillis, millis);
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Sum the bytes allocated by all threads, both live and retired.
+     *
+     * @return the total (in bytes, &ge;0) or -1 if unsupported
+     */
+    private static long allocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return -1L;
+        }
+        com.sun.management.ThreadMXBean sunBean
+                = (com.sun.management.ThreadMXBean) bean;
+        if (!sunBean.isThreadAllocatedMemoryEnabled()) {
+            return -1L;
+        }
+
+        long[] ids = bean.getAllThreadIds();
+        long[] bytes = sunBean.getThreadAllocatedBytes(ids);
+        long result = 0L;
+        synchronized (retired) {
+            for (long total : retired.values()) {
+                result += total;
+            }
+            for (int i = 0; i < ids.length; ++i) {
+                if (bytes[i] > 0L && !retired.containsKey(ids[i])) {
+                    result += bytes[i];
+                }
+            }
+        }
+
+        return result;
+    }
+}
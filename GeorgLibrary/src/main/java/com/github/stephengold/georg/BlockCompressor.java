@@ -0,0 +1,142 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import com.jme3.texture.Image;
+import java.awt.image.BufferedImage;
+import java.util.logging.Logger;
+
+/**
+ * Utility methods to compress images into BC1 (DXT1), BC3 (DXT5), or BC4
+ * (RGTC1) blocks, one task per row of 4x4 blocks. BC4 encodes the alpha
+ * channel.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class BlockCompressor {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(BlockCompressor.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private BlockCompressor() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the size of each block in the specified format.
+     *
+     * @param format DXT1, DXT5, or RGTC1 (not null)
+     * @return the size (in bytes: 8 or 16)
+     */
+    public static int blockBytes(Image.Format format) {
+        switch (format) {
+            case DXT1:
+            case RGTC1:
+                return 8;
+            case DXT5:
+                return 16;
+            default:
+                throw new IllegalArgumentException("format = " + format);
+        }
+    }
+
+    /**
+     * Compress the specified image. Blocks that extend past the right or
+     * bottom edge are padded by repeating the edge pixels.
+     *
+     * @param image the image to compress (not null, unaffected)
+     * @param format DXT1, DXT5, or RGTC1 (not null)
+     * @param parallel true to encode block rows in parallel, false to encode
+     * them on the calling thread
+     * @return a new array of blocks, top row first
+     */
+    public static byte[] compress(BufferedImage image,
+            final Image.Format format, boolean parallel) {
+        BlockEncoder encoder = new BlockEncoder() {
+            @Override
+            public void encode(int[] argb, byte[] dest, int destPos) {
+                encodeBlock(argb, format, dest, destPos);
+            }
+        };
+        byte[] result = BlockRows.encode(
+                image, encoder, blockBytes(format), parallel);
+
+        return result;
+    }
+
+    /**
+     * Return the compressed size of an image.
+     *
+     * @param width the width of the image (in pixels, &gt;0)
+     * @param height the height of the image (in pixels, &gt;0)
+     * @param format DXT1, DXT5, or RGTC1 (not null)
+     * @return the size (in bytes, &gt;0)
+     */
+    public static int compressedSize(
+            int width, int height, Image.Format format) {
+        int result = BlockRows.countBlocks(width, height) * blockBytes(format);
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Encode a single block.
+     *
+     * @param argb the 16 pixels, in row-major order (not null, unaffected)
+     * @param format DXT1, DXT5, or RGTC1 (not null)
+     * @param dest the destination array (not null, modified)
+     * @param destPos the index of the block's first byte in dest (&ge;0)
+     */
+    private static void encodeBlock(
+            int[] argb, Image.Format format, byte[] dest, int destPos) {
+        if (format == Image.Format.DXT1) {
+            ColorBlock.encode(argb, dest, destPos);
+            return;
+        }
+
+        int[] alphas = new int[BlockRows.blockPixels];
+        for (int i = 0; i < BlockRows.blockPixels; ++i) {
+            alphas[i] = argb[i] >>> 24;
+        }
+        ScalarBlock.encode(alphas, dest, destPos);
+        if (format == Image.Format.DXT5) {
+            ColorBlock.encode(argb, dest, destPos + 8);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import com.jme3.texture.Image;
+import java.awt.image.BufferedImage;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * Utility methods to decode BC1 (DXT1), BC3 (DXT5), and BC4 (RGTC1) blocks,
+ * for instance to measure the error introduced by BlockCompressor.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class BlockDecoder {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(BlockDecoder.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private BlockDecoder() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Enumerate the colors addressed by a BC1 block.
+     *
+     * @param c0 the first endpoint, packed 5:6:5
+     * @param c1 the second endpoint, packed 5:6:5
+     * @param fourColor true for 4-color mode, false for 3-color mode
+     * @return a new array of 4 red/green/blue triples
+     */
+    static int[][] colorPalette(int c0, int c1, boolean fourColor) {
+        int[] rgb0 = ColorFit.unpack565(c0);
+        int[] rgb1 = ColorFit.unpack565(c1);
+        int[][] result = new int[4][3];
+        for (int c = 0; c < 3; ++c) {
+            result[0][c] = rgb0[c];
+            result[1][c] = rgb1[c];
+            if (fourColor) {
+                result[2][c] = (2 * rgb0[c] + rgb1[c]) / 3;
+                result[3][c] = (rgb0[c] + 2 * rgb1[c]) / 3;
+            } else {
+                result[2][c] = (rgb0[c] + rgb1[c]) / 2;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Decode an image that was compressed by BlockCompressor. Samples of
+     * RGTC1 are returned in the red channel, as a GPU would return them.
+     *
+     * @param blocks the compressed blocks (not null, unaffected)
+     * @param width the width of the image (in pixels, &gt;0)
+     * @param height the height of the image (in pixels, &gt;0)
+     * @param format DXT1, DXT5, or RGTC1 (not null)
+     * @return a new image of TYPE_INT_ARGB
+     */
+    public static BufferedImage decode(
+            byte[] blocks, int width, int height, Image.Format format) {
+        Validate.positive(width, "width");
+        Validate.positive(height, "height");
+
+        int blockBytes = BlockCompressor.blockBytes(format);
+        BufferedImage result
+                = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        for (int y = 0; y < height; ++y) {
+            for (int x = 0; x < width; ++x) {
+                int pos = BlockRows.blockIndex(x, y, width) * blockBytes;
+                int pixelIndex = 4 * (y % 4) + x % 4;
+                int argb;
+                if (format == Image.Format.RGTC1) {
+                    argb = 0xFF000000 | scalarAt(blocks, pos, pixelIndex) << 16;
+                } else if (format == Image.Format.DXT5) {
+                    int rgb = colorAt(blocks, pos + 8, pixelIndex, true);
+                    argb = scalarAt(blocks, pos, pixelIndex) << 24
+                            | rgb & 0xFFFFFF;
+                } else {
+                    argb = colorAt(blocks, pos, pixelIndex, false);
+                }
+                result.setRGB(x, y, argb);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Measure the root-mean-square error of a compressed image, over the
+     * channels that its format stores. For RGTC1 the source's alpha channel is
+     * compared with the decoded red channel.
+     *
+     * @param source the uncompressed image (not null, unaffected)
+     * @param blocks the compressed blocks (not null, unaffected)
+     * @param format DXT1, DXT5, or RGTC1 (not null)
+     * @return the error (in 8-bit units, &ge;0)
+     */
+    public static double rmse(
+            BufferedImage source, byte[] blocks, Image.Format format) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        BufferedImage decoded = decode(blocks, width, height, format);
+
+        int numChannels = format == Image.Format.DXT5 ? 4
+                : format == Image.Format.DXT1 ? 3 : 1;
+        double result = BlockRows.rmse(source, decoded, numChannels);
+
+        return result;
+    }
+
+    /**
+     * Find the samples addressed by a BC4 block in 8-value mode.
+     *
+     * @param max the first endpoint (&ge;0, &le;255)
+     * @param min the second endpoint (&ge;0, &le;max)
+     * @return a new array of 8 samples
+     */
+    static int[] scalarPalette(int max, int min) {
+        int[] result = new int[8];
+        result[0] = max;
+        result[1] = min;
+        for (int k = 2; k < 8; ++k) {
+            result[k] = ((8 - k) * max + (k - 1) * min) / 7;
+        }
+
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Decode one pixel of a BC1 color block.
+     *
+     * @param blocks the compressed blocks (not null, unaffected)
+     * @param pos the index of the block's first byte
+     * @param pixelIndex the pixel's index in the block (&ge;0, &lt;16)
+     * @param forceFourColor true for the color half of a BC3 block
+     * @return the pixel color (ARGB)
+     */
+    private static int colorAt(
+            byte[] blocks, int pos, int pixelIndex, boolean forceFourColor) {
+        int c0 = (blocks[pos] & 0xFF) | (blocks[pos + 1] & 0xFF) << 8;
+        int c1 = (blocks[pos + 2] & 0xFF) | (blocks[pos + 3] & 0xFF) << 8;
+        boolean fourColor = forceFourColor || c0 > c1;
+        int[][] palette = colorPalette(c0, c1, fourColor);
+
+        int bits = blocks[pos + 4 + pixelIndex / 4] >> (2 * (pixelIndex % 4));
+        int index = bits & 0x3;
+        if (!fourColor && index == 3) {
+            return 0; // transparent black
+        }
+        int[] rgb = palette[index];
+        int result = 0xFF000000 | rgb[0] << 16 | rgb[1] << 8 | rgb[2];
+
+        return result;
+    }
+
+    /**
+     * Decode one sample of a BC4 block.
+     *
+     * @param blocks the compressed blocks (not null, unaffected)
+     * @param pos the index of the block's first byte
+     * @param pixelIndex the pixel's index in the block (&ge;0, &lt;16)
+     * @return the sample (&ge;0, &le;255)
+     */
+    private static int scalarAt(byte[] blocks, int pos, int pixelIndex) {
+        int e0 = blocks[pos] & 0xFF;
+        int e1 = blocks[pos + 1] & 0xFF;
+        long bits = 0L;
+        for (int i = 5; i >= 0; --i) {
+            bits = (bits << 8) | (blocks[pos + 2 + i] & 0xFF);
+        }
+        int index = (int) (bits >>> (3 * pixelIndex)) & 0x7;
+        if (e0 > e1) {
+            return scalarPalette(e0, e1)[index];
+        } else if (index < 2) {
+            return index == 0 ? e0 : e1;
+        } else if (index >= 6) {
+            return index == 6 ? 0 : 255;
+        }
+        int result = ((6 - index) * e0 + (index - 1) * e1) / 5;
+
+        return result;
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.logging.Logger;
+
+/**
+ * Utility methods shared by the block compressors: encoding an image one row
+ * of 4x4 blocks at a time (optionally in parallel) and measuring the error.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class BlockRows {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * number of pixels in a block
+     */
+    final static int blockPixels = 16;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(BlockRows.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private BlockRows() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Compress the specified image. Blocks that extend past the right or
+     * bottom edge are padded by repeating the edge pixels.
+     *
+     * @param image the image to compress (not null, unaffected)
+     * @param encoder the block encoder to use (not null)
+     * @param blockBytes the size of each encoded block (in bytes, &gt;0)
+     * @param parallel true to encode block rows in parallel, false to encode
+     * them on the calling thread
+     * @return a new array of blocks, top row first
+     */
+    static byte[] encode(BufferedImage image, final BlockEncoder encoder,
+            final int blockBytes, boolean parallel) {
+        final int width = image.getWidth();
+        final int height = image.getHeight();
+        final int[] argb = image.getRGB(0, 0, width, height, null, 0, width);
+        int blockRows = (height + 3) / 4;
+
+        byte[][] rows;
+        if (parallel) {
+            List<Callable<byte[]>> tasks = new ArrayList<>(blockRows);
+            for (int blockRow = 0; blockRow < blockRows; ++blockRow) {
+                final int firstRow = 4 * blockRow;
+                tasks.add(new Callable<byte[]>() {
+                    @Override
+                    public byte[] call() {
+                        return encodeRow(argb, width, height, firstRow,
+                                encoder, blockBytes);
+                    }
+                });
+            }
+            rows = Workers.run(tasks);
+        } else {
+            rows = new byte[blockRows][];
+            for (int blockRow = 0; blockRow < blockRows; ++blockRow) {
+                rows[blockRow] = encodeRow(argb, width, height,
+                        4 * blockRow, encoder, blockBytes);
+            }
+        }
+
+        int rowBytes = rows[0].length;
+        byte[] result = new byte[blockRows * rowBytes];
+        for (int blockRow = 0; blockRow < blockRows; ++blockRow) {
+            System.arraycopy(
+                    rows[blockRow], 0, result, blockRow * rowBytes, rowBytes);
+        }
+
+        return result;
+    }
+
+    /**
+     * Return the index of the block that contains the specified pixel.
+     *
+     * @param x the pixel's X coordinate (&ge;0)
+     * @param y the pixel's Y coordinate (&ge;0)
+     * @param width the width of the image (in pixels, &gt;0)
+     * @return the index (&ge;0)
+     */
+    static int blockIndex(int x, int y, int width) {
+        int blocksPerRow = (width + 3) / 4;
+        int result = (y / 4) * blocksPerRow + x / 4;
+
+        return result;
+    }
+
+    /**
+     * Return the number of blocks needed to cover an image.
+     *
+     * @param width the width of the image (in pixels, &gt;0)
+     * @param height the height of the image (in pixels, &gt;0)
+     * @return the count (&gt;0)
+     */
+    static int countBlocks(int width, int height) {
+        int result = ((width + 3) / 4) * ((height + 3) / 4);
+        return result;
+    }
+
+    /**
+     * Measure the root-mean-square error of a decoded image. With a single
+     * channel, the source's alpha channel is compared with the decoded red
+     * channel.
+     *
+     * @param source the uncompressed image (not null, unaffected)
+     * @param decoded the decoded image (not null, same size, unaffected)
+     * @param numChannels 1 for alpha only, 3 for RGB, or 4 for RGBA
+     * @return the error (in 8-bit units, &ge;0)
+     */
+    static double rmse(
+            BufferedImage source, BufferedImage decoded, int numChannels) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double sumSquares = 0.0;
+        for (int y = 0; y < height; ++y) {
+            for (int x = 0; x < width; ++x) {
+                int expected = source.getRGB(x, y);
+                int actual = decoded.getRGB(x, y);
+                if (numChannels == 1) {
+                    expected = 0xFF000000 | (expected >>> 24) << 16;
+                    actual &= 0xFFFF0000;
+                } else if (numChannels == 3) {
+                    expected |= 0xFF000000;
+                    actual |= 0xFF000000;
+                }
+                for (int shift = 0; shift < 32; shift += 8) {
+                    int delta = ((expected >>> shift) & 0xFF)
+                            - ((actual >>> shift) & 0xFF);
+                    sumSquares += delta * delta;
+                }
+            }
+        }
+        double numSamples = numChannels * (double) width * height;
+        double result = Math.sqrt(sumSquares / numSamples);
+
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Encode a single row of blocks.
+     *
+     * @param argb the pixels of the image, in row-major order (not null,
+     * unaffected)
+     * @param width the width of the image (in pixels, &gt;0)
+     * @param height the height of the image (in pixels, &gt;0)
+     * @param firstRow the index of the topmost pixel row (&ge;0)
+     * @param encoder the block encoder to use (not null)
+     * @param blockBytes the size of each encoded block (in bytes, &gt;0)
+     * @return a new array of blocks, leftmost first
+     */
+    private static byte[] encodeRow(int[] argb, int width, int height,
+            int firstRow, BlockEncoder encoder, int blockBytes) {
+        int blocksPerRow = (width + 3) / 4;
+        byte[] result = new byte[blocksPerRow * blockBytes];
+
+        int[] pixels = new int[blockPixels];
+        for (int blockIndex = 0; blockIndex < blocksPerRow; ++blockIndex) {
+            for (int i = 0; i < blockPixels; ++i) {
+                int x = Math.min(4 * blockIndex + i % 4, width - 1);
+                int y = Math.min(firstRow + i / 4, height - 1);
+                pixels[i] = argb[x + y * width];
+            }
+            encoder.encode(pixels, result, blockIndex * blockBytes);
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * A shared pool of reusable canvases, keyed by size and image type. A batch
+ * that renders many masters of the same size allocates only as many
+ * canvases as are in flight at once, instead of one per recipe, which
+ * reduces the garbage collector's work.
+ * <p>
+ * The pool is synchronized, since in a Pipeline the canvas rendered by one
+ * thread is released by another.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class CanvasPool {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * maximum number of idle canvases retained for each key
+     */
+    final private static int maxIdlePerKey = Workers.numThreads + 1;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(CanvasPool.class.getName());
+    /**
+     * idle canvases, grouped by key
+     */
+    final private static Map<String, Deque<BufferedImage>> idle
+            = new HashMap<>(16);
+    // *************************************************************************
+    // fields
+
+    /**
+     * number of canvases allocated by acquire()
+     */
+    private static long numAllocated;
+    /**
+     * number of canvases reused by acquire()
+     */
+    private static long numReused;
+    /**
+     * total size of the canvases allocated by acquire() (in bytes)
+     */
+    private static long bytesAllocated;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private CanvasPool() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Obtain a canvas with all pixels cleared, reusing an idle one if
+     * possible.
+     *
+     * @param width the width of the canvas (in pixels, &gt;0)
+     * @param height the height of the canvas (in pixels, &gt;0)
+     * @param imageType the type of the canvas, such as
+     * {@code BufferedImage.TYPE_4BYTE_ABGR}
+     * @return a canvas (not null)
+     */
+    public static BufferedImage acquire(int width, int height, int imageType) {
+        Validate.positive(width, "width");
+        Validate.positive(height, "height");
+
+        String key = key(width, height, imageType);
+        BufferedImage result = null;
+        synchronized (idle) {
+            Deque<BufferedImage> deque = idle.get(key);
+            if (deque != null) {
+                result = deque.pollFirst();
+            }
+            if (result == null) {
+                ++numAllocated;
+            } else {
+                ++numReused;
+            }
+        }
+
+        if (result == null) {
+            result = new BufferedImage(width, height, imageType);
+            DataBuffer buffer = result.getRaster().getDataBuffer();
+            long bytes = (long) buffer.getSize()
+                    * DataBuffer.getDataTypeSize(buffer.getDataType()) / 8;
+            synchronized (idle) {
+                bytesAllocated += bytes;
+            }
+        } else {
+            clear(result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Describe the pool's cumulative use, for log messages.
+     *
+     * @return a descriptive string of text (not null, not empty)
+     */
+    public static String describeUse() {
+        synchronized (idle) {
+            String result = String.format(Locale.ROOT,
+                    "canvases: %d reused, %d allocated (%.1f MiB)",
+                    numReused, numAllocated, bytesAllocated / 1048576.0);
+            return result;
+        }
+    }
+
+    /**
+     * Return a canvas to the pool for reuse. The caller must not access the
+     * canvas afterward. Canvases with custom types are ignored, as are any
+     * beyond the number retained for each key.
+     *
+     * @param canvas the canvas to return (not null)
+     */
+    public static void release(BufferedImage canvas) {
+        Validate.nonNull(canvas, "canvas");
+
+        int imageType = canvas.getType();
+        if (imageType == BufferedImage.TYPE_CUSTOM) {
+            return;
+        }
+        String key = key(canvas.getWidth(), canvas.getHeight(), imageType);
+        synchronized (idle) {
+            Deque<BufferedImage> deque = idle.get(key);
+            if (deque == null) {
+                deque = new ArrayDeque<>(maxIdlePerKey);
+                idle.put(key, deque);
+            }
+            if (deque.size() < maxIdlePerKey && !deque.contains(canvas)) {
+                deque.addFirst(canvas);
+            }
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Clear all pixels of the specified canvas to zero.
+     *
+     * @param canvas the canvas to clear (not null, modified)
+     */
+    private static void clear(BufferedImage canvas) {
+        DataBuffer buffer = canvas.getRaster().getDataBuffer();
+        for (int bank = 0; bank < buffer.getNumBanks(); ++bank) {
+            if (buffer instanceof DataBufferByte) {
+                Arrays.fill(((DataBufferByte) buffer).getData(bank), (byte) 0);
+            } else if (buffer instanceof DataBufferInt) {
+                Arrays.fill(((DataBufferInt) buffer).getData(bank), 0);
+            } else {
+                for (int i = 0; i < buffer.getSize(); ++i) {
+                    buffer.setElem(bank, i, 0);
+                }
+            }
+        }
+    }
+
+    /**
+     * Generate the pool key for the specified canvas size and type.
+     *
+     * @param width the width (in pixels)
+     * @param height the height (in pixels)
+     * @param imageType the image type
+     * @return a new string (not null, not empty)
+     */
+    private static String key(int width, int height, int imageType) {
+        String result = width + "x" + height + "/" + imageType;
+        return result;
+    }
+}
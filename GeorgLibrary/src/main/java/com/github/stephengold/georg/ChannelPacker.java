@@ -0,0 +1,204 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.WritableRaster;
+import java.util.Arrays;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * Utility methods to pack single-channel masks into the R, G, B, and A
+ * channels of shared textures, so that up to 4 masks share a single file and
+ * texture bind.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class ChannelPacker {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * maximum number of masks per texture
+     */
+    final private static int maxChannels = 4;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(ChannelPacker.class.getName());
+    /**
+     * names of the channels, in band order
+     */
+    final private static String[] channelNames = {"r", "g", "b", "a"};
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private ChannelPacker() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Render the specified recipes and pack the alpha channel of each into a
+     * channel of a shared PNG texture, along with a manifest that maps asset
+     * names to files and channels. Only masks with the same final size share
+     * a texture. A texture with 3 or fewer masks lacks an alpha channel. One
+     * set of textures is generated for each configured scale factor.
+     *
+     * @param packName the name of the textures, without any suffix or
+     * extension (not null, not empty)
+     * @param recipes the recipes to pack (not null, not empty, all with the
+     * same scale factors)
+     */
+    public static void generate(String packName, Recipe... recipes) {
+        Validate.nonEmpty(packName, "pack name");
+        Validate.nonEmpty(recipes, "recipes");
+        /*
+         * Assign each mask to the first texture of the same size
+         * that has a free channel.
+         */
+        int numRecipes = recipes.length;
+        int[] textureIndices = new int[numRecipes];
+        int[] channels = new int[numRecipes];
+        int[] fill = new int[numRecipes];
+        Recipe[] firsts = new Recipe[numRecipes];
+        int numTextures = 0;
+        for (int i = 0; i < numRecipes; ++i) {
+            Recipe recipe = recipes[i];
+            int t = 0;
+            while (t < numTextures && (fill[t] == maxChannels
+                    || !sameSize(firsts[t], recipe))) {
+                ++t;
+            }
+            if (t == numTextures) {
+                firsts[t] = recipe;
+                ++numTextures;
+            }
+            textureIndices[i] = t;
+            channels[i] = fill[t];
+            ++fill[t];
+        }
+
+        int[] scales = Generator.selectScales(recipes);
+        int numScales = scales.length;
+        BufferedImage[][] textures = new BufferedImage[numScales][numTextures];
+        for (int j = 0; j < numScales; ++j) {
+            for (int t = 0; t < numTextures; ++t) {
+                int type = (fill[t] == maxChannels)
+                        ? BufferedImage.TYPE_4BYTE_ABGR
+                        : BufferedImage.TYPE_3BYTE_BGR;
+                textures[j][t] = new BufferedImage(
+                        scales[j] * firsts[t].getFinalWidth(),
+                        scales[j] * firsts[t].getFinalHeight(), type);
+            }
+        }
+        for (int i = 0; i < numRecipes; ++i) {
+            BufferedImage master = Generator.obtainMaster(recipes[i]);
+            for (int j = 0; j < numScales; ++j) {
+                BufferedImage texture = textures[j][textureIndices[i]];
+                BufferedImage mask = Downsampler.resize(
+                        master, texture.getWidth(), texture.getHeight());
+                copyAlpha(mask, texture, channels[i]);
+            }
+        }
+
+        for (int j = 0; j < numScales; ++j) {
+            String name = Generator.variantName(packName, scales[j]);
+            for (int t = 0; t < numTextures; ++t) {
+                String filePath = OutputFiles.path(fileName(name, t));
+                Generator.writeImage(filePath, textures[j][t]);
+            }
+
+            StringBuilder manifest = new StringBuilder(32 * numRecipes);
+            manifest.append("# file channel name\n");
+            for (int i = 0; i < numRecipes; ++i) { // names may contain spaces
+                manifest.append(fileName(name, textureIndices[i])).append(' ')
+                        .append(channelNames[channels[i]]).append(' ')
+                        .append(recipes[i].getAssetName()).append('\n');
+            }
+            OutputFiles.writeText(
+                    OutputFiles.path(name + ".channels"), manifest.toString());
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Copy the alpha channel of a mask into one band of a packed texture.
+     *
+     * @param mask the source image (not null, unaffected)
+     * @param texture the packed texture (not null, same size, modified)
+     * @param band the index of the destination band (0=red, 3=alpha)
+     */
+    private static void copyAlpha(
+            BufferedImage mask, BufferedImage texture, int band) {
+        int width = texture.getWidth();
+        int height = texture.getHeight();
+        WritableRaster alphaRaster = mask.getAlphaRaster();
+        int[] samples;
+        if (alphaRaster == null) { // an opaque mask is fully covered
+            samples = new int[width * height];
+            Arrays.fill(samples, 255);
+        } else {
+            samples = alphaRaster.getSamples(
+                    0, 0, width, height, 0, (int[]) null);
+        }
+
+        WritableRaster raster = texture.getRaster();
+        raster.setSamples(0, 0, width, height, band, samples);
+    }
+
+    /**
+     * Generate the name of a packed texture file.
+     *
+     * @param name the name of the variant (not null, not empty)
+     * @param index the index of the texture (&ge;0)
+     * @return the file name (not null, not empty)
+     */
+    private static String fileName(String name, int index) {
+        String result = name + "-" + index + ".png";
+        return result;
+    }
+
+    /**
+     * Test whether 2 recipes have the same final dimensions.
+     *
+     * @param a the first recipe (not null, unaffected)
+     * @param b the 2nd recipe (not null, unaffected)
+     * @return true if same size, otherwise false
+     */
+    private static boolean sameSize(Recipe a, Recipe b) {
+        boolean result = a.getFinalWidth() == b.getFinalWidth()
+                && a.getFinalHeight() == b.getFinalHeight();
+        return result;
+    }
+}
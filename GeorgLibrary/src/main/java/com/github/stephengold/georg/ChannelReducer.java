@@ -0,0 +1,210 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import com.jme3.texture.Image;
+import java.awt.image.BufferedImage;
+import java.util.Locale;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * Utility methods to find the jMonkeyEngine image format with the fewest
+ * channels that can represent a texture: Alpha8 if the color is constant,
+ * Luminance8 or Luminance8Alpha8 if it's gray, otherwise RGB8 or RGBA8.
+ * <p>
+ * The colors of fully transparent pixels are ignored. For Alpha8 the
+ * constant color is taken from the most opaque pixel, and other colors may
+ * differ from it by a tolerance, weighted by their alpha.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class ChannelReducer {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(ChannelReducer.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private ChannelReducer() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Find the color of the most opaque pixel. Ties go to the first such
+     * pixel in row-major order.
+     *
+     * @param image the image to analyze (not null, unaffected)
+     * @return the color (packed as 0xRRGGBB)
+     */
+    public static int constantColor(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] row = new int[width];
+        int result = 0xFFFFFF;
+        int maxAlpha = -1;
+        for (int y = 0; y < height; ++y) {
+            image.getRGB(0, y, width, 1, row, 0, width);
+            for (int argb : row) {
+                int alpha = argb >>> 24;
+                if (alpha > maxAlpha) {
+                    maxAlpha = alpha;
+                    result = argb & 0xFFFFFF;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Generate a metadata file that describes the format of a texture, in
+     * java.util.Properties format.
+     *
+     * @param fileName the name of the texture file (not null)
+     * @param format the format of the texture (not null)
+     * @param image the texture (not null, unaffected)
+     * @return the text (not null)
+     */
+    public static String describe(
+            String fileName, Image.Format format, BufferedImage image) {
+        String result = String.format(Locale.ROOT,
+                "# jMonkeyEngine image format of %s\nformat=%s\n",
+                fileName, format);
+        if (format == Image.Format.Alpha8) {
+            result += String.format(Locale.ROOT, "color=#%06X\n",
+                    constantColor(image));
+        }
+
+        return result;
+    }
+
+    /**
+     * Find the format with the fewest channels that can represent the
+     * specified image.
+     *
+     * @param image the image to analyze (not null, unaffected)
+     * @param tolerance the largest alpha-weighted difference allowed from the
+     * constant color (&ge;0, &le;255, 0 for exact)
+     * @return Alpha8, Luminance8, Luminance8Alpha8, RGB8, or RGBA8
+     */
+    public static Image.Format minimalFormat(
+            BufferedImage image, int tolerance) {
+        Validate.inRange(tolerance, "tolerance", 0, 255);
+
+        int constant = constantColor(image);
+        boolean isConstant = true;
+        boolean isGray = true;
+        boolean isOpaque = true;
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] row = new int[width];
+        for (int y = 0; y < height; ++y) {
+            image.getRGB(0, y, width, 1, row, 0, width);
+            for (int argb : row) {
+                int alpha = argb >>> 24;
+                isOpaque = isOpaque && alpha == 0xFF;
+                if (alpha == 0) {
+                    continue;
+                }
+                int red = (argb >> 16) & 0xFF;
+                int green = (argb >> 8) & 0xFF;
+                int blue = argb & 0xFF;
+                isGray = isGray && red == green && green == blue;
+                for (int shift = 0; shift < 24; shift += 8) {
+                    int delta = ((argb >> shift) & 0xFF)
+                            - ((constant >> shift) & 0xFF);
+                    if (Math.abs(delta) * alpha > tolerance * 0xFF) {
+                        isConstant = false;
+                    }
+                }
+            }
+        }
+
+        Image.Format result;
+        if (isOpaque) {
+            result = isGray ? Image.Format.Luminance8 : Image.Format.RGB8;
+        } else if (isConstant) {
+            result = Image.Format.Alpha8;
+        } else if (isGray) {
+            result = Image.Format.Luminance8Alpha8;
+        } else {
+            result = Image.Format.RGBA8;
+        }
+
+        return result;
+    }
+
+    /**
+     * Normalize the colors of the specified image for the specified format,
+     * so that an encoder can exploit it (for instance, with a smaller
+     * palette). For Alpha8, every pixel takes the constant color. For
+     * Luminance8Alpha8, fully transparent pixels become black. Alpha is
+     * unaffected.
+     *
+     * @param image the image to normalize (not null, unaffected)
+     * @param format the format found by minimalFormat() (not null)
+     * @return a new image, or the argument if no change is needed
+     */
+    public static BufferedImage reduce(
+            BufferedImage image, Image.Format format) {
+        if (format != Image.Format.Alpha8
+                && format != Image.Format.Luminance8Alpha8) {
+            return image;
+        }
+
+        int constant = constantColor(image);
+        int width = image.getWidth();
+        int height = image.getHeight();
+        BufferedImage result = new BufferedImage(
+                width, height, BufferedImage.TYPE_INT_ARGB);
+        int[] row = new int[width];
+        for (int y = 0; y < height; ++y) {
+            image.getRGB(0, y, width, 1, row, 0, width);
+            for (int x = 0; x < width; ++x) {
+                int alphaBits = row[x] & 0xFF000000;
+                if (format == Image.Format.Alpha8) {
+                    row[x] = alphaBits | constant;
+                } else if (alphaBits == 0) {
+                    row[x] = 0;
+                }
+            }
+            result.setRGB(0, y, width, 1, row, 0, width);
+        }
+
+        return result;
+    }
+}
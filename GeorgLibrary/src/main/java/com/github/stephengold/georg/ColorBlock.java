@@ -0,0 +1,150 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.util.logging.Logger;
+
+/**
+ * Utility methods to encode the colors of single 4x4 blocks in BC1 (DXT1)
+ * format, which is also the second half of a BC3 (DXT5) block.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class ColorBlock {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(ColorBlock.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private ColorBlock() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Encode the colors of a block in BC1 4-color mode. The endpoints start
+     * at the extremes of the block's principal axis and are then refined by
+     * least squares.
+     *
+     * @param argb the 16 pixels, in row-major order (not null, unaffected)
+     * @param dest the destination array (not null, modified)
+     * @param destPos the index of the block's first byte in dest (&ge;0)
+     */
+    static void encode(int[] argb, byte[] dest, int destPos) {
+        float[][] colors = new float[BlockRows.blockPixels][3];
+        for (int i = 0; i < BlockRows.blockPixels; ++i) {
+            for (int c = 0; c < 3; ++c) {
+                colors[i][c] = (argb[i] >> (16 - 8 * c)) & 0xFF;
+            }
+        }
+
+        int[] ends = ColorFit.principal(colors);
+        int[] indices = new int[BlockRows.blockPixels];
+        long error = assign(colors, ends, indices);
+        for (int iteration = 0; iteration < 2 && error > 0L; ++iteration) {
+            int[] trialEnds = ColorFit.refine(colors, indices);
+            if (trialEnds == null) {
+                break;
+            }
+            int[] trialIndices = new int[BlockRows.blockPixels];
+            long trialError = assign(colors, trialEnds, trialIndices);
+            if (trialError >= error) {
+                break;
+            }
+            error = trialError;
+            ends = trialEnds;
+            indices = trialIndices;
+        }
+        /*
+         * Order the endpoints for 4-color mode.
+         */
+        if (ends[0] < ends[1]) {
+            ends = new int[]{ends[1], ends[0]};
+            int[] swap = {1, 0, 3, 2};
+            for (int i = 0; i < BlockRows.blockPixels; ++i) {
+                indices[i] = swap[indices[i]];
+            }
+        } else if (ends[0] == ends[1]) {
+            indices = new int[BlockRows.blockPixels];
+        }
+
+        int bits = 0;
+        for (int i = BlockRows.blockPixels - 1; i >= 0; --i) {
+            bits = (bits << 2) | indices[i];
+        }
+        dest[destPos] = (byte) ends[0];
+        dest[destPos + 1] = (byte) (ends[0] >> 8);
+        dest[destPos + 2] = (byte) ends[1];
+        dest[destPos + 3] = (byte) (ends[1] >> 8);
+        for (int i = 0; i < 4; ++i) {
+            dest[destPos + 4 + i] = (byte) (bits >>> (8 * i));
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Choose the nearest 4-color palette entry for each pixel.
+     *
+     * @param colors the red, green, and blue of each pixel (not null,
+     * unaffected)
+     * @param ends the packed endpoints (not null, length 2, unaffected)
+     * @param indices storage for the chosen indices (not null, modified)
+     * @return the total squared error
+     */
+    private static long assign(float[][] colors, int[] ends, int[] indices) {
+        int[][] palette = BlockDecoder.colorPalette(ends[0], ends[1], true);
+
+        long result = 0L;
+        for (int i = 0; i < BlockRows.blockPixels; ++i) {
+            long bestError = Long.MAX_VALUE;
+            for (int k = 0; k < 4; ++k) {
+                long error = 0L;
+                for (int c = 0; c < 3; ++c) {
+                    long delta = (long) colors[i][c] - palette[k][c];
+                    error += delta * delta;
+                }
+                if (error < bestError) {
+                    bestError = error;
+                    indices[i] = k;
+                }
+            }
+            result += bestError;
+        }
+
+        return result;
+    }
+}
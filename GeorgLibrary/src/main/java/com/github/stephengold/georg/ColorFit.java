@@ -0,0 +1,202 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.util.logging.Logger;
+
+/**
+ * Utility methods to fit BC1 endpoints to the colors of a 4x4 block.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class ColorFit {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * weight of endpoint 0 for each BC1 index in 4-color mode
+     */
+    final private static float[] weights = {1f, 0f, 2f / 3f, 1f / 3f};
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(ColorFit.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private ColorFit() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Choose the pixels at the extremes of the block's principal axis, found
+     * by power iteration on the covariance matrix.
+     *
+     * @param colors the red, green, and blue of each pixel (not null, not
+     * empty, unaffected)
+     * @return a new array of 2 packed 5:6:5 endpoints
+     */
+    static int[] principal(float[][] colors) {
+        float[] mean = new float[3];
+        for (float[] color : colors) {
+            for (int c = 0; c < 3; ++c) {
+                mean[c] += color[c] / colors.length;
+            }
+        }
+        float[][] cov = new float[3][3];
+        for (float[] color : colors) {
+            for (int r = 0; r < 3; ++r) {
+                for (int c = 0; c < 3; ++c) {
+                    cov[r][c] += (color[r] - mean[r]) * (color[c] - mean[c]);
+                }
+            }
+        }
+
+        float[] axis = {1f, 1f, 1f};
+        for (int iteration = 0; iteration < 8; ++iteration) {
+            float[] next = new float[3];
+            float max = 0f;
+            for (int r = 0; r < 3; ++r) {
+                next[r] = cov[r][0] * axis[0] + cov[r][1] * axis[1]
+                        + cov[r][2] * axis[2];
+                max = Math.max(max, Math.abs(next[r]));
+            }
+            if (max == 0f) {
+                break;
+            }
+            for (int r = 0; r < 3; ++r) {
+                axis[r] = next[r] / max;
+            }
+        }
+
+        float minDot = Float.MAX_VALUE;
+        float maxDot = -Float.MAX_VALUE;
+        float[] end0 = colors[0];
+        float[] end1 = colors[0];
+        for (float[] color : colors) {
+            float dot = color[0] * axis[0] + color[1] * axis[1]
+                    + color[2] * axis[2];
+            if (dot > maxDot) {
+                maxDot = dot;
+                end0 = color;
+            }
+            if (dot < minDot) {
+                minDot = dot;
+                end1 = color;
+            }
+        }
+        int[] result = {pack565(end0), pack565(end1)};
+
+        return result;
+    }
+
+    /**
+     * Solve for the endpoints that best fit the pixels, in the least-squares
+     * sense, given their current 4-color indices.
+     *
+     * @param colors the red, green, and blue of each pixel (not null,
+     * unaffected)
+     * @param indices the current index of each pixel (not null, unaffected)
+     * @return a new array of 2 packed 5:6:5 endpoints, or null if the system
+     * is singular
+     */
+    static int[] refine(float[][] colors, int[] indices) {
+        float aa = 0f;
+        float ab = 0f;
+        float bb = 0f;
+        float[] ax = new float[3];
+        float[] bx = new float[3];
+        for (int i = 0; i < colors.length; ++i) {
+            float a = weights[indices[i]];
+            float b = 1f - a;
+            aa += a * a;
+            ab += a * b;
+            bb += b * b;
+            for (int c = 0; c < 3; ++c) {
+                ax[c] += a * colors[i][c];
+                bx[c] += b * colors[i][c];
+            }
+        }
+        float det = aa * bb - ab * ab;
+        if (Math.abs(det) < 1e-6f) {
+            return null;
+        }
+
+        float[] end0 = new float[3];
+        float[] end1 = new float[3];
+        for (int c = 0; c < 3; ++c) {
+            end0[c] = (ax[c] * bb - bx[c] * ab) / det;
+            end1[c] = (bx[c] * aa - ax[c] * ab) / det;
+        }
+        int[] result = {pack565(end0), pack565(end1)};
+
+        return result;
+    }
+
+    /**
+     * Expand a 5:6:5 color to 8 bits per channel.
+     *
+     * @param rgb565 the packed color
+     * @return a new array of red, green, and blue (each &ge;0, &le;255)
+     */
+    static int[] unpack565(int rgb565) {
+        int red = (rgb565 >> 11) & 0x1F;
+        int green = (rgb565 >> 5) & 0x3F;
+        int blue = rgb565 & 0x1F;
+        int[] result = {
+            (red << 3) | (red >> 2), (green << 2) | (green >> 4),
+            (blue << 3) | (blue >> 2)
+        };
+
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Quantize a color to 5:6:5 with rounding.
+     *
+     * @param rgb the red, green, and blue (not null, unaffected)
+     * @return the packed color
+     */
+    private static int pack565(float[] rgb) {
+        int result = 0;
+        int[] maxima = {31, 63, 31};
+        for (int c = 0; c < 3; ++c) {
+            float clamped = Math.max(0f, Math.min(255f, rgb[c]));
+            int bits = Math.round(clamped * maxima[c] / 255f);
+            result = (result << (c == 1 ? 6 : 5)) | bits;
+        }
+
+        return result;
+    }
+}
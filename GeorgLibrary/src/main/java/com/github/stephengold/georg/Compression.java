@@ -0,0 +1,95 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import com.jme3.texture.Image;
+
+/**
+ * Enumerate the GPU compression schemes.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public enum Compression {
+    // *************************************************************************
+    // values
+
+    /**
+     * write uncompressed pixels, in the format found by ChannelReducer
+     */
+    Off,
+    /**
+     * write BC1 (DXT1) for opaque textures, BC3 (DXT5) for translucent ones,
+     * and BC4 (RGTC1) for alpha-only ones, with alpha in the red channel
+     */
+    Bc,
+    /**
+     * write a KTX file in an ETC2/EAC format chosen by EtcFormat, alongside
+     * any uncompressed DDS file
+     */
+    Etc;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Select the DDS format for a texture whose minimal format is known.
+     *
+     * @param minimal the format found by ChannelReducer (not null)
+     * @return the format to write (not null)
+     */
+    public Image.Format select(Image.Format minimal) {
+        Image.Format result;
+        if (this != Bc) {
+            result = minimal;
+        } else if (minimal == Image.Format.Alpha8) {
+            result = Image.Format.RGTC1;
+        } else if (minimal == Image.Format.Luminance8
+                || minimal == Image.Format.RGB8) {
+            result = Image.Format.DXT1;
+        } else {
+            result = Image.Format.DXT5;
+        }
+
+        return result;
+    }
+
+    /**
+     * Find the value with the specified name, ignoring case.
+     *
+     * @param name the name to match (not null)
+     * @return the matching value (not null)
+     * @throws IllegalArgumentException if no value matches
+     */
+    public static Compression parse(String name) {
+        for (Compression value : values()) {
+            if (value.name().equalsIgnoreCase(name)) {
+                return value;
+            }
+        }
+
+        throw new IllegalArgumentException("Compression = " + name);
+    }
+}
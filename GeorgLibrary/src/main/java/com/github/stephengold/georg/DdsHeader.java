@@ -0,0 +1,216 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import com.jme3.texture.Image;
+import java.nio.ByteBuffer;
+import java.util.logging.Logger;
+
+/**
+ * Utility methods to write the header of a DirectDraw Surface (DDS) file,
+ * either uncompressed or block-compressed.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class DdsHeader {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * size of the file header, including the magic number (in bytes)
+     */
+    final static int headerBytes = 128;
+    /**
+     * DDSD_CAPS | DDSD_HEIGHT | DDSD_WIDTH | DDSD_PIXELFORMAT
+     */
+    final private static int ddsdRequired = 0x1007;
+    /**
+     * DDSD_PITCH
+     */
+    final private static int ddsdPitch = 0x8;
+    /**
+     * DDSD_MIPMAPCOUNT
+     */
+    final private static int ddsdMipCount = 0x20000;
+    /**
+     * DDSD_LINEARSIZE
+     */
+    final private static int ddsdLinearSize = 0x80000;
+    /**
+     * DDPF_ALPHAPIXELS
+     */
+    final private static int ddpfAlphaPixels = 0x1;
+    /**
+     * DDPF_ALPHA
+     */
+    final private static int ddpfAlpha = 0x2;
+    /**
+     * DDPF_FOURCC
+     */
+    final private static int ddpfFourCc = 0x4;
+    /**
+     * DDPF_RGB
+     */
+    final private static int ddpfRgb = 0x40;
+    /**
+     * DDPF_LUMINANCE
+     */
+    final private static int ddpfLuminance = 0x20000;
+    /**
+     * DDSCAPS_TEXTURE
+     */
+    final private static int capsTexture = 0x1000;
+    /**
+     * DDSCAPS_COMPLEX | DDSCAPS_MIPMAP
+     */
+    final private static int capsMipmap = 0x400008;
+    /**
+     * identifies a DDS file ("DDS " in ASCII, little-endian)
+     */
+    final private static int magic = 0x20534444;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(DdsHeader.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private DdsHeader() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Write the magic number and header of a file.
+     *
+     * @param buffer the little-endian buffer to write to (not null)
+     * @param width the width of level 0 (in pixels, &gt;0)
+     * @param height the height of level 0 (in pixels, &gt;0)
+     * @param numLevels the number of mipmap levels (&ge;1)
+     * @param format the pixel format (not null)
+     */
+    static void put(ByteBuffer buffer, int width, int height, int numLevels,
+            Image.Format format) {
+        boolean compressed = format.isCompressed();
+        boolean hasMips = numLevels > 1;
+        int flags = ddsdRequired | (compressed ? ddsdLinearSize : ddsdPitch);
+        int caps = capsTexture;
+        if (hasMips) {
+            flags |= ddsdMipCount;
+            caps |= capsMipmap;
+        }
+
+        buffer.putInt(magic);
+        buffer.putInt(124); // size of the header structure
+        buffer.putInt(flags);
+        buffer.putInt(height);
+        buffer.putInt(width);
+        if (compressed) {
+            int linearSize
+                    = BlockCompressor.compressedSize(width, height, format);
+            buffer.putInt(linearSize);
+        } else {
+            buffer.putInt(format.getBitsPerPixel() / 8 * width); // pitch
+        }
+        buffer.putInt(0); // depth
+        buffer.putInt(hasMips ? numLevels : 0);
+        for (int i = 0; i < 11; ++i) {
+            buffer.putInt(0); // reserved
+        }
+
+        putPixelFormat(buffer, format);
+
+        buffer.putInt(caps);
+        for (int i = 0; i < 4; ++i) {
+            buffer.putInt(0); // caps2, caps3, caps4, and reserved
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Write the pixel-format structure of the header.
+     *
+     * @param buffer the little-endian buffer to write to (not null)
+     * @param format the pixel format (not null)
+     */
+    private static void putPixelFormat(
+            ByteBuffer buffer, Image.Format format) {
+        int pfFlags = ddpfFourCc;
+        String fourCc = null;
+        int[] masks = new int[4]; // red, green, blue, alpha
+        switch (format) {
+            case Alpha8:
+                pfFlags = ddpfAlpha;
+                masks[3] = 0xFF;
+                break;
+            case Luminance8:
+                pfFlags = ddpfLuminance;
+                masks[0] = 0xFF;
+                break;
+            case Luminance8Alpha8:
+                pfFlags = ddpfLuminance | ddpfAlphaPixels;
+                masks = new int[]{0xFF, 0, 0, 0xFF00};
+                break;
+            case RGB8:
+                pfFlags = ddpfRgb;
+                masks = new int[]{0xFF0000, 0xFF00, 0xFF, 0};
+                break;
+            case RGBA8:
+                pfFlags = ddpfRgb | ddpfAlphaPixels;
+                masks = new int[]{0xFF0000, 0xFF00, 0xFF, 0xFF000000};
+                break;
+            case DXT1:
+                fourCc = "DXT1";
+                break;
+            case DXT5:
+                fourCc = "DXT5";
+                break;
+            case RGTC1:
+                fourCc = "ATI1";
+                break;
+            default:
+                throw new IllegalArgumentException("format = " + format);
+        }
+
+        buffer.putInt(32); // size of the pixel-format structure
+        buffer.putInt(pfFlags);
+        int code = 0;
+        for (int i = 3; fourCc != null && i >= 0; --i) {
+            code = (code << 8) | fourCc.charAt(i);
+        }
+        buffer.putInt(code);
+        buffer.putInt(fourCc == null ? format.getBitsPerPixel() : 0);
+        for (int mask : masks) {
+            buffer.putInt(mask);
+        }
+    }
+}
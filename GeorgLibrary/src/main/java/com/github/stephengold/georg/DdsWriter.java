@@ -0,0 +1,168 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import com.jme3.texture.Image;
+import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * Utility methods to write mipmapped textures to DirectDraw Surface (DDS)
+ * files, which jMonkeyEngine loads without generating mipmaps at runtime.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class DdsWriter {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(DdsWriter.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private DdsWriter() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Write a mipmap chain to a DDS file in the specified format. Luminance is
+     * taken from the red channel. Each uncompressed level is padded to a
+     * multiple of 4 bytes, because jMonkeyEngine's DDSLoader reads that many.
+     * The block-compressed formats are encoded in parallel by
+     * BlockCompressor, and their chains end before any level 3 pixels high,
+     * because jMonkeyEngine's DXTFlipper can't flip those.
+     *
+     * @param filePath the filesystem path to the file (not null, not empty)
+     * @param levels the mipmap levels, largest first (not null, not empty,
+     * unaffected)
+     * @param format the pixel format: Alpha8, Luminance8, Luminance8Alpha8,
+     * RGB8, RGBA8, DXT1, DXT5, or RGTC1 (not null)
+     */
+    public static void write(
+            String filePath, BufferedImage[] levels, Image.Format format) {
+        Validate.nonEmpty(filePath, "file path");
+        Validate.nonEmpty(levels, "levels");
+
+        int width = levels[0].getWidth();
+        int height = levels[0].getHeight();
+        int numLevels = levels.length;
+        for (int i = 1; format.isCompressed() && i < numLevels; ++i) {
+            if (levels[i].getHeight() == 3) {
+                numLevels = i;
+            }
+        }
+
+        byte[][] blocks = new byte[numLevels][];
+        int totalBytes = DdsHeader.headerBytes;
+        for (int i = 0; i < numLevels; ++i) {
+            BufferedImage level = levels[i];
+            if (format.isCompressed()) {
+                blocks[i] = BlockCompressor.compress(level, format, true);
+                totalBytes += blocks[i].length;
+            } else {
+                totalBytes += paddedSize(level, format);
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(totalBytes);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        DdsHeader.put(buffer, width, height, numLevels, format);
+        for (int i = 0; i < numLevels; ++i) {
+            if (blocks[i] == null) {
+                int end = buffer.position() + paddedSize(levels[i], format);
+                putPixels(buffer, levels[i], format);
+                buffer.position(end); // padding is already zero
+            } else {
+                buffer.put(blocks[i]);
+            }
+        }
+        buffer.flip();
+        OutputFiles.writeBytes(filePath, buffer);
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Determine the size of an uncompressed level, rounded up to a multiple
+     * of 4 bytes.
+     *
+     * @param image the level (not null, unaffected)
+     * @param format the pixel format (not null, uncompressed)
+     * @return the size (in bytes, &gt;0)
+     */
+    private static int paddedSize(BufferedImage image, Image.Format format) {
+        int bytesPerPixel = format.getBitsPerPixel() / 8;
+        int size = bytesPerPixel * image.getWidth() * image.getHeight();
+        int result = (size + 3) / 4 * 4;
+
+        return result;
+    }
+
+    /**
+     * Write the pixels of an image with the top row first. Multi-byte pixels
+     * are stored little-endian, so RGBA8 is stored as B, G, R, A.
+     *
+     * @param buffer the buffer to write to (not null)
+     * @param image the image to write (not null, unaffected)
+     * @param format the pixel format (not null)
+     */
+    private static void putPixels(
+            ByteBuffer buffer, BufferedImage image, Image.Format format) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] row = new int[width];
+        for (int y = 0; y < height; ++y) {
+            image.getRGB(0, y, width, 1, row, 0, width);
+            for (int argb : row) {
+                byte alpha = (byte) (argb >>> 24);
+                byte red = (byte) (argb >> 16);
+                if (format == Image.Format.Alpha8) {
+                    buffer.put(alpha);
+                } else if (format == Image.Format.Luminance8) {
+                    buffer.put(red);
+                } else if (format == Image.Format.Luminance8Alpha8) {
+                    buffer.put(red).put(alpha);
+                } else if (format == Image.Format.RGB8) {
+                    buffer.put((byte) argb).put((byte) (argb >> 8)).put(red);
+                } else {
+                    buffer.putInt(argb);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import com.jme3.texture.Image;
+import com.jme3.util.BufferUtils;
+import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.color.ColorSpace;
+import java.awt.image.BufferedImage;
+import java.awt.image.ComponentColorModel;
+import java.awt.image.DataBuffer;
+import java.awt.image.PixelInterleavedSampleModel;
+import java.awt.image.Raster;
+import java.awt.image.SampleModel;
+import java.awt.image.WritableRaster;
+import java.nio.ByteBuffer;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * A canvas whose pixels are stored off-heap in a direct ByteBuffer, in
+ * jMonkeyEngine's RGBA8 (or RGB8, if opaque) layout with the bottom row
+ * first. It can be drawn on like any BufferedImage, and the finished pixels
+ * can be handed to a jME Image without a copy.
+ * <p>
+ * Java2D draws on such canvases via its generic (slower) loops, so they
+ * suit runtime generation, where keeping large masters out of the heap
+ * matters more than raw speed.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class DirectCanvas {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(DirectCanvas.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * view of the pixels for Java2D (not null)
+     */
+    final private BufferedImage image;
+    /**
+     * pixel storage, bottom row first (not null)
+     */
+    final private ByteBuffer data;
+    /**
+     * jME format of the pixels: RGBA8 or RGB8
+     */
+    final private Image.Format format;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a canvas with all pixels cleared to zero.
+     *
+     * @param width the width (in pixels, &gt;0)
+     * @param height the height (in pixels, &gt;0)
+     * @param opaque true to omit the alpha channel, otherwise false
+     */
+    public DirectCanvas(int width, int height, boolean opaque) {
+        Validate.positive(width, "width");
+        Validate.positive(height, "height");
+
+        int numBands = opaque ? 3 : 4;
+        this.format = opaque ? Image.Format.RGB8 : Image.Format.RGBA8;
+        this.data = BufferUtils.createByteBuffer(width * height * numBands);
+
+        int[] bandOffsets = opaque ? new int[]{0, 1, 2} : new int[]{0, 1, 2, 3};
+        SampleModel sampleModel = new PixelInterleavedSampleModel(
+                DataBuffer.TYPE_BYTE, width, height, numBands,
+                width * numBands, bandOffsets);
+        DataBuffer buffer
+                = new DirectDataBuffer(data, width * numBands, height);
+        WritableRaster raster
+                = Raster.createWritableRaster(sampleModel, buffer, null);
+        ComponentColorModel colorModel = new ComponentColorModel(
+                ColorSpace.getInstance(ColorSpace.CS_sRGB), !opaque, false,
+                opaque ? Transparency.OPAQUE : Transparency.TRANSLUCENT,
+                DataBuffer.TYPE_BYTE);
+        this.image = new BufferedImage(colorModel, raster, false, null);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Copy the specified image to a new canvas.
+     *
+     * @param source the image to copy (not null, unaffected)
+     * @param opaque true to omit the alpha channel, otherwise false
+     * @return a new canvas (not null)
+     */
+    public static DirectCanvas copyOf(BufferedImage source, boolean opaque) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        DirectCanvas result = new DirectCanvas(width, height, opaque);
+
+        ByteBuffer data = result.data;
+        int rowBytes = data.capacity() / height;
+        int[] argb = new int[width];
+        for (int y = 0; y < height; ++y) {
+            source.getRGB(0, y, width, 1, argb, 0, width);
+            data.position((height - 1 - y) * rowBytes);
+            for (int pixel : argb) {
+                data.put((byte) (pixel >> 16));
+                data.put((byte) (pixel >> 8));
+                data.put((byte) pixel);
+                if (!opaque) {
+                    data.put((byte) (pixel >>> 24));
+                }
+            }
+        }
+        data.clear();
+
+        return result;
+    }
+
+    /**
+     * Create a graphics context for drawing on the canvas.
+     *
+     * @return a new context (not null)
+     */
+    public Graphics2D createGraphics() {
+        Graphics2D result = image.createGraphics();
+        return result;
+    }
+
+    /**
+     * Access the canvas as a BufferedImage.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    public BufferedImage getImage() {
+        return image;
+    }
+
+    /**
+     * Render the specified recipe at its final size.
+     *
+     * @param recipe the recipe to render (not null)
+     * @return a new canvas (not null)
+     */
+    public static DirectCanvas render(Recipe recipe) {
+        DirectCanvas result = render(
+                recipe, recipe.getFinalWidth(), recipe.getFinalHeight());
+        return result;
+    }
+
+    /**
+     * Render the specified recipe at the specified size. The master is
+     * rendered on a temporary off-heap canvas and downsampled straight into
+     * the result by an area filter, so neither is ever copied to the heap.
+     * (The filter differs slightly from the ImgScalr-based Downsampler used
+     * by the build.)
+     *
+     * @param recipe the recipe to render (not null)
+     * @param width the width of the result (in pixels, &gt;0, &le;the
+     * recipe's master width)
+     * @param height the height of the result (in pixels, &gt;0, &le;the
+     * recipe's master height)
+     * @return a new canvas (not null)
+     */
+    public static DirectCanvas render(Recipe recipe, int width, int height) {
+        int masterWidth = recipe.getMasterWidth();
+        int masterHeight = recipe.getMasterHeight();
+        Validate.inRange(width, "width", 1, masterWidth);
+        Validate.inRange(height, "height", 1, masterHeight);
+
+        boolean opaque = recipe.isOpaque();
+        DirectCanvas master
+                = new DirectCanvas(masterWidth, masterHeight, opaque);
+        Graphics2D graphics = master.createGraphics();
+        recipe.render(graphics);
+        graphics.dispose();
+
+        if (width == masterWidth && height == masterHeight) {
+            return master;
+        }
+        DirectCanvas result = new DirectCanvas(width, height, opaque);
+        AreaFilter.downsample(master.data, masterWidth, masterHeight,
+                result.data, width, height);
+
+        return result;
+    }
+
+    /**
+     * Create a jME Image that shares the canvas's storage, without copying
+     * it. Further drawing on the canvas will be visible in the Image, but
+     * not in any texture already uploaded from it.
+     *
+     * @return a new Image in the sRGB color space (not null)
+     */
+    public Image toImage() {
+        Image result = new Image(format, image.getWidth(), image.getHeight(),
+                data, com.jme3.texture.image.ColorSpace.sRGB);
+        return result;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.awt.image.DataBuffer;
+import java.nio.ByteBuffer;
+import java.util.logging.Logger;
+
+/**
+ * A byte DataBuffer whose elements are stored in a (typically direct)
+ * ByteBuffer, with the rows in reverse order, as jMonkeyEngine expects.
+ * Java2D addresses the elements top row first, so element indices are
+ * mapped to the mirrored row of the buffer.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class DirectDataBuffer extends DataBuffer {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(DirectDataBuffer.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * pixel storage, bottom row first (not null)
+     */
+    final private ByteBuffer storage;
+    /**
+     * index of the last row
+     */
+    final private int lastRow;
+    /**
+     * number of bytes in each row (&gt;0)
+     */
+    final private int rowBytes;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a buffer backed by the specified storage.
+     *
+     * @param storage the pixel storage, bottom row first (not null, alias
+     * created)
+     * @param rowBytes the number of bytes in each row (&gt;0)
+     * @param numRows the number of rows (&gt;0)
+     */
+    DirectDataBuffer(ByteBuffer storage, int rowBytes, int numRows) {
+        super(TYPE_BYTE, rowBytes * numRows);
+        this.storage = storage;
+        this.rowBytes = rowBytes;
+        this.lastRow = numRows - 1;
+    }
+    // *************************************************************************
+    // DataBuffer methods
+
+    /**
+     * Return the specified element as an int.
+     *
+     * @param bank the bank index (must be 0)
+     * @param i the element index, top row first (&ge;0)
+     * @return the unsigned value (&ge;0, &lt;256)
+     */
+    @Override
+    public int getElem(int bank, int i) {
+        int result = storage.get(offset(i)) & 0xFF;
+        return result;
+    }
+
+    /**
+     * Alter the specified element.
+     *
+     * @param bank the bank index (must be 0)
+     * @param i the element index, top row first (&ge;0)
+     * @param value the new value (only the low 8 bits are used)
+     */
+    @Override
+    public void setElem(int bank, int i, int value) {
+        storage.put(offset(i), (byte) value);
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Map an element index to its offset in the storage.
+     *
+     * @param i the element index, top row first (&ge;0)
+     * @return the offset, bottom row first (&ge;0)
+     */
+    private int offset(int i) {
+        int row = i / rowBytes;
+        int result = (lastRow - row) * rowBytes + i - row * rowBytes;
+
+        return result;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.awt.image.BufferedImage;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+import org.imgscalr.Scalr;
+
+/**
+ * Utility methods to downsample supersampled images.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class Downsampler {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(Downsampler.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private Downsampler() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Downsample a master image to several sizes at once. The largest size is
+     * derived from the master, and each smaller size is derived from the
+     * next-larger one, so the cost of each level is proportional to its
+     * predecessor rather than to the master.
+     *
+     * @param master the supersampled image (not null, unaffected)
+     * @param widths the desired widths (in pixels, not null, each &gt;0)
+     * @param heights the desired heights (in pixels, not null, same length as
+     * widths, each &gt;0)
+     * @return a new array of images, in the same order as the sizes (each
+     * element not null)
+     */
+    public static BufferedImage[] cascade(
+            BufferedImage master, int[] widths, int[] heights) {
+        Validate.nonNull(master, "master");
+        int numSizes = widths.length;
+        Validate.require(heights.length == numSizes, "equal-length arrays");
+
+        // Visit the sizes in order of decreasing area:
+        BufferedImage[] result = new BufferedImage[numSizes];
+        BufferedImage previous = master;
+        for (int count = 0; count < numSizes; ++count) {
+            int largest = -1;
+            for (int i = 0; i < numSizes; ++i) {
+                if (result[i] == null && (largest == -1
+                        || area(widths, heights, i)
+                        > area(widths, heights, largest))) {
+                    largest = i;
+                }
+            }
+            previous = resize(previous, widths[largest], heights[largest]);
+            result[largest] = previous;
+        }
+
+        return result;
+    }
+
+    /**
+     * Downsample an image to the specified size using ImgScalr.
+     *
+     * @param source the image to downsample (not null, unaffected)
+     * @param width the desired width (in pixels, &gt;0)
+     * @param height the desired height (in pixels, &gt;0)
+     * @return a new image, or the source if it's already the desired size
+     */
+    public static BufferedImage resize(
+            BufferedImage source, int width, int height) {
+        Validate.positive(width, "width");
+        Validate.positive(height, "height");
+
+        BufferedImage result;
+        if (source.getWidth() == width && source.getHeight() == height) {
+            result = source;
+        } else {
+            result = Scalr.resize(source, Scalr.Method.ULTRA_QUALITY,
+                    Scalr.Mode.AUTOMATIC, width, height, Scalr.OP_ANTIALIAS);
+            if (result.getWidth() != width || result.getHeight() != height) {
+                /*
+                 * ImgScalr's incremental scaling stops short on tiny images
+                 * (such as the last few mipmap levels), so finish in one step.
+                 */
+                result = Scalr.resize(source, Scalr.Method.BALANCED,
+                        Scalr.Mode.FIT_EXACT, width, height);
+            }
+        }
+
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Calculate the area of the indexed size.
+     *
+     * @param widths the widths (not null, unaffected)
+     * @param heights the heights (not null, unaffected)
+     * @param index the index of the size (&ge;0)
+     * @return the area (in square pixels)
+     */
+    private static long area(int[] widths, int[] heights, int index) {
+        long result = (long) widths[index] * heights[index];
+        return result;
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.util.logging.Logger;
+
+/**
+ * Utility methods to encode and decode single-channel EAC blocks: the alpha
+ * half of an ETC2 RGBA8 block, or an entire R11 block.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class EacBlock {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * modifier tables, indexed by table and then by pixel index
+     */
+    final private static int[][] modifiers = {
+        {-3, -6, -9, -15, 2, 5, 8, 14}, {-3, -7, -10, -13, 2, 6, 9, 12},
+        {-2, -5, -8, -13, 1, 4, 7, 12}, {-2, -4, -6, -13, 1, 3, 5, 12},
+        {-3, -6, -8, -12, 2, 5, 7, 11}, {-3, -7, -9, -11, 2, 6, 8, 10},
+        {-4, -7, -8, -11, 3, 6, 7, 10}, {-3, -5, -8, -11, 2, 4, 7, 10},
+        {-2, -6, -8, -10, 1, 5, 7, 9}, {-2, -5, -8, -10, 1, 4, 7, 9},
+        {-2, -4, -8, -10, 1, 3, 7, 9}, {-2, -5, -7, -10, 1, 4, 6, 9},
+        {-3, -4, -7, -10, 2, 3, 6, 9}, {-1, -2, -3, -10, 0, 1, 2, 9},
+        {-4, -6, -8, -9, 3, 5, 7, 8}, {-3, -5, -7, -9, 2, 4, 6, 8}
+    };
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(EacBlock.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private EacBlock() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Decode one sample of a block.
+     *
+     * @param src the encoded data (not null, unaffected)
+     * @param srcPos the index of the block's first byte in src (&ge;0)
+     * @param x the pixel's X coordinate in the block (&ge;0, &lt;4)
+     * @param y the pixel's Y coordinate in the block (&ge;0, &lt;4)
+     * @param eleven true for R11 (11-bit samples), false for 8-bit alpha
+     * @return the sample (&ge;0, &le;2047 for R11 or &le;255 for alpha)
+     */
+    static int decode(byte[] src, int srcPos, int x, int y, boolean eleven) {
+        long bits = 0L;
+        for (int i = 0; i < 8; ++i) {
+            bits = (bits << 8) | (src[srcPos + i] & 0xFF);
+        }
+        int base = (int) (bits >>> 56);
+        int multiplier = (int) (bits >>> 52) & 0xF;
+        int table = (int) (bits >>> 48) & 0xF;
+        int index = (int) (bits >>> (45 - 3 * (4 * x + y))) & 0x7;
+        int result = sample(base, multiplier, modifiers[table][index], eleven);
+
+        return result;
+    }
+
+    /**
+     * Encode a block, searching every modifier table for the multiplier and
+     * base codeword that fit the samples' range.
+     *
+     * @param values the 16 8-bit samples, in row-major order (not null, each
+     * &ge;0 and &le;255, unaffected)
+     * @param eleven true for R11 (11-bit samples), false for 8-bit alpha
+     * @param dest the destination array (not null, modified)
+     * @param destPos the index of the block's first byte in dest (&ge;0)
+     */
+    static void encode(
+            int[] values, boolean eleven, byte[] dest, int destPos) {
+        int scale = eleven ? 8 : 1;
+        int[] targets = new int[BlockRows.blockPixels];
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < BlockRows.blockPixels; ++i) {
+            targets[i] = eleven ? Math.round(values[i] * 2047f / 255f)
+                    : values[i];
+            min = Math.min(min, targets[i]);
+            max = Math.max(max, targets[i]);
+        }
+        /*
+         * Table 13 contains a zero modifier, which suits a uniform block.
+         */
+        long best = eleven ? (long) (min / 8) << 56 : (long) min << 56;
+        best |= 1L << 52 | 13L << 48;
+        long bestError = error(best, targets, eleven);
+        for (int table = 0; table < 16 && bestError > 0L; ++table) {
+            int[] mods = modifiers[table];
+            float span = mods[7] - mods[3];
+            int m0 = Math.round((max - min) / (span * scale));
+            for (int m = Math.max(1, m0 - 1); m <= Math.min(15, m0 + 1); ++m) {
+                float center = (min + max) / 2f - (eleven ? 4 : 0)
+                        - m * scale * (mods[3] + mods[7]) / 2f;
+                int b0 = Math.round(center / scale);
+                for (int base = b0 - 1; base <= b0 + 1; ++base) {
+                    if (base < 0 || base > 255) {
+                        continue;
+                    }
+                    long trial = (long) base << 56 | (long) m << 52
+                            | (long) table << 48;
+                    long trialError = error(trial, targets, eleven);
+                    if (trialError < bestError) {
+                        bestError = trialError;
+                        best = trial;
+                    }
+                }
+            }
+        }
+
+        best = pack(best, targets, eleven);
+        for (int i = 0; i < 8; ++i) {
+            dest[destPos + i] = (byte) (best >>> (56 - 8 * i));
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Measure how well the specified block parameters fit the samples.
+     *
+     * @param header the base codeword, multiplier, and table in bits 63-48
+     * @param targets the samples to approximate (not null, unaffected)
+     * @param eleven true for R11 (11-bit samples), false for 8-bit alpha
+     * @return the total squared error (&ge;0)
+     */
+    private static long error(long header, int[] targets, boolean eleven) {
+        int base = (int) (header >>> 56);
+        int multiplier = (int) (header >>> 52) & 0xF;
+        int[] mods = modifiers[(int) (header >>> 48) & 0xF];
+
+        long result = 0L;
+        for (int target : targets) {
+            int index = nearest(base, multiplier, mods, target, eleven);
+            long delta = sample(base, multiplier, mods[index], eleven)
+                    - target;
+            result += delta * delta;
+        }
+
+        return result;
+    }
+
+    /**
+     * Find the index whose sample is nearest to the target.
+     *
+     * @param base the base codeword (&ge;0, &le;255)
+     * @param multiplier the multiplier (&ge;0, &le;15)
+     * @param mods the modifier table (not null, unaffected)
+     * @param target the sample to approximate
+     * @param eleven true for R11 (11-bit samples), false for 8-bit alpha
+     * @return the index (&ge;0, &lt;8)
+     */
+    private static int nearest(int base, int multiplier, int[] mods,
+            int target, boolean eleven) {
+        int result = 0;
+        int bestDelta = Integer.MAX_VALUE;
+        for (int index = 0; index < 8; ++index) {
+            int delta = Math.abs(
+                    sample(base, multiplier, mods[index], eleven) - target);
+            if (delta < bestDelta) {
+                bestDelta = delta;
+                result = index;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Add the best index for each sample to the specified block parameters.
+     *
+     * @param header the base codeword, multiplier, and table in bits 63-48
+     * @param targets the samples to approximate (not null, unaffected)
+     * @param eleven true for R11 (11-bit samples), false for 8-bit alpha
+     * @return the complete block
+     */
+    private static long pack(long header, int[] targets, boolean eleven) {
+        int base = (int) (header >>> 56);
+        int multiplier = (int) (header >>> 52) & 0xF;
+        int[] mods = modifiers[(int) (header >>> 48) & 0xF];
+
+        long result = header;
+        for (int i = 0; i < BlockRows.blockPixels; ++i) {
+            int index = nearest(base, multiplier, mods, targets[i], eleven);
+            int x = i % 4;
+            int y = i / 4;
+            result |= (long) index << (45 - 3 * (4 * x + y));
+        }
+
+        return result;
+    }
+
+    /**
+     * Decode a sample from its parameters.
+     *
+     * @param base the base codeword (&ge;0, &le;255)
+     * @param multiplier the multiplier (&ge;0, &le;15)
+     * @param modifier the modifier from the table
+     * @param eleven true for R11 (11-bit samples), false for 8-bit alpha
+     * @return the sample
+     */
+    private static int sample(
+            int base, int multiplier, int modifier, boolean eleven) {
+        int result;
+        if (!eleven) {
+            result = Math.max(0, Math.min(255, base + modifier * multiplier));
+        } else if (multiplier == 0) {
+            result = Math.max(0, Math.min(2047, 8 * base + 4 + modifier));
+        } else {
+            result = 8 * base + 4 + 8 * modifier * multiplier;
+            result = Math.max(0, Math.min(2047, result));
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.util.logging.Logger;
+
+/**
+ * Utility methods to encode the color blocks of ETC2, using the individual,
+ * differential, and planar modes. The T and H modes are never emitted.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class EtcBlock {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * intensity modifiers, indexed by table and then by magnitude
+     */
+    final private static int[][] intensities = {
+        {2, 8}, {5, 17}, {9, 29}, {13, 42},
+        {18, 60}, {24, 80}, {33, 106}, {47, 183}
+    };
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(EtcBlock.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private EtcBlock() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Encode the colors of a block, trying both orientations in individual
+     * and differential modes, as well as planar mode, and keeping whichever
+     * has the least squared error.
+     *
+     * @param argb the 16 pixels, in row-major order (not null, unaffected)
+     * @param dest the destination array (not null, modified)
+     * @param destPos the index of the block's first byte in dest (&ge;0)
+     */
+    static void encode(int[] argb, byte[] dest, int destPos) {
+        int[][] rgb = new int[BlockRows.blockPixels][3];
+        for (int i = 0; i < BlockRows.blockPixels; ++i) {
+            for (int c = 0; c < 3; ++c) {
+                rgb[i][c] = (argb[i] >> (16 - 8 * c)) & 0xFF;
+            }
+        }
+
+        long best = EtcPlanar.encode(rgb);
+        long bestError = 0L;
+        for (int i = 0; i < BlockRows.blockPixels; ++i) {
+            int decoded = EtcPlanar.decode(best, i % 4, i / 4);
+            bestError += distance(rgb[i], decoded);
+        }
+        for (int mode = 0; mode < 4 && bestError > 0L; ++mode) {
+            long[] trial = encodeMode(rgb, (mode & 0x1) != 0, mode >= 2);
+            if (trial != null && trial[1] < bestError) {
+                best = trial[0];
+                bestError = trial[1];
+            }
+        }
+
+        for (int i = 0; i < 8; ++i) {
+            dest[destPos + i] = (byte) (best >>> (56 - 8 * i));
+        }
+    }
+
+    /**
+     * Look up the intensity modifier for a pixel index.
+     *
+     * @param table the table index (&ge;0, &lt;8)
+     * @param index the pixel index (&ge;0, &lt;4)
+     * @return the modifier
+     */
+    static int modifier(int table, int index) {
+        int magnitude = intensities[table][index & 0x1];
+        int result = (index < 2) ? magnitude : -magnitude;
+
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Clamp a channel value to the range of a byte.
+     *
+     * @param value the input value
+     * @return the clamped value (&ge;0, &le;255)
+     */
+    private static int clamp(int value) {
+        int result = Math.max(0, Math.min(255, value));
+        return result;
+    }
+
+    /**
+     * Calculate the squared distance between two colors.
+     *
+     * @param rgb the red, green, and blue of the first color (not null,
+     * unaffected)
+     * @param argb the second color
+     * @return the distance (&ge;0)
+     */
+    private static long distance(int[] rgb, int argb) {
+        long result = 0L;
+        for (int c = 0; c < 3; ++c) {
+            long delta = rgb[c] - ((argb >> (16 - 8 * c)) & 0xFF);
+            result += delta * delta;
+        }
+
+        return result;
+    }
+
+    /**
+     * Encode a block in individual or differential mode, using the mean color
+     * of each sub-block as its base.
+     *
+     * @param rgb the red, green, and blue of each pixel (not null, unaffected)
+     * @param flip true for 4x2 sub-blocks, false for 2x4
+     * @param differential true for differential mode, false for individual
+     * @return a new array containing the block and its squared error, or null
+     * if the base colors are too far apart for differential mode
+     */
+    private static long[] encodeMode(
+            int[][] rgb, boolean flip, boolean differential) {
+        float[][] means = new float[2][3];
+        for (int i = 0; i < BlockRows.blockPixels; ++i) {
+            int sub = (flip ? i / 4 : i % 4) / 2;
+            for (int c = 0; c < 3; ++c) {
+                means[sub][c] += rgb[i][c] / 8f;
+            }
+        }
+
+        int maxCode = differential ? 31 : 15;
+        int[][] codes = new int[2][3];
+        int[][] bases = new int[2][3];
+        int hi = (flip ? 0x1 : 0x0) | (differential ? 0x2 : 0x0);
+        for (int c = 0; c < 3; ++c) {
+            for (int sub = 0; sub < 2; ++sub) {
+                int code = Math.round(means[sub][c] * maxCode / 255f);
+                codes[sub][c] = code;
+                bases[sub][c] = differential ? code << 3 | code >> 2
+                        : 17 * code;
+            }
+            int shift = 24 - 8 * c;
+            int delta = codes[1][c] - codes[0][c];
+            if (!differential) {
+                hi |= (codes[0][c] << 4 | codes[1][c]) << shift;
+            } else if (delta < -4 || delta > 3) {
+                return null;
+            } else {
+                hi |= (codes[0][c] << 3 | delta & 0x7) << shift;
+            }
+        }
+
+        long error = 0L;
+        int lo = 0;
+        for (int sub = 0; sub < 2; ++sub) {
+            long bestError = Long.MAX_VALUE;
+            int bestTable = 0;
+            int bestBits = 0;
+            for (int table = 0; table < 8; ++table) {
+                long tableError = 0L;
+                int bits = 0;
+                for (int i = 0; i < BlockRows.blockPixels; ++i) {
+                    if ((flip ? i / 4 : i % 4) / 2 != sub) {
+                        continue;
+                    }
+                    long pixelError = Long.MAX_VALUE;
+                    int pixelIndex = 0;
+                    for (int index = 0; index < 4; ++index) {
+                        int argb = 0;
+                        for (int c = 0; c < 3; ++c) {
+                            int value = clamp(bases[sub][c]
+                                    + modifier(table, index));
+                            argb |= value << (16 - 8 * c);
+                        }
+                        long d = distance(rgb[i], argb);
+                        if (d < pixelError) {
+                            pixelError = d;
+                            pixelIndex = index;
+                        }
+                    }
+                    tableError += pixelError;
+                    int k = 4 * (i % 4) + i / 4;
+                    bits |= (pixelIndex >> 1) << (16 + k)
+                            | (pixelIndex & 0x1) << k;
+                }
+                if (tableError < bestError) {
+                    bestError = tableError;
+                    bestTable = table;
+                    bestBits = bits;
+                }
+            }
+            error += bestError;
+            hi |= bestTable << (sub == 0 ? 5 : 2);
+            lo |= bestBits;
+        }
+        long[] result = {(long) hi << 32 | lo & 0xFFFFFFFFL, error};
+
+        return result;
+    }
+}
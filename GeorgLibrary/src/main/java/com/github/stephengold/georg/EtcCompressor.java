@@ -0,0 +1,110 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.awt.image.BufferedImage;
+import java.util.logging.Logger;
+
+/**
+ * Utility methods to compress images into ETC2 RGB8, ETC2 RGBA8 (with EAC
+ * alpha), or EAC R11 blocks, one task per row of 4x4 blocks. R11 encodes the
+ * alpha channel.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class EtcCompressor {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(EtcCompressor.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private EtcCompressor() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Compress the specified image. Blocks that extend past the right or
+     * bottom edge are padded by repeating the edge pixels.
+     *
+     * @param image the image to compress (not null, unaffected)
+     * @param format the compressed format (not null)
+     * @param parallel true to encode block rows in parallel, false to encode
+     * them on the calling thread
+     * @return a new array of blocks, top row first
+     */
+    public static byte[] compress(
+            BufferedImage image, final EtcFormat format, boolean parallel) {
+        BlockEncoder encoder = new BlockEncoder() {
+            @Override
+            public void encode(int[] argb, byte[] dest, int destPos) {
+                encodeBlock(argb, format, dest, destPos);
+            }
+        };
+        byte[] result = BlockRows.encode(
+                image, encoder, format.blockBytes(), parallel);
+
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Encode a single block.
+     *
+     * @param argb the 16 pixels, in row-major order (not null, unaffected)
+     * @param format the compressed format (not null)
+     * @param dest the destination array (not null, modified)
+     * @param destPos the index of the block's first byte in dest (&ge;0)
+     */
+    private static void encodeBlock(
+            int[] argb, EtcFormat format, byte[] dest, int destPos) {
+        if (format == EtcFormat.Rgb8) {
+            EtcBlock.encode(argb, dest, destPos);
+            return;
+        }
+
+        int[] alphas = new int[BlockRows.blockPixels];
+        for (int i = 0; i < BlockRows.blockPixels; ++i) {
+            alphas[i] = argb[i] >>> 24;
+        }
+        boolean eleven = (format == EtcFormat.R11);
+        EacBlock.encode(alphas, eleven, dest, destPos);
+        if (format == EtcFormat.Rgba8) {
+            EtcBlock.encode(argb, dest, destPos + 8);
+        }
+    }
+}
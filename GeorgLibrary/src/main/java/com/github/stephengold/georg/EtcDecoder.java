@@ -0,0 +1,175 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.awt.image.BufferedImage;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * Utility methods to decode the blocks written by EtcCompressor, for instance
+ * to measure the error it introduced.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class EtcDecoder {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(EtcDecoder.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private EtcDecoder() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Decode an image that was compressed by EtcCompressor. Samples of R11
+     * are returned in the red channel, as a GPU would return them.
+     *
+     * @param blocks the compressed blocks (not null, unaffected)
+     * @param width the width of the image (in pixels, &gt;0)
+     * @param height the height of the image (in pixels, &gt;0)
+     * @param format the compressed format (not null)
+     * @return a new image of TYPE_INT_ARGB
+     */
+    public static BufferedImage decode(
+            byte[] blocks, int width, int height, EtcFormat format) {
+        Validate.positive(width, "width");
+        Validate.positive(height, "height");
+
+        BufferedImage result
+                = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        for (int y = 0; y < height; ++y) {
+            for (int x = 0; x < width; ++x) {
+                int pos = BlockRows.blockIndex(x, y, width)
+                        * format.blockBytes();
+                int argb;
+                if (format == EtcFormat.R11) {
+                    int red = EacBlock.decode(blocks, pos, x % 4, y % 4, true);
+                    red = Math.round(red * 255f / 2047f);
+                    argb = 0xFF000000 | red << 16;
+                } else if (format == EtcFormat.Rgba8) {
+                    int alpha
+                            = EacBlock.decode(blocks, pos, x % 4, y % 4, false);
+                    int rgb = colorAt(blocks, pos + 8, x % 4, y % 4);
+                    argb = alpha << 24 | rgb & 0xFFFFFF;
+                } else {
+                    argb = colorAt(blocks, pos, x % 4, y % 4);
+                }
+                result.setRGB(x, y, argb);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Measure the root-mean-square error of a compressed image, over the
+     * channels that its format stores. For R11 the source's alpha channel is
+     * compared with the decoded red channel.
+     *
+     * @param source the uncompressed image (not null, unaffected)
+     * @param blocks the compressed blocks (not null, unaffected)
+     * @param format the compressed format (not null)
+     * @return the error (in 8-bit units, &ge;0)
+     */
+    public static double rmse(
+            BufferedImage source, byte[] blocks, EtcFormat format) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        BufferedImage decoded = decode(blocks, width, height, format);
+        int numChannels = format == EtcFormat.Rgba8 ? 4
+                : format == EtcFormat.Rgb8 ? 3 : 1;
+        double result = BlockRows.rmse(source, decoded, numChannels);
+
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Decode one pixel of an ETC2 color block.
+     *
+     * @param src the encoded data (not null, unaffected)
+     * @param srcPos the index of the block's first byte in src (&ge;0)
+     * @param x the pixel's X coordinate in the block (&ge;0, &lt;4)
+     * @param y the pixel's Y coordinate in the block (&ge;0, &lt;4)
+     * @return the pixel color (ARGB, opaque)
+     */
+    private static int colorAt(byte[] src, int srcPos, int x, int y) {
+        long block = 0L;
+        for (int i = 0; i < 8; ++i) {
+            block = (block << 8) | (src[srcPos + i] & 0xFF);
+        }
+        int hi = (int) (block >>> 32);
+        int lo = (int) block;
+
+        boolean flip = (hi & 0x1) != 0;
+        int sub = (flip ? y : x) / 2;
+        int[] base = new int[3];
+        for (int c = 0; c < 3; ++c) {
+            int shift = 24 - 8 * c;
+            if ((hi & 0x2) == 0) { // individual mode
+                int code = (hi >>> (shift + 4 * (1 - sub))) & 0xF;
+                base[c] = 17 * code;
+            } else {
+                int code = (hi >>> (shift + 3)) & 0x1F;
+                int sum = code + EtcPlanar.signed3(hi >> shift);
+                if (sum < 0 || sum > 31) {
+                    if (c < 2) {
+                        throw new IllegalArgumentException("T or H mode");
+                    }
+                    return EtcPlanar.decode(block, x, y);
+                }
+                code = (sub == 0) ? code : sum;
+                base[c] = code << 3 | code >> 2;
+            }
+        }
+
+        int table = (hi >> (sub == 0 ? 5 : 2)) & 0x7;
+        int k = 4 * x + y;
+        int index = ((lo >>> (16 + k)) & 0x1) << 1 | (lo >>> k) & 0x1;
+        int result = 0xFF000000;
+        for (int c = 0; c < 3; ++c) {
+            int value = base[c] + EtcBlock.modifier(table, index);
+            value = Math.max(0, Math.min(255, value));
+            result |= value << (16 - 8 * c);
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import com.jme3.texture.Image;
+
+/**
+ * Enumerate the ETC2/EAC formats written to KTX files.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public enum EtcFormat {
+    // *************************************************************************
+    // values
+
+    /**
+     * ETC2 RGB8, for opaque textures (jMonkeyEngine's ETC2 format)
+     */
+    Rgb8(0x9274, 0x1907, 8),
+    /**
+     * ETC2 RGBA8 with EAC alpha, for translucent textures
+     */
+    Rgba8(0x9278, 0x1908, 16),
+    /**
+     * EAC R11, for alpha-only textures, with alpha in the red channel
+     */
+    R11(0x9270, 0x1903, 8);
+    // *************************************************************************
+    // fields
+
+    /**
+     * OpenGL base internal format: GL_RGB, GL_RGBA, or GL_RED
+     */
+    final private int baseFormat;
+    /**
+     * size of each block (in bytes)
+     */
+    final private int blockBytes;
+    /**
+     * OpenGL internal format, such as GL_COMPRESSED_RGB8_ETC2
+     */
+    final private int internalFormat;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Construct an enum value.
+     *
+     * @param internalFormat the OpenGL internal format
+     * @param baseFormat the OpenGL base internal format
+     * @param blockBytes the size of each block (in bytes)
+     */
+    EtcFormat(int internalFormat, int baseFormat, int blockBytes) {
+        this.internalFormat = internalFormat;
+        this.baseFormat = baseFormat;
+        this.blockBytes = blockBytes;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the OpenGL base internal format.
+     *
+     * @return the enum value
+     */
+    public int baseFormat() {
+        return baseFormat;
+    }
+
+    /**
+     * Return the size of each block.
+     *
+     * @return the size (in bytes: 8 or 16)
+     */
+    public int blockBytes() {
+        return blockBytes;
+    }
+
+    /**
+     * Return the OpenGL internal format.
+     *
+     * @return the enum value
+     */
+    public int internalFormat() {
+        return internalFormat;
+    }
+
+    /**
+     * Select the ETC format for a texture whose minimal format is known.
+     *
+     * @param minimal the format found by ChannelReducer (not null)
+     * @return the format to write (not null)
+     */
+    public static EtcFormat select(Image.Format minimal) {
+        EtcFormat result;
+        if (minimal == Image.Format.Alpha8) {
+            result = R11;
+        } else if (minimal == Image.Format.Luminance8
+                || minimal == Image.Format.RGB8) {
+            result = Rgb8;
+        } else {
+            result = Rgba8;
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.util.logging.Logger;
+
+/**
+ * Utility methods to encode and decode ETC2 blocks in planar mode, which
+ * suits smooth gradients.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class EtcPlanar {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * number of bits in each channel: red, green, and blue
+     */
+    final private static int[] channelBits = {6, 7, 6};
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(EtcPlanar.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private EtcPlanar() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Decode one pixel of a planar-mode block.
+     *
+     * @param block the block's 64 bits
+     * @param x the pixel's X coordinate in the block (&ge;0, &lt;4)
+     * @param y the pixel's Y coordinate in the block (&ge;0, &lt;4)
+     * @return the pixel color (ARGB, opaque)
+     */
+    static int decode(long block, int x, int y) {
+        int hi = (int) (block >>> 32);
+        int lo = (int) block;
+        int[] origin = {(hi >> 25) & 0x3F,
+            ((hi >> 24) & 0x1) << 6 | (hi >> 17) & 0x3F,
+            ((hi >> 16) & 0x1) << 5 | ((hi >> 11) & 0x3) << 3 | (hi >> 7) & 0x7
+        };
+        int[] horizontal = {((hi >> 2) & 0x1F) << 1 | hi & 0x1,
+            (lo >>> 25) & 0x7F, (lo >> 19) & 0x3F
+        };
+        int[] vertical = {(lo >> 13) & 0x3F, (lo >> 6) & 0x7F, lo & 0x3F};
+        int[][] colors = {origin, horizontal, vertical};
+
+        int result = 0xFF000000;
+        for (int c = 0; c < 3; ++c) {
+            int bits = channelBits[c];
+            int[] e = new int[3];
+            for (int j = 0; j < 3; ++j) {
+                e[j] = colors[j][c] << (8 - bits)
+                        | colors[j][c] >> (2 * bits - 8);
+            }
+            int value = (x * (e[1] - e[0]) + y * (e[2] - e[0]) + 4 * e[0] + 2)
+                    >> 2;
+            value = Math.max(0, Math.min(255, value));
+            result |= value << (16 - 8 * c);
+        }
+
+        return result;
+    }
+
+    /**
+     * Fit a plane to the colors of a block and encode it. The spare bits are
+     * set so that decoders detect planar mode: the red and green differential
+     * sums stay in range while the blue one overflows.
+     *
+     * @param rgb the red, green, and blue of each pixel, in row-major order
+     * (not null, unaffected)
+     * @return the block's 64 bits
+     */
+    static long encode(int[][] rgb) {
+        int[][] colors = new int[3][3]; // origin, horizontal, and vertical
+        for (int c = 0; c < 3; ++c) {
+            float sum = 0f;
+            float sumX = 0f;
+            float sumY = 0f;
+            for (int i = 0; i < BlockRows.blockPixels; ++i) {
+                sum += rgb[i][c];
+                sumX += (i % 4 - 1.5f) * rgb[i][c];
+                sumY += (i / 4 - 1.5f) * rgb[i][c];
+            }
+            float slopeX = sumX / 20f;
+            float slopeY = sumY / 20f;
+            float origin = sum / 16f - 1.5f * (slopeX + slopeY);
+            float[] values = {origin, origin + 4f * slopeX,
+                origin + 4f * slopeY};
+
+            int maxCode = (1 << channelBits[c]) - 1;
+            for (int j = 0; j < 3; ++j) {
+                int code = Math.round(values[j] * maxCode / 255f);
+                colors[j][c] = Math.max(0, Math.min(maxCode, code));
+            }
+        }
+
+        int[] o = colors[0];
+        int[] h = colors[1];
+        int[] v = colors[2];
+        int hi = o[0] << 25 | (o[1] >> 6) << 24 | (o[1] & 0x3F) << 17
+                | (o[2] >> 5) << 16 | ((o[2] >> 3) & 0x3) << 11
+                | (o[2] & 0x7) << 7 | (h[0] >> 1) << 2 | 0x2 | h[0] & 0x1;
+        int lo = h[1] << 25 | h[2] << 19 | v[0] << 13 | v[1] << 6 | v[2];
+        /*
+         * Keep the red and green sums in range, then make blue overflow.
+         */
+        if (((hi >>> 27) & 0xF) + signed3(hi >> 24) < 0) {
+            hi |= 1 << 31;
+        }
+        if (((hi >> 19) & 0xF) + signed3(hi >> 16) < 0) {
+            hi |= 1 << 23;
+        }
+        int blueBase = (hi >> 11) & 0x3;
+        int blueDelta = (hi >> 8) & 0x3;
+        if (blueBase + blueDelta > 3) {
+            hi |= 0x7 << 13;
+        } else {
+            hi |= 1 << 10;
+        }
+        long result = (long) hi << 32 | lo & 0xFFFFFFFFL;
+
+        return result;
+    }
+
+    /**
+     * Extract a signed 3-bit delta from the low-order bits of an integer.
+     *
+     * @param bits the integer
+     * @return the delta (&ge;-4, &le;3)
+     */
+    static int signed3(int bits) {
+        int result = (bits << 29) >> 29;
+        return result;
+    }
+}
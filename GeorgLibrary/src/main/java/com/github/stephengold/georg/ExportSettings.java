@@ -0,0 +1,244 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.util.logging.Logger;
+
+/**
+ * Access to the system properties that configure texture export. Each property
+ * name starts with "georg." so that Gradle can forward them to the generators,
+ * for instance: {@code ./gradlew textures -Dgeorg.scales=1,2,4}
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class ExportSettings {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(ExportSettings.class.getName());
+    /**
+     * prefix of every property name
+     */
+    final private static String prefix = "georg.";
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private ExportSettings() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the width of the gutter around each image in an atlas, as
+     * configured by the "georg.atlasGutter" property.
+     *
+     * @return the width (in pixels, &ge;0)
+     */
+    public static int atlasGutter() {
+        int result = getInt("atlasGutter", 2);
+        return result;
+    }
+
+    /**
+     * Return the maximum width and height of an atlas page, as configured by
+     * the "georg.atlasSize" property.
+     *
+     * @return the size (in pixels, &gt;0)
+     */
+    public static int atlasSize() {
+        int result = getInt("atlasSize", 1024);
+        if (result == 0) {
+            throw new IllegalArgumentException(prefix + "atlasSize = 0");
+        }
+
+        return result;
+    }
+
+    /**
+     * Return the filesystem path to the directory/folder for cached master
+     * images, as configured by the "georg.cacheDir" property.
+     *
+     * @return the path, or null if caching is disabled
+     */
+    public static String cacheDirPath() {
+        String result = getString("cacheDir", null);
+        if (result != null && result.isEmpty()) {
+            result = null;
+        }
+
+        return result;
+    }
+
+    /**
+     * Return the largest alpha-weighted color difference for which a texture
+     * is still written in Alpha8 format, as configured by the
+     * "georg.channelTolerance" property.
+     *
+     * @return the tolerance (&ge;0, &le;255)
+     */
+    public static int channelTolerance() {
+        int result = getInt("channelTolerance", 0);
+        if (result > 255) {
+            throw new IllegalArgumentException(
+                    prefix + "channelTolerance = " + result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Return the GPU compression scheme for DDS files, as configured by the
+     * "georg.compression" property.
+     *
+     * @return the enum value (not null)
+     */
+    public static Compression compression() {
+        String text = getString("compression", "off");
+        Compression result = Compression.parse(text.trim());
+
+        return result;
+    }
+
+    /**
+     * Test whether mipmapped textures should be written, as configured by the
+     * "georg.mipmaps" property.
+     *
+     * @return true to write a DDS file for each variant, otherwise false
+     */
+    public static boolean mipmaps() {
+        String text = getString("mipmaps", "false");
+        boolean result = Boolean.parseBoolean(text);
+
+        return result;
+    }
+
+    /**
+     * Return the filesystem path to the directory/folder for output.
+     *
+     * @return the path (not null, not empty)
+     */
+    public static String outputDirPath() {
+        String result = getString("outputDir", "build");
+        return result;
+    }
+
+    /**
+     * Return the power-of-two mode, as configured by the "georg.powerOfTwo"
+     * property.
+     *
+     * @return the enum value (not null)
+     */
+    public static PowerOfTwo powerOfTwo() {
+        String text = getString("powerOfTwo", "off");
+        PowerOfTwo result = PowerOfTwo.parse(text.trim());
+
+        return result;
+    }
+
+    /**
+     * Return the default scale factors of the resolution ladder, as configured
+     * by the "georg.scales" property.
+     *
+     * @return a new array of factors (not null, not empty, each &ge;1)
+     */
+    public static int[] scales() {
+        int[] result = getIntArray("scales", "1");
+        return result;
+    }
+
+    /**
+     * Read a non-negative integer from the named property.
+     *
+     * @param name the property name, without its prefix (not null)
+     * @param defaultValue the value to use if the property isn't set (&ge;0)
+     * @return the value (&ge;0)
+     */
+    static int getInt(String name, int defaultValue) {
+        String text = getString(name, Integer.toString(defaultValue));
+        int result;
+        try {
+            result = Integer.parseInt(text.trim());
+        } catch (NumberFormatException exception) {
+            throw new IllegalArgumentException(
+                    prefix + name + " = " + text, exception);
+        }
+        if (result < 0) {
+            throw new IllegalArgumentException(prefix + name + " = " + text);
+        }
+
+        return result;
+    }
+
+    /**
+     * Read the named property.
+     *
+     * @param name the property name, without its prefix (not null)
+     * @param defaultValue the value to use if the property isn't set
+     * @return the value
+     */
+    static String getString(String name, String defaultValue) {
+        String result = System.getProperty(prefix + name, defaultValue);
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Read a comma-separated list of positive integers from the named property.
+     *
+     * @param name the property name, without its prefix (not null)
+     * @param defaultValue the value to use if the property isn't set (not null)
+     * @return a new array (not null, not empty, each element &ge;1)
+     */
+    private static int[] getIntArray(String name, String defaultValue) {
+        String text = getString(name, defaultValue);
+        String[] items = text.split(",");
+        int[] result = new int[items.length];
+        for (int i = 0; i < items.length; ++i) {
+            String item = items[i].trim();
+            try {
+                result[i] = Integer.parseInt(item);
+            } catch (NumberFormatException exception) {
+                throw new IllegalArgumentException(
+                        prefix + name + " = " + text, exception);
+            }
+            if (result[i] < 1) {
+                throw new IllegalArgumentException(
+                        prefix + name + " = " + text);
+            }
+        }
+
+        return result;
+    }
+}
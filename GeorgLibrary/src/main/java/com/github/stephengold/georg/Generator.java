@@ -0,0 +1,203 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * Utility methods to generate texture assets from recipes.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class Generator {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(Generator.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private Generator() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Generate all variants of the specified recipe and write them to files.
+     * The master image is rendered only once. Each variant is written with
+     * the fewest channels that can represent it, along with a file that names
+     * the matching jMonkeyEngine image format. If mipmaps are enabled, each
+     * variant is also written as a DDS file with a full mipmap chain. If a
+     * power-of-two mode is configured, the recipe is re-targeted first.
+     *
+     * @param recipe the recipe to use (not null)
+     */
+    public static void generate(Recipe recipe) {
+        Validate.nonNull(recipe, "recipe");
+
+        RecipeJob job = new RecipeJob(recipe);
+        job.render();
+        job.downsample();
+        job.encode();
+    }
+
+    /**
+     * Determine the type of the master image for the specified recipe.
+     *
+     * @param recipe the recipe to analyze (not null, unaffected)
+     * @return an image type, such as {@code BufferedImage.TYPE_4BYTE_ABGR}
+     */
+    public static int imageType(Recipe recipe) {
+        int result = recipe.isOpaque()
+                ? BufferedImage.TYPE_3BYTE_BGR : BufferedImage.TYPE_4BYTE_ABGR;
+        return result;
+    }
+
+    /**
+     * Obtain the master image of the specified recipe, from the master cache
+     * if possible, otherwise by rendering it (and then caching it).
+     *
+     * @param recipe the recipe to use (not null)
+     * @return a new image (not null)
+     */
+    public static BufferedImage obtainMaster(Recipe recipe) {
+        BufferedImage result = MasterCache.load(recipe);
+        if (result == null) {
+            result = renderMaster(recipe);
+            MasterCache.store(recipe, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Render the master image of the specified recipe on a canvas from the
+     * CanvasPool.
+     *
+     * @param recipe the recipe to use (not null)
+     * @return a cleared and rendered canvas (not null)
+     */
+    public static BufferedImage renderMaster(Recipe recipe) {
+        BufferedImage result = CanvasPool.acquire(recipe.getMasterWidth(),
+                recipe.getMasterHeight(), imageType(recipe));
+
+        Graphics2D graphics = result.createGraphics();
+        recipe.render(graphics);
+        graphics.dispose();
+
+        return result;
+    }
+
+    /**
+     * Select the configured scale factors for which the master images of all
+     * the specified recipes are large enough. A factor of 1 is always
+     * selected. Recipes that share output files (such as the layers of a
+     * texture array) must all be configured with the same factors.
+     *
+     * @param recipes the recipes to analyze (not null, not empty, unaffected,
+     * all with equal scale factors)
+     * @return a new array of factors (not null, not empty)
+     */
+    public static int[] selectScales(Recipe... recipes) {
+        Validate.nonEmpty(recipes, "recipes");
+
+        int[] scales = recipes[0].getScales();
+        for (Recipe recipe : recipes) {
+            Validate.require(Arrays.equals(recipe.getScales(), scales),
+                    "the same scale factors for all recipes");
+        }
+        int[] selected = new int[scales.length];
+        int numSelected = 0;
+        for (int scale : scales) {
+            Recipe tooSmall = null;
+            for (Recipe recipe : recipes) {
+                if (scale * recipe.getFinalWidth() > recipe.getMasterWidth()
+                        || scale * recipe.getFinalHeight()
+                        > recipe.getMasterHeight()) {
+                    tooSmall = recipe;
+                }
+            }
+            if (scale == 1 || tooSmall == null) {
+                selected[numSelected] = scale;
+                ++numSelected;
+            } else {
+                logger.log(Level.WARNING,
+                        "Skipped the {0}x variant of {1}: master too small.",
+                        new Object[]{scale, tooSmall.getAssetName()});
+            }
+        }
+
+        int[] result = new int[numSelected];
+        System.arraycopy(selected, 0, result, 0, numSelected);
+
+        return result;
+    }
+
+    /**
+     * Generate the name of a variant, using the "@2x" convention for scale
+     * factors other than 1.
+     *
+     * @param assetName the name of the asset (not null, not empty)
+     * @param scale the scale factor of the variant (&ge;1)
+     * @return the variant name (not null, not empty)
+     */
+    public static String variantName(String assetName, int scale) {
+        Validate.nonEmpty(assetName, "asset name");
+        Validate.positive(scale, "scale");
+
+        String result = assetName;
+        if (scale != 1) {
+            result += String.format("@%dx", scale);
+        }
+
+        return result;
+    }
+
+    /**
+     * Write an image to a PNG file, using the encoder settings from the
+     * system properties.
+     *
+     * @param filePath the filesystem path to the file (not null, not empty)
+     * @param image the image to write (not null, unaffected)
+     */
+    public static void writeImage(String filePath, BufferedImage image) {
+        PngEncoder encoder = new PngEncoder();
+        encoder.write(filePath, image);
+    }
+}
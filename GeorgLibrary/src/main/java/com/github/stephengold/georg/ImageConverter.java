@@ -0,0 +1,241 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import com.jme3.texture.Image;
+import com.jme3.util.BufferUtils;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.nio.ByteBuffer;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * Utility methods to convert AWT images into pixel data for jMonkeyEngine and
+ * for image encoders.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class ImageConverter {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(ImageConverter.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private ImageConverter() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Copy an image into a new array of 8-bit samples, interleaved in gray,
+     * RGB, or RGBA order, with the top row first. Common image types are read
+     * directly from their data buffers.
+     *
+     * @param image the image to copy (not null, unaffected)
+     * @param channels the number of channels to copy: 1 (gray, only for
+     * TYPE_BYTE_GRAY images), 3 (RGB), or 4 (RGBA)
+     * @return a new array
+     */
+    public static byte[] interleave(BufferedImage image, int channels) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int numPixels = width * height;
+        byte[] result = new byte[channels * numPixels];
+
+        int type = image.getType();
+        DataBuffer dataBuffer = image.getRaster().getDataBuffer();
+        boolean isPacked = image.getRaster().getParent() == null
+                && dataBuffer.getNumBanks() == 1 && dataBuffer.getOffset() == 0;
+        if (isPacked && dataBuffer instanceof DataBufferByte) {
+            byte[] data = ((DataBufferByte) dataBuffer).getData();
+            if (type == BufferedImage.TYPE_BYTE_GRAY && channels == 1) {
+                System.arraycopy(data, 0, result, 0, numPixels);
+                return result;
+            } else if (type == BufferedImage.TYPE_3BYTE_BGR && channels == 3) {
+                for (int i = 0; i < result.length; i += 3) {
+                    result[i] = data[i + 2];
+                    result[i + 1] = data[i + 1];
+                    result[i + 2] = data[i];
+                }
+                return result;
+            } else if (type == BufferedImage.TYPE_4BYTE_ABGR
+                    && channels == 4) {
+                for (int i = 0; i < result.length; i += 4) {
+                    result[i] = data[i + 3];
+                    result[i + 1] = data[i + 2];
+                    result[i + 2] = data[i + 1];
+                    result[i + 3] = data[i];
+                }
+                return result;
+            }
+
+        } else if (isPacked && dataBuffer instanceof DataBufferInt
+                && (type == BufferedImage.TYPE_INT_ARGB
+                || (type == BufferedImage.TYPE_INT_RGB && channels < 4))) {
+            int[] data = ((DataBufferInt) dataBuffer).getData();
+            putArgb(data, channels, result);
+            return result;
+        }
+        /*
+         * Fall back on getRGB(), one row at a time.
+         */
+        int[] row = new int[width];
+        byte[] rowBytes = new byte[channels * width];
+        for (int y = 0; y < height; ++y) {
+            image.getRGB(0, y, width, 1, row, 0, width);
+            putArgb(row, channels, rowBytes);
+            System.arraycopy(rowBytes, 0, result, y * rowBytes.length,
+                    rowBytes.length);
+        }
+
+        return result;
+    }
+
+    /**
+     * Calculate the size of each level in the specified format.
+     *
+     * @param format the uncompressed pixel format (not null)
+     * @param levels the mipmap levels, largest first (not null, not empty,
+     * unaffected)
+     * @return a new array of sizes (in bytes)
+     */
+    public static int[] levelSizes(
+            Image.Format format, BufferedImage... levels) {
+        Validate.nonNull(format, "format");
+        Validate.nonEmpty(levels, "levels");
+
+        int bytesPerPixel = format.getBitsPerPixel() / 8;
+        int[] result = new int[levels.length];
+        for (int i = 0; i < levels.length; ++i) {
+            result[i] = bytesPerPixel * levels[i].getWidth()
+                    * levels[i].getHeight();
+        }
+
+        return result;
+    }
+
+    /**
+     * Copy one or more images (such as a mipmap chain) into a new direct
+     * buffer in the specified format, with each image's bottom row first, as
+     * jMonkeyEngine expects. Luminance is taken from the red channel.
+     *
+     * @param format Alpha8, Luminance8, Luminance8Alpha8, RGB8, or RGBA8 (not
+     * null)
+     * @param levels the images to copy, largest first (not null, not empty,
+     * unaffected)
+     * @return a new direct buffer, flipped and ready to read
+     */
+    public static ByteBuffer toBuffer(
+            Image.Format format, BufferedImage... levels) {
+        int totalBytes = 0;
+        for (int size : levelSizes(format, levels)) {
+            totalBytes += size;
+        }
+
+        ByteBuffer result = BufferUtils.createByteBuffer(totalBytes);
+        for (BufferedImage level : levels) {
+            int width = level.getWidth();
+            int height = level.getHeight();
+            int[] row = new int[width];
+            for (int y = height - 1; y >= 0; --y) {
+                level.getRGB(0, y, width, 1, row, 0, width);
+                for (int argb : row) {
+                    byte alpha = (byte) (argb >>> 24);
+                    byte red = (byte) (argb >> 16);
+                    if (format == Image.Format.Alpha8) {
+                        result.put(alpha);
+                    } else if (format == Image.Format.Luminance8) {
+                        result.put(red);
+                    } else if (format == Image.Format.Luminance8Alpha8) {
+                        result.put(red).put(alpha);
+                    } else {
+                        result.put(red).put((byte) (argb >> 8))
+                                .put((byte) argb);
+                        if (format == Image.Format.RGBA8) {
+                            result.put(alpha);
+                        }
+                    }
+                }
+            }
+        }
+        result.flip();
+
+        return result;
+    }
+
+    /**
+     * Copy one or more images (such as a mipmap chain) into a new direct
+     * buffer in RGBA8 format, with each image's bottom row first.
+     *
+     * @param levels the images to copy, largest first (not null, not empty,
+     * unaffected)
+     * @return a new direct buffer, flipped and ready to read
+     */
+    public static ByteBuffer toRgba8(BufferedImage... levels) {
+        ByteBuffer result = toBuffer(Image.Format.RGBA8, levels);
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Copy packed ARGB pixels into an array of interleaved samples.
+     *
+     * @param argb the pixels to copy (not null, unaffected)
+     * @param channels the number of channels to copy: 1 (gray, taken from the
+     * blue component), 3 (RGB), or 4 (RGBA)
+     * @param dest the destination array (not null, modified)
+     */
+    private static void putArgb(int[] argb, int channels, byte[] dest) {
+        int j = 0;
+        for (int pixel : argb) {
+            if (channels == 1) {
+                dest[j] = (byte) pixel;
+            } else {
+                dest[j] = (byte) (pixel >> 16);
+                dest[j + 1] = (byte) (pixel >> 8);
+                dest[j + 2] = (byte) pixel;
+                if (channels == 4) {
+                    dest[j + 3] = (byte) (pixel >>> 24);
+                }
+            }
+            j += channels;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import com.jme3.export.binary.BinaryExporter;
+import com.jme3.texture.Image;
+import com.jme3.texture.Texture;
+import com.jme3.texture.Texture2D;
+import com.jme3.texture.image.ColorSpace;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * Utility methods to write textures as jMonkeyEngine binary assets (J3O
+ * files), which load with BinaryImporter without any decoding, flipping, or
+ * format conversion.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class J3oWriter {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(J3oWriter.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private J3oWriter() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Write a mipmap chain to a J3O file, as a Texture2D with an embedded
+     * Image in the specified format. Alpha8 images are linear, all others
+     * sRGB. A chain of more than one level selects trilinear filtering.
+     *
+     * @param filePath the filesystem path to the file (not null, not empty)
+     * @param levels the mipmap levels, largest first (not null, not empty,
+     * unaffected)
+     * @param format the pixel format: Alpha8, Luminance8, Luminance8Alpha8,
+     * RGB8, or RGBA8 (not null)
+     */
+    public static void write(
+            String filePath, BufferedImage[] levels, Image.Format format) {
+        Validate.nonEmpty(filePath, "file path");
+        Validate.nonEmpty(levels, "levels");
+
+        ByteBuffer data = ImageConverter.toBuffer(format, levels);
+        int[] mipMapSizes = null;
+        if (levels.length > 1) {
+            mipMapSizes = ImageConverter.levelSizes(format, levels);
+        }
+        ColorSpace colorSpace = (format == Image.Format.Alpha8)
+                ? ColorSpace.Linear : ColorSpace.sRGB;
+        Image image = new Image(format, levels[0].getWidth(),
+                levels[0].getHeight(), data, mipMapSizes, colorSpace);
+
+        Texture2D texture = new Texture2D(image);
+        texture.setName(new File(filePath).getName());
+        if (mipMapSizes != null) {
+            texture.setMinFilter(Texture.MinFilter.Trilinear);
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            BinaryExporter.getInstance().save(texture, bytes);
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+        OutputFiles.writeBytes(filePath, ByteBuffer.wrap(bytes.toByteArray()));
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * Utility methods to write ETC2/EAC-compressed mipmap chains to Khronos
+ * Texture (KTX version 1) files, for devices that lack BCn support.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class KtxWriter {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * size of the file header, including the identifier (in bytes)
+     */
+    final private static int headerBytes = 64;
+    /**
+     * file identifier: "«KTX 11»\r\n\x1A\n"
+     */
+    final private static byte[] identifier = {
+        (byte) 0xAB, 0x4B, 0x54, 0x58, 0x20, 0x31, 0x31, (byte) 0xBB, 0x0D,
+        0x0A, 0x1A, 0x0A
+    };
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(KtxWriter.class.getName());
+    /**
+     * key and value of the metadata entry: the first row is at the top
+     */
+    final private static String orientation = "KTXorientation\0S=r,T=d\0";
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private KtxWriter() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Write a mipmap chain to a KTX file in the specified format.
+     *
+     * @param filePath the filesystem path to the file (not null, not empty)
+     * @param levels the mipmap levels, largest first (not null, not empty,
+     * unaffected)
+     * @param format the compressed format (not null)
+     * @return the root-mean-square error of level 0 (in 8-bit units, &ge;0)
+     */
+    public static double write(
+            String filePath, BufferedImage[] levels, EtcFormat format) {
+        Validate.nonEmpty(filePath, "file path");
+        Validate.nonEmpty(levels, "levels");
+
+        byte[] keyValue = orientation.getBytes(StandardCharsets.ISO_8859_1);
+        int keyValuePadding = 3 - (keyValue.length + 3) % 4;
+        int keyValueBytes = 4 + keyValue.length + keyValuePadding;
+
+        byte[][] blocks = new byte[levels.length][];
+        int totalBytes = headerBytes + keyValueBytes;
+        for (int i = 0; i < levels.length; ++i) {
+            blocks[i] = EtcCompressor.compress(levels[i], format, true);
+            totalBytes += 4 + blocks[i].length; // always a multiple of 4
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(totalBytes);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put(identifier);
+        buffer.putInt(0x04030201); // endianness
+        buffer.putInt(0); // glType: compressed
+        buffer.putInt(1); // glTypeSize
+        buffer.putInt(0); // glFormat: compressed
+        buffer.putInt(format.internalFormat());
+        buffer.putInt(format.baseFormat());
+        buffer.putInt(levels[0].getWidth());
+        buffer.putInt(levels[0].getHeight());
+        buffer.putInt(0); // pixelDepth
+        buffer.putInt(0); // numberOfArrayElements
+        buffer.putInt(1); // numberOfFaces
+        buffer.putInt(levels.length);
+        buffer.putInt(keyValueBytes);
+
+        buffer.putInt(keyValue.length);
+        buffer.put(keyValue);
+        for (int i = 0; i < keyValuePadding; ++i) {
+            buffer.put((byte) 0);
+        }
+        for (byte[] level : blocks) {
+            buffer.putInt(level.length);
+            buffer.put(level);
+        }
+        buffer.flip();
+        OutputFiles.writeBytes(filePath, buffer);
+
+        double result = EtcDecoder.rmse(levels[0], blocks[0], format);
+        return result;
+    }
+}
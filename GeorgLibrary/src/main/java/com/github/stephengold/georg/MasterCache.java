@@ -0,0 +1,229 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A persistent cache of supersampled master images, stored as raw files in the
+ * directory/folder named by the "georg.cacheDir" property and keyed by
+ * {@link RecipeHash}. Runs that change only downsampling settings, output
+ * formats, or final sizes can map a cached master instead of re-rendering it.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class MasterCache {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * number of bytes in the header of each cache file
+     */
+    final private static int headerBytes = 20;
+    /**
+     * identifies a cache file ("GEOR" in ASCII)
+     */
+    final private static int magic = 0x47454F52;
+    /**
+     * version of the file format
+     */
+    final private static int formatVersion = 1;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(MasterCache.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private MasterCache() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Load the cached master image of the specified recipe.
+     *
+     * @param recipe the recipe to use (not null, unaffected)
+     * @return a new image, or null if the cache is disabled or lacks a valid
+     * entry
+     */
+    public static BufferedImage load(Recipe recipe) {
+        File file = cacheFile(recipe);
+        if (file == null || !file.isFile()) {
+            return null;
+        }
+
+        BufferedImage result = null;
+        Path path = file.toPath();
+        try (FileChannel channel = FileChannel.open(path)) {
+            long size = channel.size();
+            MappedByteBuffer buffer
+                    = channel.map(FileChannel.MapMode.READ_ONLY, 0L, size);
+            buffer.order(ByteOrder.BIG_ENDIAN);
+            result = decode(buffer, recipe);
+        } catch (IOException exception) {
+            logger.log(Level.WARNING, "failed to read " + path, exception);
+        }
+
+        if (result == null) {
+            logger.log(Level.WARNING, "ignored invalid cache file {0}", path);
+        } else {
+            logger.log(Level.INFO, "mapped {0}", path);
+        }
+
+        return result;
+    }
+
+    /**
+     * Store the master image of the specified recipe. The entry is first
+     * written to a temporary file and then moved into place, so concurrent
+     * readers never see a partial entry.
+     *
+     * @param recipe the recipe that generated the image (not null,
+     * unaffected)
+     * @param master the image to store (not null, unaffected)
+     */
+    public static void store(Recipe recipe, BufferedImage master) {
+        File file = cacheFile(recipe);
+        if (file == null) {
+            return;
+        }
+
+        byte[] pixels = pixelBytes(master);
+        ByteBuffer header = ByteBuffer.allocate(headerBytes);
+        header.putInt(magic).putInt(formatVersion);
+        header.putInt(master.getWidth()).putInt(master.getHeight());
+        header.putInt(master.getType());
+        header.flip();
+
+        try {
+            Path dir = file.getParentFile().toPath();
+            Files.createDirectories(dir);
+            Path tmp = Files.createTempFile(dir, "master", ".tmp");
+            try (FileChannel channel = FileChannel.open(
+                    tmp, StandardOpenOption.WRITE)) {
+                channel.write(header);
+                ByteBuffer payload = ByteBuffer.wrap(pixels);
+                while (payload.hasRemaining()) {
+                    channel.write(payload);
+                }
+            }
+            try {
+                Files.move(tmp, file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException exception) {
+                Files.move(tmp, file.toPath(),
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException exception) {
+            logger.log(Level.WARNING, "failed to cache " + file, exception);
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Determine which file would hold the master of the specified recipe.
+     *
+     * @param recipe the recipe to use (not null, unaffected)
+     * @return a new File, or null if the cache is disabled
+     */
+    private static File cacheFile(Recipe recipe) {
+        String dirPath = ExportSettings.cacheDirPath();
+        if (dirPath == null) {
+            return null;
+        }
+
+        String fileName = RecipeHash.of(recipe) + ".raw";
+        File result = new File(dirPath, fileName);
+
+        return result;
+    }
+
+    /**
+     * Decode a mapped cache file, verifying that it matches the recipe.
+     *
+     * @param buffer the file contents (not null)
+     * @param recipe the recipe to match (not null, unaffected)
+     * @return a new image, or null if the file is invalid
+     */
+    private static BufferedImage decode(ByteBuffer buffer, Recipe recipe) {
+        if (buffer.remaining() < headerBytes
+                || buffer.getInt() != magic
+                || buffer.getInt() != formatVersion) {
+            return null;
+        }
+        int width = buffer.getInt();
+        int height = buffer.getInt();
+        int imageType = buffer.getInt();
+        if (width != recipe.getMasterWidth()
+                || height != recipe.getMasterHeight()
+                || imageType != Generator.imageType(recipe)) {
+            return null;
+        }
+
+        BufferedImage result = new BufferedImage(width, height, imageType);
+        byte[] pixels = pixelBytes(result);
+        if (buffer.remaining() != pixels.length) {
+            return null;
+        }
+        buffer.get(pixels);
+
+        return result;
+    }
+
+    /**
+     * Access the pixel data of an image with a byte-interleaved raster.
+     *
+     * @param image the image to access (not null)
+     * @return the pre-existing backing array (not null)
+     */
+    private static byte[] pixelBytes(BufferedImage image) {
+        DataBufferByte dataBuffer
+                = (DataBufferByte) image.getRaster().getDataBuffer();
+        byte[] result = dataBuffer.getData();
+
+        return result;
+    }
+}
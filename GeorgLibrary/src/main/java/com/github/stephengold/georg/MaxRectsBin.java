@@ -0,0 +1,173 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * A single atlas page, packed using the MaximalRectangles algorithm with the
+ * best-short-side-fit heuristic.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class MaxRectsBin {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(MaxRectsBin.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * maximal free rectangles, which may overlap one another
+     */
+    final private List<Rectangle> freeRects = new ArrayList<>(16);
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty bin with the specified dimensions.
+     *
+     * @param width the width of the bin (in pixels, &gt;0)
+     * @param height the height of the bin (in pixels, &gt;0)
+     */
+    MaxRectsBin(int width, int height) {
+        freeRects.add(new Rectangle(0, 0, width, height));
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Place a rectangle in the bin, if it fits.
+     *
+     * @param width the width of the rectangle (in pixels, &gt;0)
+     * @param height the height of the rectangle (in pixels, &gt;0)
+     * @return a new rectangle in bin coordinates, or null if it didn't fit
+     */
+    Rectangle insert(int width, int height) {
+        Rectangle best = null;
+        int bestShort = Integer.MAX_VALUE;
+        int bestLong = Integer.MAX_VALUE;
+        for (Rectangle free : freeRects) {
+            int leftoverX = free.width - width;
+            int leftoverY = free.height - height;
+            if (leftoverX >= 0 && leftoverY >= 0) {
+                int shortSide = Math.min(leftoverX, leftoverY);
+                int longSide = Math.max(leftoverX, leftoverY);
+                if (shortSide < bestShort
+                        || shortSide == bestShort && longSide < bestLong) {
+                    best = free;
+                    bestShort = shortSide;
+                    bestLong = longSide;
+                }
+            }
+        }
+        if (best == null) {
+            return null;
+        }
+
+        Rectangle result = new Rectangle(best.x, best.y, width, height);
+        split(result);
+        prune();
+
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Remove any free rectangle that's contained in another.
+     */
+    private void prune() {
+        int numFree = freeRects.size();
+        boolean[] redundant = new boolean[numFree];
+        for (int i = 0; i < numFree; ++i) {
+            Rectangle a = freeRects.get(i);
+            for (int j = 0; j < numFree && !redundant[i]; ++j) {
+                Rectangle b = freeRects.get(j);
+                if (i != j && !redundant[j] && b.contains(a)) {
+                    redundant[i] = true;
+                }
+            }
+        }
+
+        for (int i = numFree - 1; i >= 0; --i) {
+            if (redundant[i]) {
+                freeRects.remove(i);
+            }
+        }
+    }
+
+    /**
+     * Split every free rectangle that overlaps a newly used one into as many
+     * as 4 maximal rectangles.
+     *
+     * @param used the newly used rectangle (not null, unaffected)
+     */
+    private void split(Rectangle used) {
+        List<Rectangle> added = new ArrayList<>(8);
+        Iterator<Rectangle> iterator = freeRects.iterator();
+        while (iterator.hasNext()) {
+            Rectangle free = iterator.next();
+            if (!free.intersects(used)) {
+                continue;
+            }
+            iterator.remove();
+
+            if (used.x > free.x) { // left part
+                added.add(new Rectangle(free.x, free.y,
+                        used.x - free.x, free.height));
+            }
+            int usedMaxX = used.x + used.width;
+            int freeMaxX = free.x + free.width;
+            if (usedMaxX < freeMaxX) { // right part
+                added.add(new Rectangle(usedMaxX, free.y,
+                        freeMaxX - usedMaxX, free.height));
+            }
+            if (used.y > free.y) { // top part
+                added.add(new Rectangle(free.x, free.y,
+                        free.width, used.y - free.y));
+            }
+            int usedMaxY = used.y + used.height;
+            int freeMaxY = free.y + free.height;
+            if (usedMaxY < freeMaxY) { // bottom part
+                added.add(new Rectangle(free.x, usedMaxY,
+                        free.width, freeMaxY - usedMaxY));
+            }
+        }
+
+        freeRects.addAll(added);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.awt.image.BufferedImage;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * Utility methods to generate mipmap chains from supersampled master images.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class MipChain {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(MipChain.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private MipChain() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Generate a full mipmap chain, from the specified base level down to
+     * 1x1. The base itself is level 0, and each smaller level is downsampled
+     * from the next-larger one.
+     *
+     * @param base the level-0 image (not null, unaffected, alias created)
+     * @param alphaCutoff the alpha cutoff whose coverage should be preserved
+     * (&ge;0, &lt;1) or 0 to disable coverage preservation
+     * @return a new array of levels, largest first (not null, not empty)
+     */
+    public static BufferedImage[] generate(
+            BufferedImage base, float alphaCutoff) {
+        Validate.nonNull(base, "base");
+        Validate.inRange(alphaCutoff, "alpha cutoff", 0f, 1f);
+
+        int baseWidth = base.getWidth();
+        int baseHeight = base.getHeight();
+        int numLevels = countLevels(baseWidth, baseHeight);
+        int[] widths = new int[numLevels - 1];
+        int[] heights = new int[numLevels - 1];
+        for (int level = 1; level < numLevels; ++level) {
+            widths[level - 1] = Math.max(1, baseWidth >> level);
+            heights[level - 1] = Math.max(1, baseHeight >> level);
+        }
+        BufferedImage[] smaller = Downsampler.cascade(base, widths, heights);
+        BufferedImage[] result = new BufferedImage[numLevels];
+        result[0] = base;
+        System.arraycopy(smaller, 0, result, 1, numLevels - 1);
+
+        if (alphaCutoff > 0f) {
+            float target = AlphaCoverage.coverage(base, alphaCutoff);
+            for (int level = 1; level < numLevels; ++level) {
+                AlphaCoverage.preserve(result[level], alphaCutoff, target);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Count the levels in a full mipmap chain.
+     *
+     * @param baseWidth the width of level 0 (in pixels, &gt;0)
+     * @param baseHeight the height of level 0 (in pixels, &gt;0)
+     * @return the count (&ge;1)
+     */
+    public static int countLevels(int baseWidth, int baseHeight) {
+        Validate.positive(baseWidth, "base width");
+        Validate.positive(baseHeight, "base height");
+
+        int largest = Math.max(baseWidth, baseHeight);
+        int result = 32 - Integer.numberOfLeadingZeros(largest);
+
+        return result;
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.BlockingQueue;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * Utility methods to write output files, creating any missing parent
+ * directories/folders.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class OutputFiles {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(OutputFiles.class.getName());
+    /**
+     * queue for the current thread's deferred writes, or null to write
+     * immediately
+     */
+    final private static ThreadLocal<BlockingQueue<Runnable>> deferred
+            = new ThreadLocal<>();
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private OutputFiles() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Create (or truncate) the specified file for writing, along with any
+     * missing parent directories/folders.
+     *
+     * @param filePath the filesystem path to the file (not null, not empty)
+     * @return a new channel, open for writing (not null)
+     */
+    static FileChannel create(String filePath) {
+        createParent(filePath);
+        File file = new File(filePath);
+        try {
+            FileChannel result = FileChannel.open(file.toPath(),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            return result;
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    /**
+     * Create the parent directory/folder of the specified file, if it doesn't
+     * already exist.
+     *
+     * @param filePath the filesystem path to the file (not null, not empty)
+     */
+    public static void createParent(String filePath) {
+        Validate.nonEmpty(filePath, "file path");
+
+        File file = new File(filePath);
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (!parent.isDirectory() && !parent.mkdirs()) {
+            throw new RuntimeException("Failed to create " + parent);
+        }
+    }
+
+    /**
+     * Defer the current thread's subsequent writes to the specified queue,
+     * where another thread (such as the I/O stage of a Pipeline) performs
+     * them. If the queue is full, the next write blocks until there's room.
+     *
+     * @param queue the queue, or null to write immediately
+     */
+    static void deferWrites(BlockingQueue<Runnable> queue) {
+        deferred.set(queue);
+    }
+
+    /**
+     * Move a completely written temporary file into place, replacing any
+     * existing file, atomically if the filesystem supports that.
+     *
+     * @param tmpPath the filesystem path to the temporary file (not null,
+     * not empty)
+     * @param filePath the filesystem path to the destination (not null, not
+     * empty)
+     */
+    static void moveIntoPlace(String tmpPath, String filePath) {
+        Path tmp = new File(tmpPath).toPath();
+        Path file = new File(filePath).toPath();
+        try {
+            try {
+                Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException exception) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    /**
+     * Close an abandoned temporary file and delete it, logging any failures.
+     *
+     * @param channel the file's channel (not null)
+     * @param tmpPath the filesystem path to the file (not null, not empty)
+     */
+    static void discard(Closeable channel, String tmpPath) {
+        try {
+            channel.close();
+            Files.deleteIfExists(new File(tmpPath).toPath());
+        } catch (IOException exception) {
+            logger.log(Level.WARNING, "failed to discard " + tmpPath,
+                    exception);
+        }
+    }
+
+    /**
+     * Generate the filesystem path to the named file in the output
+     * directory/folder.
+     *
+     * @param fileName the name of the file, including any extension (not
+     * null, not empty)
+     * @return the path (not null, not empty)
+     */
+    public static String path(String fileName) {
+        Validate.nonEmpty(fileName, "file name");
+
+        String result = ExportSettings.outputDirPath() + "/" + fileName;
+        return result;
+    }
+
+    /**
+     * Write the remaining bytes of a buffer to a file. If the current
+     * thread's writes are deferred, the write is queued instead, so the
+     * caller mustn't modify the data afterward.
+     *
+     * @param filePath the filesystem path to the file (not null, not empty)
+     * @param buffer the data to write (not null, position advanced to its
+     * limit)
+     */
+    public static void writeBytes(String filePath, ByteBuffer buffer) {
+        Validate.nonEmpty(filePath, "file path");
+        Validate.nonNull(buffer, "buffer");
+
+        BlockingQueue<Runnable> queue = deferred.get();
+        if (queue == null) {
+            write(filePath, buffer);
+            return;
+        }
+
+        final String path = filePath;
+        final ByteBuffer data = buffer.duplicate();
+        buffer.position(buffer.limit());
+        try {
+            queue.put(new Runnable() {
+                @Override
+                public void run() {
+                    write(path, data);
+                }
+            });
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(exception);
+        }
+    }
+
+    /**
+     * Write text to a file, encoded in UTF-8.
+     *
+     * @param filePath the filesystem path to the file (not null, not empty)
+     * @param text the text to write (not null)
+     */
+    public static void writeText(String filePath, String text) {
+        Validate.nonNull(text, "text");
+
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        writeBytes(filePath, ByteBuffer.wrap(bytes));
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Write the remaining bytes of a buffer to a file, immediately.
+     *
+     * @param filePath the filesystem path to the file (not null, not empty)
+     * @param buffer the data to write (not null, position advanced to its
+     * limit)
+     */
+    private static void write(String filePath, ByteBuffer buffer) {
+        try (FileChannel channel = create(filePath)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+        logger.log(Level.INFO, "wrote {0}", filePath);
+    }
+}
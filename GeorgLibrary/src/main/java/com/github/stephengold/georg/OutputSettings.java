@@ -0,0 +1,83 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.util.logging.Logger;
+
+/**
+ * Access to the system properties that select additional output files. Like
+ * those of ExportSettings, each property name starts with "georg.", for
+ * instance: {@code ./gradlew textures -Dgeorg.qoi=true}
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class OutputSettings {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(OutputSettings.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private OutputSettings() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Test whether each variant should also be written as a J3O file, as
+     * configured by the "georg.j3o" property.
+     *
+     * @return true to write "name.j3o", otherwise false
+     */
+    public static boolean j3o() {
+        String text = ExportSettings.getString("j3o", "false");
+        boolean result = Boolean.parseBoolean(text.trim());
+
+        return result;
+    }
+
+    /**
+     * Test whether each variant should also be written as a QOI file, as
+     * configured by the "georg.qoi" property.
+     *
+     * @return true to write "name.qoi", otherwise false
+     */
+    public static boolean qoi() {
+        String text = ExportSettings.getString("qoi", "false");
+        boolean result = Boolean.parseBoolean(text.trim());
+
+        return result;
+    }
+}
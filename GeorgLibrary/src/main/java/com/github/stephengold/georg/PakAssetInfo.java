@@ -0,0 +1,165 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import com.jme3.asset.AssetInfo;
+import com.jme3.asset.AssetKey;
+import com.jme3.asset.AssetManager;
+import com.jme3.texture.Image;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.logging.Logger;
+
+/**
+ * A texture located in a memory-mapped pak file. The pixel data is a slice of
+ * the mapping, so it's never copied.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class PakAssetInfo extends AssetInfo {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(PakAssetInfo.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * raw pixels, bottom row first (read-only, direct)
+     */
+    final private ByteBuffer data;
+    /**
+     * pixel format of the data
+     */
+    final private Image.Format format;
+    /**
+     * height of the texture (in pixels)
+     */
+    final private int height;
+    /**
+     * width of the texture (in pixels)
+     */
+    final private int width;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate info for the specified slice of a pak.
+     *
+     * @param manager the asset manager (may be null)
+     * @param key the key of the asset (not null)
+     * @param data the raw pixels (not null, alias created)
+     * @param format the pixel format (not null)
+     * @param width the width (in pixels, &gt;0)
+     * @param height the height (in pixels, &gt;0)
+     */
+    PakAssetInfo(AssetManager manager, AssetKey<?> key, ByteBuffer data,
+            Image.Format format, int width, int height) {
+        super(manager, key);
+        this.data = data;
+        this.format = format;
+        this.width = width;
+        this.height = height;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Access the raw pixels.
+     *
+     * @return a new view of the slice, ready to read (not null, read-only,
+     * direct)
+     */
+    public ByteBuffer getData() {
+        ByteBuffer result = data.duplicate();
+        return result;
+    }
+
+    /**
+     * Return the pixel format.
+     *
+     * @return the enum value (not null)
+     */
+    public Image.Format getFormat() {
+        return format;
+    }
+
+    /**
+     * Return the height.
+     *
+     * @return the height (in pixels, &gt;0)
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Return the width.
+     *
+     * @return the width (in pixels, &gt;0)
+     */
+    public int getWidth() {
+        return width;
+    }
+    // *************************************************************************
+    // AssetInfo methods
+
+    /**
+     * Open a stream over the raw pixels, for loaders other than PakLoader.
+     *
+     * @return a new stream (not null)
+     */
+    @Override
+    public InputStream openStream() {
+        final ByteBuffer source = data.duplicate();
+        InputStream result = new InputStream() {
+            @Override
+            public int read() {
+                int next = source.hasRemaining() ? source.get() & 0xFF : -1;
+                return next;
+            }
+
+            @Override
+            public int read(byte[] dest, int offset, int length) {
+                if (length == 0) {
+                    return 0;
+                } else if (!source.hasRemaining()) {
+                    return -1;
+                }
+                int count = Math.min(length, source.remaining());
+                source.get(dest, offset, count);
+                return count;
+            }
+        };
+
+        return result;
+    }
+}
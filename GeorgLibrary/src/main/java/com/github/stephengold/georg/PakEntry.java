@@ -0,0 +1,193 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import com.jme3.texture.Image;
+import java.awt.color.ColorSpace;
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.Raster;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Properties;
+import java.util.logging.Logger;
+import javax.imageio.ImageIO;
+
+/**
+ * A texture read from a PNG file, converted to raw pixels for a pak file.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class PakEntry {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(PakEntry.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * raw pixels, bottom row first, ready to read
+     */
+    final private ByteBuffer payload;
+    /**
+     * pixel format of the payload
+     */
+    final private Image.Format format;
+    /**
+     * height of the texture (in pixels)
+     */
+    final private int height;
+    /**
+     * width of the texture (in pixels)
+     */
+    final private int width;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Read a PNG texture, in the format named by its ".format.properties"
+     * file if there is one, otherwise in the PNG's own layout.
+     *
+     * @param pngFile the file to read (not null)
+     */
+    PakEntry(File pngFile) {
+        BufferedImage image;
+        try {
+            image = ImageIO.read(pngFile);
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+        this.width = image.getWidth();
+        this.height = image.getHeight();
+
+        String path = pngFile.getPath();
+        File metadata = new File(
+                path.substring(0, path.length() - 4) + ".format.properties");
+        Image.Format named = null;
+        if (metadata.isFile()) {
+            Properties properties = new Properties();
+            try (InputStream stream = new FileInputStream(metadata)) {
+                properties.load(stream);
+            } catch (IOException exception) {
+                throw new RuntimeException(exception);
+            }
+            String name = properties.getProperty("format");
+            if (name != null) {
+                named = Image.Format.valueOf(name.trim());
+            }
+        }
+
+        ColorModel colorModel = image.getColorModel();
+        boolean gray = colorModel.getColorSpace().getType()
+                == ColorSpace.TYPE_GRAY;
+        if (named != null) {
+            this.format = named;
+        } else if (gray) {
+            this.format = colorModel.hasAlpha()
+                    ? Image.Format.Luminance8Alpha8 : Image.Format.Luminance8;
+        } else {
+            this.format = colorModel.hasAlpha()
+                    ? Image.Format.RGBA8 : Image.Format.RGB8;
+        }
+
+        BufferedImage argb = gray ? grayToArgb(image) : image;
+        this.payload = ImageConverter.toBuffer(format, argb);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the pixel format.
+     *
+     * @return the enum value (not null)
+     */
+    Image.Format format() {
+        return format;
+    }
+
+    /**
+     * Return the height.
+     *
+     * @return the height (in pixels, &gt;0)
+     */
+    int height() {
+        return height;
+    }
+
+    /**
+     * Access the raw pixels.
+     *
+     * @return the pre-existing buffer, ready to read (not null)
+     */
+    ByteBuffer payload() {
+        return payload;
+    }
+
+    /**
+     * Return the width.
+     *
+     * @return the width (in pixels, &gt;0)
+     */
+    int width() {
+        return width;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Copy a gray image sample by sample, because its getRGB() would convert
+     * from linear gray to sRGB.
+     *
+     * @param image the image to copy (not null, unaffected)
+     * @return a new image (not null)
+     */
+    private static BufferedImage grayToArgb(BufferedImage image) {
+        int w = image.getWidth();
+        int h = image.getHeight();
+        BufferedImage result
+                = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+        Raster raster = image.getRaster();
+        int[] samples = new int[raster.getNumBands()];
+        for (int y = 0; y < h; ++y) {
+            for (int x = 0; x < w; ++x) {
+                raster.getPixel(x, y, samples);
+                int alpha = (samples.length > 1) ? samples[1] : 0xFF;
+                result.setRGB(x, y, alpha << 24 | 0x010101 * samples[0]);
+            }
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import com.jme3.asset.AssetInfo;
+import com.jme3.asset.AssetKey;
+import com.jme3.asset.AssetLoader;
+import com.jme3.asset.TextureKey;
+import com.jme3.texture.Image;
+import com.jme3.texture.image.ColorSpace;
+import com.jme3.util.BufferUtils;
+import java.nio.ByteBuffer;
+import java.util.logging.Logger;
+
+/**
+ * A jMonkeyEngine asset loader for the raw textures in a pak file, located by
+ * PakLocator. Register it with
+ * {@code assetManager.registerLoader(PakLoader.class, "raw")}.
+ * <p>
+ * The image's data is the slice of the mapped pak, with no copying, unless
+ * the key asks for an unflipped image: payloads are stored bottom row first,
+ * as TextureKey expects by default.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class PakLoader implements AssetLoader {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(PakLoader.class.getName());
+    // *************************************************************************
+    // AssetLoader methods
+
+    /**
+     * Wrap a located pak texture in an Image. Alpha8 images are linear, all
+     * others sRGB.
+     *
+     * @param assetInfo the located asset (not null)
+     * @return a new Image (not null)
+     */
+    @Override
+    public Object load(AssetInfo assetInfo) {
+        if (!(assetInfo instanceof PakAssetInfo)) {
+            throw new IllegalArgumentException(
+                    "PakLoader requires assets located by PakLocator");
+        }
+        PakAssetInfo info = (PakAssetInfo) assetInfo;
+        Image.Format format = info.getFormat();
+        int width = info.getWidth();
+        int height = info.getHeight();
+
+        ByteBuffer data = info.getData();
+        AssetKey<?> key = info.getKey();
+        if (key instanceof TextureKey && !((TextureKey) key).isFlipY()) {
+            /*
+             * Copy the rows in reverse order.
+             */
+            int rowBytes = width * format.getBitsPerPixel() / 8;
+            ByteBuffer flipped = BufferUtils.createByteBuffer(data.capacity());
+            for (int y = height - 1; y >= 0; --y) {
+                ByteBuffer row = data.duplicate();
+                row.position(y * rowBytes);
+                row.limit((y + 1) * rowBytes);
+                flipped.put(row);
+            }
+            flipped.flip();
+            data = flipped;
+        }
+
+        ColorSpace colorSpace = (format == Image.Format.Alpha8)
+                ? ColorSpace.Linear : ColorSpace.sRGB;
+        Image result = new Image(format, width, height, data, colorSpace);
+
+        return result;
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import com.jme3.asset.AssetInfo;
+import com.jme3.asset.AssetKey;
+import com.jme3.asset.AssetLocator;
+import com.jme3.asset.AssetManager;
+import com.jme3.texture.Image;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A jMonkeyEngine asset locator for pak files written by PakWriter. The root
+ * path is the filesystem path to the pak, which is memory-mapped once and
+ * then sliced for each asset, for instance:
+ * {@code assetManager.registerLocator("textures.pak", PakLocator.class)}
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class PakLocator implements AssetLocator {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(PakLocator.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * pixel format of each asset
+     */
+    private Image.Format[] formats;
+    /**
+     * read-only mapping of the entire pak
+     */
+    private MappedByteBuffer mapping;
+    /**
+     * height of each asset (in pixels)
+     */
+    private int[] heights;
+    /**
+     * size of each payload (in bytes)
+     */
+    private int[] lengths;
+    /**
+     * position of each payload in the pak (in bytes)
+     */
+    private int[] offsets;
+    /**
+     * width of each asset (in pixels)
+     */
+    private int[] widths;
+    /**
+     * asset names, in sorted order
+     */
+    private String[] names;
+    // *************************************************************************
+    // AssetLocator methods
+
+    /**
+     * Find the named asset in the pak.
+     *
+     * @param manager the asset manager (may be null)
+     * @param key the key of the asset (not null)
+     * @return a new PakAssetInfo, or null if the pak doesn't contain the asset
+     */
+    @Override
+    @SuppressWarnings("rawtypes")
+    public AssetInfo locate(AssetManager manager, AssetKey key) {
+        int index = Arrays.binarySearch(names, key.getName());
+        if (index < 0) {
+            return null;
+        }
+
+        ByteBuffer slice = mapping.duplicate();
+        slice.limit(offsets[index] + lengths[index]);
+        slice.position(offsets[index]);
+        AssetInfo result = new PakAssetInfo(manager, key, slice.slice(),
+                formats[index], widths[index], heights[index]);
+
+        return result;
+    }
+
+    /**
+     * Map the pak and read its index.
+     *
+     * @param rootPath the filesystem path to the pak (not null)
+     */
+    @Override
+    public void setRootPath(String rootPath) {
+        File file = new File(rootPath);
+        try (FileChannel channel = FileChannel.open(
+                file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) { // too big for a single mapping
+                throw new IllegalArgumentException(
+                        "pak exceeds 2 GiB: " + rootPath);
+            }
+            this.mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0L, size);
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+
+        ByteBuffer index = mapping.duplicate();
+        if (index.getInt() != PakWriter.magic
+                || index.getInt() != PakWriter.version) {
+            throw new IllegalArgumentException("not a pak file: " + rootPath);
+        }
+        int numEntries = index.getInt();
+        this.names = new String[numEntries];
+        this.formats = new Image.Format[numEntries];
+        this.widths = new int[numEntries];
+        this.heights = new int[numEntries];
+        this.offsets = new int[numEntries];
+        this.lengths = new int[numEntries];
+        for (int i = 0; i < numEntries; ++i) {
+            names[i] = readUtf(index);
+            formats[i] = Image.Format.valueOf(readUtf(index));
+            widths[i] = index.getInt();
+            heights[i] = index.getInt();
+            long offset = index.getLong();
+            lengths[i] = index.getInt();
+            if (offset < 0L || lengths[i] < 0
+                    || offset + lengths[i] > mapping.capacity()) {
+                throw new IllegalArgumentException(
+                        "corrupt index in pak: " + rootPath);
+            }
+            offsets[i] = (int) offset;
+        }
+        logger.log(Level.INFO, "mapped {0} assets from {1}",
+                new Object[]{numEntries, rootPath});
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Read a string written by DataOutput.writeUTF(). Asset names and format
+     * names are plain ASCII, so standard UTF-8 decoding suffices.
+     *
+     * @param buffer the buffer to read from (not null, position advanced)
+     * @return a new string (not null)
+     */
+    private static String readUtf(ByteBuffer buffer) {
+        int length = buffer.getShort() & 0xFFFF;
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        String result = new String(bytes, StandardCharsets.UTF_8);
+
+        return result;
+    }
+}
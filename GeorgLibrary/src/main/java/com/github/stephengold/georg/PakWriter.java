@@ -0,0 +1,237 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * A console application to bundle the generated PNG textures of one or more
+ * directories/folders into a single pak file, for use with PakLocator.
+ * <p>
+ * The file starts with a header and an index sorted by asset name, followed
+ * by the raw pixels of each texture (see PakEntry). Each payload starts on a
+ * page boundary, so a memory-mapped pak can be sliced straight into
+ * jMonkeyEngine images.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class PakWriter {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * file identifier: "GPAK"
+     */
+    final static int magic = 0x4750414B;
+    /**
+     * alignment of each payload (in bytes)
+     */
+    final static int pageSize = 4096;
+    /**
+     * version of the file layout
+     */
+    final static int version = 1;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(PakWriter.class.getName());
+    /**
+     * asset-name extension for the textures in a pak
+     */
+    final public static String extension = "raw";
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private PakWriter() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Main entry point for the PakWriter application.
+     *
+     * @param arguments the path to the pak file, followed by the paths to the
+     * directories/folders to bundle (not null, length&ge;2)
+     */
+    public static void main(String[] arguments) {
+        Validate.require(arguments.length >= 2, "at least 2 arguments");
+        String[] dirPaths = Arrays.copyOfRange(arguments, 1, arguments.length);
+        write(arguments[0], dirPaths);
+    }
+
+    /**
+     * Bundle every PNG texture in the specified directories/folders into a pak
+     * file. A texture named "x.png" becomes the asset "x.raw".
+     *
+     * @param pakPath the filesystem path to the pak file (not null, not empty)
+     * @param dirPaths the filesystem paths to the directories/folders (not
+     * null, not empty)
+     */
+    public static void write(String pakPath, String... dirPaths) {
+        Validate.nonEmpty(pakPath, "pak path");
+        Validate.nonEmpty(dirPaths, "directory paths");
+
+        Map<String, File> pngFiles = new TreeMap<>();
+        for (String dirPath : dirPaths) {
+            File[] files = new File(dirPath).listFiles();
+            if (files == null) {
+                throw new IllegalArgumentException("not a directory: "
+                        + dirPath);
+            }
+            for (File file : files) {
+                String fileName = file.getName();
+                if (file.isFile() && fileName.endsWith(".png")) {
+                    String base = fileName.substring(0, fileName.length() - 4);
+                    String assetName = base + "." + extension;
+                    if (pngFiles.put(assetName, file) != null) {
+                        throw new IllegalArgumentException(
+                                "duplicate texture: " + fileName);
+                    }
+                }
+            }
+        }
+
+        int numEntries = pngFiles.size();
+        String[] names = new String[numEntries];
+        PakEntry[] entries = new PakEntry[numEntries];
+        int i = 0;
+        for (Map.Entry<String, File> mapEntry : pngFiles.entrySet()) {
+            names[i] = mapEntry.getKey();
+            entries[i] = new PakEntry(mapEntry.getValue());
+            ++i;
+        }
+        /*
+         * Size the index with placeholder offsets, then write it for real.
+         */
+        long[] offsets = new long[numEntries];
+        byte[] index = index(names, entries, offsets);
+        long offset = alignUp(index.length);
+        for (i = 0; i < numEntries; ++i) {
+            offsets[i] = offset;
+            long end = offset + entries[i].payload().remaining();
+            if (end > Integer.MAX_VALUE) { // PakLocator maps the whole pak
+                throw new IllegalArgumentException(
+                        "pak would exceed 2 GiB: " + pakPath);
+            }
+            offset = alignUp(end);
+        }
+        index = index(names, entries, offsets);
+
+        OutputFiles.createParent(pakPath);
+        try (FileChannel channel = FileChannel.open(new File(pakPath).toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeAt(channel, ByteBuffer.wrap(index), 0L);
+            for (i = 0; i < numEntries; ++i) {
+                writeAt(channel, entries[i].payload().duplicate(), offsets[i]);
+            }
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+        logger.log(Level.INFO, "wrote {0} textures to {1}",
+                new Object[]{numEntries, pakPath});
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Round a file position up to the next page boundary.
+     *
+     * @param position the position (in bytes, &ge;0)
+     * @return the aligned position (in bytes)
+     */
+    private static long alignUp(long position) {
+        long result = (position + pageSize - 1) / pageSize * pageSize;
+        return result;
+    }
+
+    /**
+     * Serialize the header and the index.
+     *
+     * @param names the asset names, in sorted order (not null, unaffected)
+     * @param entries the textures, in the same order (not null, unaffected)
+     * @param offsets the file position of each payload (not null, unaffected)
+     * @return a new array
+     */
+    private static byte[] index(
+            String[] names, PakEntry[] entries, long[] offsets) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(magic);
+            out.writeInt(version);
+            out.writeInt(names.length);
+            for (int i = 0; i < names.length; ++i) {
+                out.writeUTF(names[i]);
+                out.writeUTF(entries[i].format().name());
+                out.writeInt(entries[i].width());
+                out.writeInt(entries[i].height());
+                out.writeLong(offsets[i]);
+                out.writeInt(entries[i].payload().remaining());
+            }
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+        byte[] result = bytes.toByteArray();
+
+        return result;
+    }
+
+    /**
+     * Write the remaining bytes of a buffer at the specified file position.
+     *
+     * @param channel the channel to write to (not null)
+     * @param buffer the data to write (not null, position advanced)
+     * @param position the file position (in bytes, &ge;0)
+     */
+    private static void writeAt(
+            FileChannel channel, ByteBuffer buffer, long position) {
+        long next = position;
+        try {
+            while (buffer.hasRemaining()) {
+                next += channel.write(buffer, next);
+            }
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+}
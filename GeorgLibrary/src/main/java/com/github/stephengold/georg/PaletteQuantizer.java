@@ -0,0 +1,221 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * Reduce RGBA samples to an indexed PNG layout whose palette reproduces every
+ * pixel within a specified tolerance.
+ * <p>
+ * Colors are considered in order of decreasing frequency. Each color that
+ * isn't within tolerance of an existing entry becomes a new entry, so the
+ * flat colors of a recipe claim entries first and antialiased edge pixels
+ * snap to them when they can.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class PaletteQuantizer {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * maximum number of palette entries
+     */
+    final private static int maxEntries = 256;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(PaletteQuantizer.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * largest per-channel error of the most recent quantization
+     */
+    private int maxError;
+    /**
+     * largest per-channel error allowed (&ge;0, &le;255)
+     */
+    final private int tolerance;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a quantizer with the specified tolerance.
+     *
+     * @param tolerance the largest per-channel error allowed, with 0 meaning
+     * lossless (&ge;0, &le;255)
+     */
+    PaletteQuantizer(int tolerance) {
+        Validate.inRange(tolerance, "tolerance", 0, 255);
+        this.tolerance = tolerance;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the largest per-channel error of the most recent successful
+     * quantization.
+     *
+     * @return the error (&ge;0, &le;tolerance)
+     */
+    int maxError() {
+        return maxError;
+    }
+
+    /**
+     * Lay out RGBA samples as palette indices, using the smallest bit depth
+     * that fits. Translucent entries come first, to shorten the tRNS chunk.
+     *
+     * @param width the image width (in pixels, &gt;0)
+     * @param height the image height (in pixels, &gt;0)
+     * @param rgba the samples, top row first (not null, unaffected)
+     * @return a new instance, or null if more than 256 entries would be needed
+     */
+    PngPixels quantize(int width, int height, byte[] rgba) {
+        /*
+         * Count the occurrences of each distinct color.
+         */
+        final Map<Integer, Integer> counts = new HashMap<>(2 * maxEntries);
+        for (int i = 0; i < rgba.length; i += 4) {
+            int color = rgbaAt(rgba, i);
+            Integer count = counts.get(color);
+            counts.put(color, (count == null) ? 1 : count + 1);
+            if (tolerance == 0 && counts.size() > maxEntries) {
+                return null;
+            }
+        }
+        Integer[] colors = counts.keySet().toArray(new Integer[0]);
+        Arrays.sort(colors, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer color1, Integer color2) {
+                int result = counts.get(color2).compareTo(counts.get(color1));
+                if (result == 0) {
+                    result = color1.compareTo(color2);
+                }
+                return result;
+            }
+        });
+        /*
+         * Choose the entries, translucent ones first.
+         */
+        int[] entries = new int[maxEntries];
+        int numEntries = 0;
+        for (int color : colors) {
+            if (numEntries == 0 || nearest(color, entries, numEntries)[1]
+                    > tolerance) {
+                if (numEntries == maxEntries) {
+                    return null;
+                }
+                entries[numEntries] = color;
+                ++numEntries;
+            }
+        }
+        int[] sorted = new int[numEntries];
+        int numSorted = 0;
+        int numTranslucent = 0;
+        for (int pass = 0; pass < 2; ++pass) {
+            for (int k = 0; k < numEntries; ++k) {
+                boolean isTranslucent = (entries[k] & 0xFF) != 0xFF;
+                if (isTranslucent == (pass == 0)) {
+                    sorted[numSorted] = entries[k];
+                    ++numSorted;
+                }
+            }
+            if (pass == 0) {
+                numTranslucent = numSorted;
+            }
+        }
+        /*
+         * Map each color to its nearest entry.
+         */
+        Map<Integer, Integer> indexMap = new HashMap<>(2 * colors.length);
+        int error = 0;
+        for (int color : colors) {
+            int[] match = nearest(color, sorted, numEntries);
+            indexMap.put(color, match[0]);
+            error = Math.max(error, match[1]);
+        }
+        this.maxError = error;
+
+        PngPixels result
+                = PngColors.indexed(width, height, rgba, indexMap, sorted,
+                        numTranslucent);
+
+        return result;
+    }
+
+    /**
+     * Pack the RGBA samples of a pixel into an int.
+     *
+     * @param rgba the samples (not null, unaffected)
+     * @param i the index of the pixel's red sample (&ge;0)
+     * @return the packed color
+     */
+    static int rgbaAt(byte[] rgba, int i) {
+        int result = ((rgba[i] & 0xFF) << 24) | ((rgba[i + 1] & 0xFF) << 16)
+                | ((rgba[i + 2] & 0xFF) << 8) | (rgba[i + 3] & 0xFF);
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Find the entry nearest to the specified color, using the largest
+     * per-channel difference. Ties go to the lowest index.
+     *
+     * @param color the color to match, packed as RGBA
+     * @param entries the palette entries, packed as RGBA (not null,
+     * unaffected)
+     * @param numEntries the number of entries to search (&gt;0)
+     * @return a new array containing the index and the difference
+     */
+    private static int[] nearest(int color, int[] entries, int numEntries) {
+        int[] result = {0, Integer.MAX_VALUE};
+        for (int k = 0; k < numEntries && result[1] > 0; ++k) {
+            int difference = 0;
+            for (int shift = 0; shift < 32; shift += 8) {
+                int delta = ((color >>> shift) & 0xFF)
+                        - ((entries[k] >>> shift) & 0xFF);
+                difference = Math.max(difference, Math.abs(delta));
+            }
+            if (difference < result[1]) {
+                result[0] = k;
+                result[1] = difference;
+            }
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.logging.Logger;
+import java.util.zip.Adler32;
+import java.util.zip.Deflater;
+
+/**
+ * Compress data into a zlib stream using all available processors, in the
+ * manner of pigz: each chunk is deflated independently, primed with the final
+ * 32 KiB of the preceding chunk, and all but the last chunk end on a byte
+ * boundary. Since the chunks are supplied by the caller, the output doesn't
+ * depend on the number of threads.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class ParallelDeflater {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * size of the deflate sliding window (in bytes)
+     */
+    final private static int windowSize = 32 * 1024;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(ParallelDeflater.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private ParallelDeflater() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Compress the concatenation of the specified chunks into a zlib stream.
+     *
+     * @param chunks the uncompressed data, in order (not null, not empty,
+     * unaffected)
+     * @param level the compression level (&ge;0, &le;9)
+     * @param strategy the Deflater strategy to use
+     * @return a new array containing the zlib stream
+     */
+    static byte[] deflate(
+            final byte[][] chunks, final int level, final int strategy) {
+        final int numChunks = chunks.length;
+        List<Callable<byte[]>> tasks = new ArrayList<>(numChunks);
+        for (int i = 0; i < numChunks; ++i) {
+            final int chunkIndex = i;
+            tasks.add(new Callable<byte[]>() {
+                @Override
+                public byte[] call() {
+                    byte[] previous
+                            = (chunkIndex == 0) ? null : chunks[chunkIndex - 1];
+                    boolean isLast = (chunkIndex == numChunks - 1);
+                    return deflateChunk(chunks[chunkIndex], previous,
+                            isLast, level, strategy);
+                }
+            });
+        }
+        byte[][] compressed = Workers.run(tasks);
+
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        /*
+         * zlib header: 32 KiB window, deflate method, no preset dictionary
+         */
+        int cmf = 0x78;
+        int flevel;
+        if (level <= 1) {
+            flevel = 0;
+        } else if (level <= 5) {
+            flevel = 1;
+        } else if (level == 6) {
+            flevel = 2;
+        } else {
+            flevel = 3;
+        }
+        int flg = flevel << 6;
+        flg += (31 - (cmf * 256 + flg) % 31) % 31;
+        stream.write(cmf);
+        stream.write(flg);
+
+        Adler32 adler = new Adler32();
+        for (int i = 0; i < numChunks; ++i) {
+            stream.write(compressed[i], 0, compressed[i].length);
+            adler.update(chunks[i]);
+        }
+        /*
+         * zlib trailer: Adler-32 checksum of the uncompressed data, big-endian
+         */
+        int checksum = (int) adler.getValue();
+        stream.write(checksum >>> 24);
+        stream.write(checksum >>> 16);
+        stream.write(checksum >>> 8);
+        stream.write(checksum);
+
+        byte[] result = stream.toByteArray();
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Deflate a single chunk into raw deflate blocks.
+     *
+     * @param chunk the data to compress (not null, unaffected)
+     * @param previous the preceding chunk, or null if none (unaffected)
+     * @param isLast true to finish the deflate stream, false to end with a
+     * sync flush
+     * @param level the compression level (&ge;0, &le;9)
+     * @param strategy the Deflater strategy to use
+     * @return a new array of compressed data
+     */
+    private static byte[] deflateChunk(byte[] chunk, byte[] previous,
+            boolean isLast, int level, int strategy) {
+        Deflater deflater = new Deflater(level, true);
+        deflater.setStrategy(strategy);
+        byte[] buffer = new byte[16 * 1024];
+        /*
+         * Apply the strategy before priming the dictionary;
+         * otherwise the dictionary is lost when the change takes effect.
+         */
+        deflater.deflate(buffer, 0, buffer.length, Deflater.NO_FLUSH);
+        if (previous != null) {
+            int dictLength = Math.min(windowSize, previous.length);
+            deflater.setDictionary(previous, previous.length - dictLength,
+                    dictLength);
+        }
+        deflater.setInput(chunk);
+
+        ByteArrayOutputStream stream
+                = new ByteArrayOutputStream(chunk.length / 2 + 64);
+        if (isLast) {
+            deflater.finish();
+            while (!deflater.finished()) {
+                int count = deflater.deflate(buffer);
+                stream.write(buffer, 0, count);
+            }
+        } else {
+            int count;
+            do {
+                count = deflater.deflate(
+                        buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                stream.write(buffer, 0, count);
+            } while (count == buffer.length);
+        }
+        deflater.end();
+
+        byte[] result = stream.toByteArray();
+        return result;
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * Generate a batch of recipes in 4 overlapping stages: render, downsample,
+ * encode, and write. Each stage has its own threads, and bounded queues
+ * between the stages limit how many images are in flight, so the throughput
+ * of the batch approaches that of its slowest stage.
+ * <p>
+ * The CPU stages get one thread per processor. File writes from the encode
+ * stage are deferred to a single I/O thread, so the disk stays busy while
+ * the processors render and encode.
+ * <p>
+ * Jobs start longest first, based on the costs recorded by previous runs,
+ * which shortens the batch's makespan. Each job is admitted only when its
+ * estimated peak memory fits within the heap budget, and its share is
+ * returned after it's encoded. Master canvases are recycled through the
+ * CanvasPool, and the batch's allocations and GC pauses are reported at the
+ * end.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class Pipeline {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * capacity of each queue between CPU stages (in jobs)
+     */
+    final private static int jobCapacity = 2;
+    /**
+     * capacity of the queue of deferred file writes
+     */
+    final private static int writeCapacity = 16;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(Pipeline.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private Pipeline() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Generate all variants of the specified recipes and write them to
+     * files, with the same results as invoking Generator.generate() on each
+     * recipe in turn.
+     *
+     * @param recipes the recipes to generate (not null, no null elements)
+     */
+    public static void generate(Recipe... recipes) {
+        Validate.nonNull(recipes, "recipes");
+
+        BatchMetrics metrics = new BatchMetrics();
+        long startNanos = System.nanoTime();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        BlockingQueue<Runnable> toRender
+                = new ArrayBlockingQueue<>(jobCapacity);
+        BlockingQueue<Runnable> toDownsample
+                = new ArrayBlockingQueue<>(jobCapacity);
+        BlockingQueue<Runnable> toEncode
+                = new ArrayBlockingQueue<>(jobCapacity);
+        BlockingQueue<Runnable> toWrite
+                = new ArrayBlockingQueue<>(writeCapacity);
+
+        int numThreads = Workers.numThreads;
+        PipelineStage render = new PipelineStage(
+                "render", numThreads, toRender, toDownsample, null, failure);
+        PipelineStage downsample = new PipelineStage("downsample",
+                numThreads, toDownsample, toEncode, null, failure);
+        PipelineStage encode = new PipelineStage(
+                "encode", numThreads, toEncode, null, toWrite, failure);
+        PipelineStage write
+                = new PipelineStage("write", 1, toWrite, null, null, failure);
+        PipelineStage[] stages = {render, downsample, encode, write};
+        for (PipelineStage stage : stages) {
+            stage.start();
+        }
+
+        RecipeJob[] jobs = new RecipeJob[recipes.length];
+        for (int i = 0; i < recipes.length; ++i) {
+            jobs[i] = new RecipeJob(recipes[i]);
+        }
+        RecipeCosts.order(jobs);
+        long budgetKib = PipelineSettings.heapBudget() >> 10;
+        int maxPermits = (int) Math.min(Integer.MAX_VALUE, budgetKib);
+        Semaphore budget = new Semaphore(maxPermits);
+        for (RecipeJob job : jobs) {
+            long kib = (job.estimateBytes() + 1023L) >> 10;
+            int permits = (int) Math.min(maxPermits, kib);
+            if (!acquire(budget, permits, failure)) {
+                break;
+            }
+            job.setPermits(budget, permits);
+            PipelineStage.put(toRender, job);
+        }
+        PipelineStage.put(toRender, PipelineStage.end);
+        encode.join();
+        PipelineStage.put(toWrite, PipelineStage.end);
+        write.join();
+
+        if (logger.isLoggable(Level.INFO)) {
+            double wallSeconds = (System.nanoTime() - startNanos) * 1e-9;
+            StringBuilder message = new StringBuilder();
+            message.append(String.format(Locale.ROOT,
+                    "generated %d recipes in %.2f s;", recipes.length,
+                    wallSeconds));
+            for (PipelineStage stage : stages) {
+                message.append(String.format(Locale.ROOT, " %s busy %.2f s",
+                        stage.name(), stage.busySeconds()));
+            }
+            logger.info(message.toString());
+        }
+        metrics.report(recipes.length);
+
+        Throwable throwable = failure.get();
+        if (throwable == null) {
+            RecipeCosts.record(jobs);
+        } else if (throwable instanceof RuntimeException) {
+            throw (RuntimeException) throwable;
+        } else {
+            throw new RuntimeException(throwable);
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Wait until the specified number of permits can be acquired from the
+     * budget, unless the pipeline fails first.
+     *
+     * @param budget the memory budget (not null)
+     * @param permits the number of permits to acquire (&ge;0)
+     * @param failure the first failure in the pipeline (not null, unaffected)
+     * @return true if acquired, false if the pipeline failed
+     */
+    private static boolean acquire(Semaphore budget, int permits,
+            AtomicReference<Throwable> failure) {
+        try {
+            while (!budget.tryAcquire(permits, 100L, TimeUnit.MILLISECONDS)) {
+                if (failure.get() != null) {
+                    return false;
+                }
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(exception);
+        }
+
+        return true;
+    }
+}
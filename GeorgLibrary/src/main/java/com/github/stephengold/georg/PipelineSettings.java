@@ -0,0 +1,91 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.util.logging.Logger;
+
+/**
+ * Access to the system properties that configure the Pipeline's scheduler.
+ * Like those of ExportSettings, each property name starts with "georg.", for
+ * instance: {@code ./gradlew textures -Dgeorg.heapBudget=512}
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class PipelineSettings {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(PipelineSettings.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private PipelineSettings() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the filesystem path to the file of recorded recipe costs, as
+     * configured by the "georg.costs" property.
+     *
+     * @return the path (not empty), or null if costs aren't recorded
+     */
+    public static String costsPath() {
+        String defaultPath = OutputFiles.path("recipe-costs.properties");
+        String text = ExportSettings.getString("costs", defaultPath).trim();
+        String result = text.equalsIgnoreCase("off") ? null : text;
+
+        return result;
+    }
+
+    /**
+     * Return the estimated memory that the jobs in flight may use at once, as
+     * configured by the "georg.heapBudget" property (in mebibytes). The
+     * default is 3/4 of the maximum heap size.
+     *
+     * @return the budget (in bytes, &gt;0)
+     */
+    public static long heapBudget() {
+        long maxHeap = Runtime.getRuntime().maxMemory();
+        long threeQuarters = maxHeap / 4 * 3;
+        int defaultMib = (int) Math.min(Integer.MAX_VALUE, threeQuarters >> 20);
+        int mebibytes = ExportSettings.getInt("heapBudget", defaultMib);
+        if (mebibytes == 0) {
+            throw new IllegalArgumentException("georg.heapBudget = 0");
+        }
+        long result = (long) mebibytes << 20;
+
+        return result;
+    }
+}
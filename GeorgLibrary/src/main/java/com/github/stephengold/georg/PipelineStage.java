@@ -0,0 +1,243 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+/**
+ * One stage of a Pipeline: a group of daemon threads that take items from an
+ * input queue, run them, and put them on an output queue. A special item
+ * marks the end of the input. After the last thread sees it, the stage puts
+ * the marker on its output queue.
+ * <p>
+ * After the first failure anywhere in the pipeline, items are drained
+ * without being run, so no stage blocks forever.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class PipelineStage {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(PipelineStage.class.getName());
+    /**
+     * end-of-input marker
+     */
+    final static Runnable end = new Runnable() {
+        @Override
+        public void run() {
+            // do nothing
+        }
+    };
+    // *************************************************************************
+    // fields
+
+    /**
+     * first failure in the pipeline, or null if none
+     */
+    final private AtomicReference<Throwable> failure;
+    /**
+     * number of threads that haven't seen the end marker yet
+     */
+    final private AtomicInteger live;
+    /**
+     * total time spent processing items, summed over all threads (in
+     * nanoseconds)
+     */
+    final private AtomicLong busyNanos = new AtomicLong();
+    /**
+     * queue for deferred file writes, or null to write immediately
+     */
+    final private BlockingQueue<Runnable> deferTo;
+    /**
+     * items to run
+     */
+    final private BlockingQueue<Runnable> input;
+    /**
+     * items that have run, or null to discard them
+     */
+    final private BlockingQueue<Runnable> output;
+    /**
+     * name of the stage, for thread names and log messages
+     */
+    final private String name;
+    /**
+     * threads of the stage
+     */
+    final private Thread[] threads;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a stage. Its threads don't start until start() is invoked.
+     *
+     * @param name the name of the stage (not null)
+     * @param numThreads the number of threads (&gt;0)
+     * @param input the input queue (not null, alias created)
+     * @param output the output queue (alias created) or null
+     * @param deferTo the queue for the stage's file writes (alias created) or
+     * null to write immediately
+     * @param failure storage for the first failure (not null, alias created)
+     */
+    PipelineStage(String name, int numThreads, BlockingQueue<Runnable> input,
+            BlockingQueue<Runnable> output, BlockingQueue<Runnable> deferTo,
+            AtomicReference<Throwable> failure) {
+        this.name = name;
+        this.deferTo = deferTo;
+        this.input = input;
+        this.output = output;
+        this.failure = failure;
+        this.live = new AtomicInteger(numThreads);
+        this.threads = new Thread[numThreads];
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the total time spent processing items.
+     *
+     * @return the sum over all threads (in seconds, &ge;0)
+     */
+    double busySeconds() {
+        double result = busyNanos.get() * 1e-9;
+        return result;
+    }
+
+    /**
+     * Wait for every thread of the stage to finish.
+     */
+    void join() {
+        try {
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(exception);
+        }
+    }
+
+    /**
+     * Return the name of the stage.
+     *
+     * @return the name (not null)
+     */
+    String name() {
+        return name;
+    }
+
+    /**
+     * Put an item on the specified queue, waiting for room if necessary.
+     *
+     * @param queue the queue (not null, modified)
+     * @param item the item to put (not null)
+     */
+    static void put(BlockingQueue<Runnable> queue, Runnable item) {
+        try {
+            queue.put(item);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(exception);
+        }
+    }
+
+    /**
+     * Start the threads of the stage.
+     */
+    void start() {
+        Runnable body = new Runnable() {
+            @Override
+            public void run() {
+                loop();
+            }
+        };
+        for (int i = 0; i < threads.length; ++i) {
+            threads[i] = new Thread(body, "georg-" + name);
+            threads[i].setDaemon(true);
+            threads[i].start();
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Run items until the end marker is seen, then pass the marker on.
+     */
+    private void loop() {
+        OutputFiles.deferWrites(deferTo);
+        while (true) {
+            Runnable item;
+            try {
+                item = input.take();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(exception);
+            }
+            if (item == end) {
+                break;
+            } else if (failure.get() != null) {
+                continue;
+            }
+
+            long startNanos = System.nanoTime();
+            FutureTask<Void> task = new FutureTask<>(item, null);
+            task.run();
+            busyNanos.addAndGet(System.nanoTime() - startNanos);
+            try {
+                task.get();
+            } catch (ExecutionException exception) {
+                failure.compareAndSet(null, exception.getCause());
+                continue;
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(exception);
+            }
+            if (output != null) {
+                put(output, item);
+            }
+        }
+        /*
+         * Let the other threads of this stage see the marker, and
+         * the last one pass it downstream.
+         */
+        put(input, end);
+        if (live.decrementAndGet() == 0 && output != null) {
+            put(output, end);
+        }
+        BatchMetrics.retireThread();
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * Utility methods to frame PNG chunks and write them to files.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class PngChunks {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(PngChunks.class.getName());
+    /**
+     * PNG file signature
+     */
+    final static byte[] signature = {
+        (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'
+    };
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private PngChunks() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Generate the start of a PNG file: its signature and IHDR chunk, for 8
+     * bits per sample without interlacing.
+     *
+     * @param width the image width (in pixels, &gt;0)
+     * @param height the image height (in pixels, &gt;0)
+     * @param colorType the PNG color type (0, 2, 3, 4, or 6)
+     * @return a new buffer, ready to read
+     */
+    static ByteBuffer header(int width, int height, int colorType) {
+        ByteBuffer ihdr = ByteBuffer.allocate(13);
+        ihdr.putInt(width);
+        ihdr.putInt(height);
+        ihdr.put((byte) 8); // bit depth
+        ihdr.put((byte) colorType);
+        ihdr.put((byte) 0); // compression method: deflate
+        ihdr.put((byte) 0); // filter method: adaptive
+        ihdr.put((byte) 0); // interlace method: none
+        ByteBuffer frame = frame("IHDR", ihdr.array(), 13);
+
+        ByteBuffer result
+                = ByteBuffer.allocate(signature.length + frame.remaining());
+        result.put(signature);
+        result.put(frame);
+        result.flip();
+
+        return result;
+    }
+
+    /**
+     * Frame a PNG chunk with its length, type, and CRC.
+     *
+     * @param type the 4-letter chunk type (not null)
+     * @param data the chunk data (not null, unaffected)
+     * @param length the number of data bytes to include (&ge;0)
+     * @return a new buffer, ready to read, with a backing array
+     */
+    static ByteBuffer frame(String type, byte[] data, int length) {
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data, 0, length);
+
+        ByteBuffer result = ByteBuffer.allocate(length + 12);
+        result.putInt(length);
+        result.put(typeBytes);
+        result.put(data, 0, length);
+        result.putInt((int) crc.getValue());
+        result.flip();
+
+        return result;
+    }
+
+    /**
+     * Write the remaining bytes of a buffer to a channel.
+     *
+     * @param channel the destination (not null, open)
+     * @param buffer the data to write (not null, position advanced to its
+     * limit)
+     */
+    static void write(FileChannel channel, ByteBuffer buffer) {
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Utility methods to choose PNG color types for images.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class PngColors {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(PngColors.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private PngColors() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Enumerate the lossless encodings of the specified image that might be
+     * the smallest: RGB or RGBA, plus an indexed one if the image has at most
+     * 256 distinct colors. The grayscale types are never used, for the
+     * reason given at {@link #minimal(java.awt.image.BufferedImage)}.
+     *
+     * @param image the image to analyze (not null, unaffected)
+     * @return a new array of candidates (not null, not empty)
+     */
+    static PngPixels[] candidates(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        byte[] rgba = ImageConverter.interleave(image, 4);
+
+        PngPixels truecolor = truecolor(width, height, rgba);
+
+        PaletteQuantizer lossless = new PaletteQuantizer(0);
+        PngPixels indexed = lossless.quantize(width, height, rgba);
+        PngPixels[] result;
+        if (indexed == null) {
+            result = new PngPixels[]{truecolor};
+        } else {
+            result = new PngPixels[]{truecolor, indexed};
+        }
+
+        return result;
+    }
+
+    /**
+     * Lay out the specified image using the smallest lossless truecolor type:
+     * RGB or RGBA. The grayscale types are avoided, because ImageIO decodes
+     * them as linear gray, so getRGB() brightens their gray levels, and
+     * jMonkeyEngine's AWTLoader reads gray+alpha images that way: the
+     * textures would load visibly wrong.
+     *
+     * @param image the image to lay out (not null, unaffected)
+     * @return a new instance
+     */
+    static PngPixels minimal(BufferedImage image) {
+        byte[] rgba = ImageConverter.interleave(image, 4);
+        PngPixels result
+                = truecolor(image.getWidth(), image.getHeight(), rgba);
+
+        return result;
+    }
+
+    /**
+     * Lay out RGBA samples as palette indices, using the smallest bit depth
+     * that fits.
+     *
+     * @param width the image width (in pixels, &gt;0)
+     * @param height the image height (in pixels, &gt;0)
+     * @param rgba the samples, top row first (not null, unaffected)
+     * @param indexMap the index of each color (not null, unaffected)
+     * @param entries the palette entries, translucent ones first (not null,
+     * not empty, unaffected)
+     * @param numTranslucent the number of translucent entries (&ge;0)
+     * @return a new instance
+     */
+    static PngPixels indexed(int width, int height, byte[] rgba,
+            Map<Integer, Integer> indexMap, int[] entries,
+            int numTranslucent) {
+        int bitDepth = 8;
+        while (bitDepth > 1 && entries.length <= 1 << (bitDepth / 2)) {
+            bitDepth /= 2;
+        }
+        int rowBytes = (width * bitDepth + 7) / 8;
+        byte[] samples = new byte[rowBytes * height];
+        int pixelsPerByte = 8 / bitDepth;
+        for (int y = 0; y < height; ++y) {
+            for (int x = 0; x < width; ++x) {
+                int color = PaletteQuantizer.rgbaAt(rgba, 4 * (x + y * width));
+                int index = indexMap.get(color);
+                int shift = 8 - bitDepth * (1 + x % pixelsPerByte);
+                samples[y * rowBytes + x / pixelsPerByte] |= index << shift;
+            }
+        }
+        PngPixels result = new PngPixels(width, height, 3, bitDepth, samples);
+
+        byte[] plte = new byte[3 * entries.length];
+        byte[] trns = new byte[numTranslucent];
+        for (int k = 0; k < entries.length; ++k) {
+            plte[3 * k] = (byte) (entries[k] >>> 24);
+            plte[3 * k + 1] = (byte) (entries[k] >>> 16);
+            plte[3 * k + 2] = (byte) (entries[k] >>> 8);
+            if (k < numTranslucent) {
+                trns[k] = (byte) entries[k];
+            }
+        }
+        result.setPalette(plte, (numTranslucent == 0) ? null : trns);
+
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Lay out RGBA samples as RGB if they're all opaque, otherwise as RGBA.
+     *
+     * @param width the image width (in pixels, &gt;0)
+     * @param height the image height (in pixels, &gt;0)
+     * @param rgba the samples, top row first (not null, unaffected)
+     * @return a new instance
+     */
+    private static PngPixels truecolor(int width, int height, byte[] rgba) {
+        boolean isOpaque = true;
+        for (int i = 3; i < rgba.length; i += 4) {
+            if (rgba[i] != (byte) 0xFF) {
+                isOpaque = false;
+                break;
+            }
+        }
+
+        int colorType = isOpaque ? 2 : 6;
+        int channels = isOpaque ? 3 : 4;
+        byte[] samples = new byte[channels * width * height];
+        int j = 0;
+        for (int i = 0; i < rgba.length; ++i) {
+            if (!isOpaque || i % 4 < 3) {
+                samples[j] = rgba[i];
+                ++j;
+            }
+        }
+        PngPixels result
+                = new PngPixels(width, height, colorType, 8, samples);
+
+        return result;
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.Deflater;
+import jme3utilities.Validate;
+
+/**
+ * Encode images as PNG files, filtering and compressing in parallel.
+ * <p>
+ * The encoding is deterministic: it depends only on the pixels and the
+ * encoder's settings, not on the number of processors, and no timestamps or
+ * other metadata are written. Each image is written as RGB if it's opaque,
+ * otherwise as RGBA.
+ * <p>
+ * In optimizing mode, the encoder also tries indexed color (if possible),
+ * tries every filter with several deflate strategies at level 9, and keeps
+ * the smallest result.
+ * <p>
+ * In palette mode, each image is quantized to at most 256 colors within a
+ * per-channel tolerance and written in indexed color, with a tRNS chunk for
+ * translucent entries. Images that need more entries are written as usual.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class PngEncoder {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * Deflater strategies to try when optimizing
+     */
+    final private static int[] strategies = {
+        Deflater.DEFAULT_STRATEGY, Deflater.FILTERED, Deflater.HUFFMAN_ONLY
+    };
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(PngEncoder.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * true to search for the smallest encoding, false to use level and filter
+     */
+    final private boolean optimize;
+    /**
+     * zlib compression level (&ge;0, &le;9)
+     */
+    final private int level;
+    /**
+     * largest per-channel error for palette mode, or -1 to disable it
+     */
+    final private int tolerance;
+    /**
+     * per-row filter heuristic
+     */
+    final private PngFilter filter;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an encoder configured by the "georg.pngLevel",
+     * "georg.pngFilter", "georg.pngOptimize", and "georg.pngPalette"
+     * properties.
+     */
+    public PngEncoder() {
+        this(PngSettings.level(), PngSettings.filter(),
+                PngSettings.optimize(), PngSettings.paletteTolerance());
+    }
+
+    /**
+     * Instantiate an encoder with the specified settings.
+     *
+     * @param level the zlib compression level (&ge;0, &le;9)
+     * @param filter the per-row filter heuristic (not null)
+     * @param optimize true to search for the smallest encoding (ignoring
+     * level and filter), otherwise false
+     * @param tolerance the largest per-channel error for palette mode
+     * (&ge;0, &le;255) or -1 to disable palette mode
+     */
+    public PngEncoder(
+            int level, PngFilter filter, boolean optimize, int tolerance) {
+        Validate.inRange(level, "level", 0, 9);
+        Validate.nonNull(filter, "filter");
+        Validate.inRange(tolerance, "tolerance", -1, 255);
+
+        this.level = level;
+        this.filter = filter;
+        this.optimize = optimize;
+        this.tolerance = tolerance;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Encode the specified image. Unless optimizing, it's encoded as RGB or
+     * RGBA.
+     *
+     * @param image the image to encode (not null, unaffected)
+     * @return a new array containing the PNG file
+     */
+    public byte[] encode(BufferedImage image) {
+        byte[] result = encode(image, "image");
+        return result;
+    }
+
+    /**
+     * Encode the specified image and write it to a file.
+     *
+     * @param filePath the filesystem path to the file (not null, not empty)
+     * @param image the image to encode (not null, unaffected)
+     */
+    public void write(String filePath, BufferedImage image) {
+        Validate.nonEmpty(filePath, "file path");
+
+        byte[] bytes = encode(image, filePath);
+        OutputFiles.writeBytes(filePath, ByteBuffer.wrap(bytes));
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Encode the specified image.
+     *
+     * @param image the image to encode (not null, unaffected)
+     * @param description how to identify the image in log messages (not null)
+     * @return a new array containing the PNG file
+     */
+    private byte[] encode(BufferedImage image, String description) {
+        PngPixels indexed
+                = (tolerance < 0) ? null : quantize(image, description);
+        PngPixels[] layouts;
+        if (indexed != null) {
+            layouts = new PngPixels[]{indexed};
+        } else if (optimize) {
+            layouts = PngColors.candidates(image);
+        } else {
+            layouts = new PngPixels[]{PngColors.minimal(image)};
+        }
+
+        byte[] result;
+        if (optimize) {
+            result = encodeSmallest(layouts);
+        } else {
+            result = layouts[0].encode(
+                    filter, level, Deflater.DEFAULT_STRATEGY);
+        }
+
+        return result;
+    }
+
+    /**
+     * Encode each candidate with every combination of filter and strategy, in
+     * parallel, and return the smallest result. Ties go to the earliest
+     * combination, so the choice is deterministic.
+     *
+     * @param candidates the pixel layouts to try (not null, not empty)
+     * @return a new array containing the PNG file
+     */
+    private static byte[] encodeSmallest(PngPixels[] candidates) {
+        List<Callable<byte[]>> tasks = new ArrayList<>();
+        for (final PngPixels candidate : candidates) {
+            for (final PngFilter trialFilter : PngFilter.values()) {
+                for (final int strategy : strategies) {
+                    tasks.add(new Callable<byte[]>() {
+                        @Override
+                        public byte[] call() {
+                            return candidate.encode(
+                                    trialFilter, 9, strategy);
+                        }
+                    });
+                }
+            }
+        }
+        byte[][] trials = Workers.run(tasks);
+
+        int bestIndex = 0;
+        for (int i = 1; i < trials.length; ++i) {
+            if (trials[i].length < trials[bestIndex].length) {
+                bestIndex = i;
+            }
+        }
+        byte[] result = trials[bestIndex];
+
+        return result;
+    }
+
+    /**
+     * Quantize the specified image for palette mode and log the result.
+     *
+     * @param image the image to quantize (not null, unaffected)
+     * @param description how to identify the image in log messages (not null)
+     * @return a new instance, or null if the image needs more than 256
+     * entries
+     */
+    private PngPixels quantize(BufferedImage image, String description) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        byte[] rgba = ImageConverter.interleave(image, 4);
+        PaletteQuantizer quantizer = new PaletteQuantizer(tolerance);
+        PngPixels result = quantizer.quantize(width, height, rgba);
+
+        if (result == null) {
+            logger.log(Level.WARNING, "Can''t quantize {0}: more than 256 "
+                    + "colors are needed at tolerance {1}.",
+                    new Object[]{description, tolerance});
+        } else {
+            int maxError = quantizer.maxError();
+            Level logLevel = (maxError == 0) ? Level.INFO : Level.WARNING;
+            logger.log(logLevel, "Quantized {0} with a max error of {1}.",
+                    new Object[]{description, maxError});
+        }
+
+        return result;
+    }
+}
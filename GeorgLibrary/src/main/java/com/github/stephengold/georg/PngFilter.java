@@ -0,0 +1,82 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+/**
+ * Enumerate the per-row filter heuristics of the PNG encoder.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public enum PngFilter {
+    // *************************************************************************
+    // values
+
+    /**
+     * store each row unfiltered (type 0)
+     */
+    None,
+    /**
+     * predict each byte from the pixel to its left (type 1)
+     */
+    Sub,
+    /**
+     * predict each byte from the pixel above it (type 2)
+     */
+    Up,
+    /**
+     * predict each byte from the mean of the left and upper pixels (type 3)
+     */
+    Average,
+    /**
+     * predict each byte using the Paeth predictor (type 4)
+     */
+    Paeth,
+    /**
+     * try all 5 filters on each row and keep the one with the smallest sum of
+     * absolute (signed) residuals, as libpng does
+     */
+    Adaptive;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Find the value with the specified name, ignoring case.
+     *
+     * @param name the name to match (not null)
+     * @return the matching value (not null)
+     * @throws IllegalArgumentException if no value matches
+     */
+    public static PngFilter parse(String name) {
+        for (PngFilter value : values()) {
+            if (value.name().equalsIgnoreCase(name)) {
+                return value;
+            }
+        }
+
+        throw new IllegalArgumentException("PngFilter = " + name);
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.logging.Logger;
+
+/**
+ * The pixels of an image, laid out in one of the PNG color types and ready to
+ * be filtered, compressed, and wrapped in chunks.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class PngPixels {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * target size for each unit of parallel work (in uncompressed bytes)
+     */
+    final private static int chunkSize = 128 * 1024;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(PngPixels.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * contents of the PLTE chunk, or null if none
+     */
+    private byte[] palette;
+    /**
+     * packed samples, top row first, without filter-type bytes
+     */
+    final private byte[] samples;
+    /**
+     * contents of the tRNS chunk, or null if none
+     */
+    private byte[] transparency;
+    /**
+     * number of bits per sample or palette index (1, 2, 4, or 8)
+     */
+    final private int bitDepth;
+    /**
+     * number of bytes per complete pixel, for filtering (&ge;1)
+     */
+    final private int bpp;
+    /**
+     * PNG color type (0, 2, 3, 4, or 6)
+     */
+    final private int colorType;
+    /**
+     * image dimensions (in pixels)
+     */
+    final private int height;
+    final private int width;
+    /**
+     * number of bytes in each row (&gt;0)
+     */
+    final private int rowBytes;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate pixels without a palette.
+     *
+     * @param width the image width (in pixels, &gt;0)
+     * @param height the image height (in pixels, &gt;0)
+     * @param colorType the PNG color type (0, 2, 3, 4, or 6)
+     * @param bitDepth the number of bits per sample (1, 2, 4, or 8)
+     * @param samples the packed samples, top row first (not null, alias
+     * created)
+     */
+    PngPixels(int width, int height, int colorType, int bitDepth,
+            byte[] samples) {
+        int[] channelCounts = {1, 0, 3, 1, 2, 0, 4};
+        int bitsPerPixel = channelCounts[colorType] * bitDepth;
+
+        this.width = width;
+        this.height = height;
+        this.colorType = colorType;
+        this.bitDepth = bitDepth;
+        this.samples = samples;
+        this.bpp = Math.max(1, bitsPerPixel / 8);
+        this.rowBytes = (width * bitsPerPixel + 7) / 8;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Encode the pixels as a complete PNG file.
+     *
+     * @param filter the per-row filter heuristic (not null)
+     * @param level the zlib compression level (&ge;0, &le;9)
+     * @param strategy the Deflater strategy to use
+     * @return a new array containing the PNG file
+     */
+    byte[] encode(PngFilter filter, int level, int strategy) {
+        byte[][] chunks = filterRows(filter);
+        byte[] idat = ParallelDeflater.deflate(chunks, level, strategy);
+
+        ByteBuffer ihdr = ByteBuffer.allocate(13);
+        ihdr.putInt(width);
+        ihdr.putInt(height);
+        ihdr.put((byte) bitDepth);
+        ihdr.put((byte) colorType);
+        ihdr.put((byte) 0); // compression method: deflate
+        ihdr.put((byte) 0); // filter method: adaptive
+        ihdr.put((byte) 0); // interlace method: none
+
+        ByteArrayOutputStream stream
+                = new ByteArrayOutputStream(idat.length + 64);
+        stream.write(PngChunks.signature, 0, PngChunks.signature.length);
+        writeChunk(stream, "IHDR", ihdr.array());
+        if (palette != null) {
+            writeChunk(stream, "PLTE", palette);
+        }
+        if (transparency != null) {
+            writeChunk(stream, "tRNS", transparency);
+        }
+        writeChunk(stream, "IDAT", idat);
+        writeChunk(stream, "IEND", new byte[0]);
+        byte[] result = stream.toByteArray();
+
+        return result;
+    }
+
+    /**
+     * Alter the palette, for color type 3.
+     *
+     * @param rgb the contents of the PLTE chunk (not null, alias created)
+     * @param alpha the contents of the tRNS chunk, or null if all entries are
+     * opaque (alias created)
+     */
+    void setPalette(byte[] rgb, byte[] alpha) {
+        this.palette = rgb;
+        this.transparency = alpha;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Filter the rows in parallel, in groups whose boundaries depend only on
+     * the image's dimensions.
+     *
+     * @param filter the per-row filter heuristic (not null)
+     * @return a new array of filtered chunks, in row order
+     */
+    private byte[][] filterRows(final PngFilter filter) {
+        final int rowsPerChunk = Math.max(1, chunkSize / (rowBytes + 1));
+
+        List<Callable<byte[]>> tasks = new ArrayList<>();
+        for (int start = 0; start < height; start += rowsPerChunk) {
+            final int firstRow = start;
+            final int endRow = Math.min(height, start + rowsPerChunk);
+            tasks.add(new Callable<byte[]>() {
+                @Override
+                public byte[] call() {
+                    byte[] result = new byte[(endRow - firstRow)
+                            * (rowBytes + 1)];
+                    byte[] row = new byte[rowBytes];
+                    byte[] prior = new byte[rowBytes];
+                    if (firstRow > 0) {
+                        System.arraycopy(samples, (firstRow - 1) * rowBytes,
+                                prior, 0, rowBytes);
+                    }
+                    for (int y = firstRow; y < endRow; ++y) {
+                        System.arraycopy(
+                                samples, y * rowBytes, row, 0, rowBytes);
+                        int destPos = (y - firstRow) * (rowBytes + 1);
+                        RowFilter.filter(
+                                filter, row, prior, bpp, result, destPos);
+                        byte[] swap = prior;
+                        prior = row;
+                        row = swap;
+                    }
+                    return result;
+                }
+            });
+        }
+        byte[][] result = Workers.run(tasks);
+
+        return result;
+    }
+
+    /**
+     * Write a PNG chunk with its length and CRC.
+     *
+     * @param stream the output stream (not null, modified)
+     * @param type the 4-letter chunk type (not null)
+     * @param data the chunk data (not null, unaffected)
+     */
+    private static void writeChunk(
+            ByteArrayOutputStream stream, String type, byte[] data) {
+        ByteBuffer chunk = PngChunks.frame(type, data, data.length);
+        stream.write(chunk.array(), 0, chunk.limit());
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.Deflater;
+import jme3utilities.Validate;
+
+/**
+ * Write a PNG file incrementally, one band of rows at a time, so the complete
+ * image never needs to be in memory. Each row is filtered and fed to a single
+ * deflater as soon as it arrives, and compressed data is written to the file
+ * in fixed-size IDAT chunks.
+ * <p>
+ * Unlike PngEncoder, the color type must be chosen up front, and the output
+ * doesn't depend on how the rows are grouped into bands. Rows go straight to
+ * a temporary file, which replaces the destination only once every row is
+ * written. Since the image is never buffered whole, these writes aren't
+ * deferred by {@link OutputFiles}, even on a Pipeline's render threads.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class PngRowWriter implements Closeable {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * size of each IDAT chunk, except the last (in bytes)
+     */
+    final private static int idatSize = 64 * 1024;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(PngRowWriter.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * raw bytes of the current and previous rows (the latter all zeros
+     * before the 2nd row)
+     */
+    private byte[] row;
+    private byte[] prior;
+    /**
+     * compressed data not yet written
+     */
+    final private byte[] idat = new byte[idatSize];
+    /**
+     * the current row, filtered and preceded by its filter-type byte
+     */
+    final private byte[] filtered;
+    /**
+     * compresses the filtered rows
+     */
+    final private Deflater deflater;
+    /**
+     * temporary file being written
+     */
+    final private FileChannel channel;
+    /**
+     * number of channels per pixel: 1 (gray), 2 (gray+alpha), 3 (RGB), or 4
+     * (RGBA)
+     */
+    final private int channels;
+    /**
+     * image dimensions (in pixels)
+     */
+    final private int height;
+    final private int width;
+    /**
+     * number of bytes in idat not yet written
+     */
+    private int pending;
+    /**
+     * number of rows written so far
+     */
+    private int rowsWritten;
+    /**
+     * per-row filter heuristic
+     */
+    final private PngFilter filter;
+    /**
+     * filesystem paths to the destination and temporary files
+     */
+    final private String filePath;
+    final private String tmpPath;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Create the file and write its header.
+     *
+     * @param filePath the filesystem path to the file (not null, not empty)
+     * @param width the image width (in pixels, &gt;0)
+     * @param height the image height (in pixels, &gt;0)
+     * @param colorType the PNG color type: 0 (gray), 2 (RGB), 4 (gray+alpha),
+     * or 6 (RGBA)
+     * @param level the zlib compression level (&ge;0, &le;9)
+     * @param filter the per-row filter heuristic (not null)
+     */
+    public PngRowWriter(String filePath, int width, int height,
+            int colorType, int level, PngFilter filter) {
+        Validate.nonEmpty(filePath, "file path");
+        Validate.positive(width, "width");
+        Validate.positive(height, "height");
+        Validate.require(colorType % 2 == 0 && colorType <= 6,
+                "a gray or truecolor type");
+        Validate.inRange(level, "level", 0, 9);
+        Validate.nonNull(filter, "filter");
+
+        this.filePath = filePath;
+        this.tmpPath = filePath + ".tmp";
+        this.width = width;
+        this.height = height;
+        this.filter = filter;
+        this.channels = ((colorType & 2) == 0 ? 1 : 3) + colorType / 4;
+        this.row = new byte[channels * width];
+        this.prior = new byte[channels * width];
+        this.filtered = new byte[channels * width + 1];
+        this.deflater = new Deflater(level);
+        this.channel = OutputFiles.create(tmpPath);
+        ByteBuffer header = PngChunks.header(width, height, colorType);
+        try {
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+        } catch (IOException exception) {
+            OutputFiles.discard(channel, tmpPath);
+            throw new RuntimeException(exception);
+        }
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Filter, compress, and write the next band of rows.
+     *
+     * @param argb the pixels in ARGB order, top row first (not null,
+     * unaffected)
+     * @param numRows the number of rows in the band (&ge;0)
+     */
+    public void writeRows(int[] argb, int numRows) {
+        Validate.require(rowsWritten + numRows <= height, "rows remaining");
+        Validate.require(argb.length >= numRows * width, "a complete band");
+
+        for (int y = 0; y < numRows; ++y) {
+            for (int x = 0; x < width; ++x) {
+                int pixel = argb[x + y * width];
+                int j = x * channels;
+                row[j] = (byte) (pixel >>> 16);
+                if (channels >= 3) {
+                    row[j + 1] = (byte) (pixel >>> 8);
+                    row[j + 2] = (byte) pixel;
+                }
+                if (channels % 2 == 0) {
+                    row[j + channels - 1] = (byte) (pixel >>> 24);
+                }
+            }
+            RowFilter.filter(filter, row, prior, channels, filtered, 0);
+            byte[] swap = prior;
+            prior = row;
+            row = swap;
+
+            deflater.setInput(filtered);
+            while (!deflater.needsInput()) {
+                drain();
+            }
+        }
+        rowsWritten += numRows;
+    }
+    // *************************************************************************
+    // Closeable methods
+
+    /**
+     * Finish compression, write the remaining chunks, and move the file into
+     * place. If any rows are missing, or the file can't be completed, the
+     * temporary file is deleted instead.
+     */
+    @Override
+    public void close() {
+        boolean complete = false;
+        try {
+            if (rowsWritten < height) {
+                throw new IllegalStateException("Only " + rowsWritten + " of "
+                        + height + " rows were written to " + filePath);
+            }
+            deflater.finish();
+            while (!deflater.finished()) {
+                drain();
+            }
+            PngChunks.write(channel, PngChunks.frame("IDAT", idat, pending));
+            PngChunks.write(channel, PngChunks.frame("IEND", idat, 0));
+            channel.close();
+            OutputFiles.moveIntoPlace(tmpPath, filePath);
+            complete = true;
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        } finally {
+            deflater.end();
+            if (!complete) {
+                OutputFiles.discard(channel, tmpPath);
+            }
+        }
+        logger.log(Level.INFO, "wrote {0}", filePath);
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Collect compressed data from the deflater, writing an IDAT chunk
+     * whenever the buffer fills up.
+     */
+    private void drain() {
+        pending += deflater.deflate(idat, pending, idatSize - pending);
+        if (pending == idatSize) {
+            PngChunks.write(channel, PngChunks.frame("IDAT", idat, pending));
+            pending = 0;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.util.logging.Logger;
+
+/**
+ * Access to the system properties that configure the PNG encoder. Like those of
+ * ExportSettings, each property name starts with "georg.", for instance:
+ * {@code ./gradlew textures -Dgeorg.pngLevel=9}
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class PngSettings {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(PngSettings.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private PngSettings() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the per-row filter heuristic, as configured by the
+     * "georg.pngFilter" property.
+     *
+     * @return the enum value (not null)
+     */
+    public static PngFilter filter() {
+        String text = ExportSettings.getString("pngFilter", "adaptive");
+        PngFilter result = PngFilter.parse(text.trim());
+
+        return result;
+    }
+
+    /**
+     * Return the zlib compression level, as configured by the "georg.pngLevel"
+     * property.
+     *
+     * @return the level (&ge;0, &le;9)
+     */
+    public static int level() {
+        int result = ExportSettings.getInt("pngLevel", 6);
+        if (result > 9) {
+            throw new IllegalArgumentException("georg.pngLevel = " + result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Test whether the encoder should search for the smallest lossless
+     * encoding of each image, as configured by the "georg.pngOptimize"
+     * property.
+     *
+     * @return true to optimize, otherwise false
+     */
+    public static boolean optimize() {
+        String text = ExportSettings.getString("pngOptimize", "false");
+        boolean result = Boolean.parseBoolean(text.trim());
+
+        return result;
+    }
+
+    /**
+     * Return the per-channel tolerance for indexed-color output, as configured
+     * by the "georg.pngPalette" property.
+     *
+     * @return the tolerance (&ge;0, &le;255) or -1 if palette mode is off
+     */
+    public static int paletteTolerance() {
+        String text = ExportSettings.getString("pngPalette", "off");
+        int result;
+        if (text.trim().equalsIgnoreCase("off")) {
+            result = -1;
+        } else {
+            result = ExportSettings.getInt("pngPalette", 0);
+            if (result > 255) {
+                throw new IllegalArgumentException(
+                        "georg.pngPalette = " + text);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Test whether variants should be written one band of rows at a time, as
+     * configured by the "georg.pngStream" property. Streaming is disabled
+     * when optimizing or in palette mode, since both need the whole image.
+     *
+     * @return true to stream, otherwise false
+     */
+    public static boolean stream() {
+        String text = ExportSettings.getString("pngStream", "false");
+        boolean result = Boolean.parseBoolean(text.trim())
+                && !optimize() && paletteTolerance() < 0;
+
+        return result;
+    }
+}
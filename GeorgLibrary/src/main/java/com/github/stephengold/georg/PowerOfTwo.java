@@ -0,0 +1,102 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+/**
+ * Enumerate the ways to normalize textures whose dimensions aren't powers of
+ * two.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public enum PowerOfTwo {
+    // *************************************************************************
+    // values
+
+    /**
+     * keep the dimensions specified by each recipe
+     */
+    Off,
+    /**
+     * extend the canvas to the next power of two in each dimension and record
+     * the UV region occupied by the content
+     */
+    Pad,
+    /**
+     * re-target the canvas to the nearest power of two in each dimension, so
+     * that the content is rendered directly at the new size
+     */
+    Scale;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Find the smallest power of two that's &ge; the specified size.
+     *
+     * @param size the input size (&gt;0)
+     * @return the power of two (&gt;0)
+     */
+    public static int ceiling(int size) {
+        int result = Integer.highestOneBit(size);
+        if (result < size) {
+            result <<= 1;
+        }
+
+        return result;
+    }
+
+    /**
+     * Find the power of two nearest to the specified size, favoring the larger
+     * in case of a tie.
+     *
+     * @param size the input size (&gt;0)
+     * @return the power of two (&gt;0)
+     */
+    public static int nearest(int size) {
+        int lower = Integer.highestOneBit(size);
+        int upper = ceiling(size);
+        int result = (size - lower < upper - size) ? lower : upper;
+
+        return result;
+    }
+
+    /**
+     * Find the value with the specified name, ignoring case.
+     *
+     * @param name the name to match (not null)
+     * @return the matching value (not null)
+     * @throws IllegalArgumentException if no value matches
+     */
+    public static PowerOfTwo parse(String name) {
+        for (PowerOfTwo value : values()) {
+            if (value.name().equalsIgnoreCase(name)) {
+                return value;
+            }
+        }
+
+        throw new IllegalArgumentException("PowerOfTwo = " + name);
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * Utility methods to encode images in the "Quite OK Image" (QOI) format, a
+ * lossless format that encodes and decodes much faster than PNG.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class QoiEncoder {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * size of the file header (in bytes)
+     */
+    final static int headerBytes = 14;
+    /**
+     * file identifier: "qoif"
+     */
+    final static int magic = 0x716F6966;
+    /**
+     * longest run encoded by a single opRun
+     */
+    final static int maxRun = 62;
+    /**
+     * tag for a small difference from the previous pixel (2 bits)
+     */
+    final static int opDiff = 0x40;
+    /**
+     * tag for a reference to the table of recent pixels (2 bits)
+     */
+    final static int opIndex = 0x00;
+    /**
+     * tag for a luma-based difference from the previous pixel (2 bits)
+     */
+    final static int opLuma = 0x80;
+    /**
+     * tag for literal red, green, and blue (8 bits)
+     */
+    final static int opRgb = 0xFE;
+    /**
+     * tag for literal red, green, blue, and alpha (8 bits)
+     */
+    final static int opRgba = 0xFF;
+    /**
+     * tag for a run of copies of the previous pixel (2 bits)
+     */
+    final static int opRun = 0xC0;
+    /**
+     * number of entries in the table of recent pixels
+     */
+    final static int tableSize = 64;
+    /**
+     * bytes that terminate the stream
+     */
+    final private static byte[] endMarker = {0, 0, 0, 0, 0, 0, 0, 1};
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(QoiEncoder.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private QoiEncoder() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Encode an image in QOI format, with 3 channels if it's opaque, otherwise
+     * 4.
+     *
+     * @param image the image to encode (not null, unaffected)
+     * @return a new buffer, ready to be read (not null)
+     */
+    public static ByteBuffer encode(BufferedImage image) {
+        Validate.nonNull(image, "image");
+
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int numPixels = width * height;
+        int stride = image.getColorModel().hasAlpha() ? 4 : 3;
+        byte[] samples = ImageConverter.interleave(image, stride);
+        int channels = 3;
+        for (int i = 3; stride == 4 && i < samples.length; i += 4) {
+            if (samples[i] != (byte) 0xFF) {
+                channels = 4;
+                break;
+            }
+        }
+
+        int maxBytes = headerBytes + numPixels * (channels + 1)
+                + endMarker.length;
+        ByteBuffer result = ByteBuffer.allocate(maxBytes);
+        result.putInt(magic);
+        result.putInt(width);
+        result.putInt(height);
+        result.put((byte) channels);
+        result.put((byte) 0); // sRGB with linear alpha
+
+        int[] table = new int[tableSize];
+        int previous = 0xFF000000;
+        int run = 0;
+        for (int i = 0; i < numPixels; ++i) {
+            int j = stride * i;
+            int alpha = (stride == 4) ? samples[j + 3] & 0xFF : 0xFF;
+            int pixel = alpha << 24 | (samples[j] & 0xFF) << 16
+                    | (samples[j + 1] & 0xFF) << 8 | samples[j + 2] & 0xFF;
+            if (pixel == previous) {
+                ++run;
+                if (run == maxRun || i == numPixels - 1) {
+                    result.put((byte) (opRun | (run - 1)));
+                    run = 0;
+                }
+            } else {
+                if (run > 0) {
+                    result.put((byte) (opRun | (run - 1)));
+                    run = 0;
+                }
+                int slot = hash(pixel);
+                if (table[slot] == pixel) {
+                    result.put((byte) (opIndex | slot));
+                } else {
+                    table[slot] = pixel;
+                    putPixel(result, pixel, previous);
+                }
+                previous = pixel;
+            }
+        }
+        result.put(endMarker);
+        result.flip();
+
+        return result;
+    }
+
+    /**
+     * Calculate the position of a pixel in the table of recent pixels.
+     *
+     * @param argb the pixel's color and alpha
+     * @return the table index (&ge;0, &lt;64)
+     */
+    static int hash(int argb) {
+        int a = argb >>> 24;
+        int r = (argb >> 16) & 0xFF;
+        int g = (argb >> 8) & 0xFF;
+        int b = argb & 0xFF;
+        int result = (3 * r + 5 * g + 7 * b + 11 * a) % tableSize;
+
+        return result;
+    }
+
+    /**
+     * Write an image to a QOI file.
+     *
+     * @param filePath the filesystem path to the file (not null, not empty)
+     * @param image the image to write (not null, unaffected)
+     */
+    public static void write(String filePath, BufferedImage image) {
+        ByteBuffer buffer = encode(image);
+        OutputFiles.writeBytes(filePath, buffer);
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Encode a pixel that isn't in the table, as a difference from the
+     * previous pixel if possible.
+     *
+     * @param buffer the buffer to write to (not null, position advanced)
+     * @param argb the pixel's color and alpha
+     * @param previous the previous pixel's color and alpha
+     */
+    private static void putPixel(ByteBuffer buffer, int argb, int previous) {
+        if ((argb >>> 24) != (previous >>> 24)) {
+            buffer.put((byte) opRgba);
+            buffer.put((byte) (argb >> 16));
+            buffer.put((byte) (argb >> 8));
+            buffer.put((byte) argb);
+            buffer.put((byte) (argb >>> 24));
+            return;
+        }
+        /*
+         * Channel differences wrap around, as in the reference encoder.
+         */
+        int dr = (byte) ((argb >> 16) - (previous >> 16));
+        int dg = (byte) ((argb >> 8) - (previous >> 8));
+        int db = (byte) (argb - previous);
+        int drg = dr - dg;
+        int dbg = db - dg;
+        if (dr >= -2 && dr <= 1 && dg >= -2 && dg <= 1
+                && db >= -2 && db <= 1) {
+            buffer.put((byte) (opDiff | (dr + 2) << 4 | (dg + 2) << 2
+                    | (db + 2)));
+        } else if (dg >= -32 && dg <= 31 && drg >= -8 && drg <= 7
+                && dbg >= -8 && dbg <= 7) {
+            buffer.put((byte) (opLuma | (dg + 32)));
+            buffer.put((byte) ((drg + 8) << 4 | (dbg + 8)));
+        } else {
+            buffer.put((byte) opRgb);
+            buffer.put((byte) (argb >> 16));
+            buffer.put((byte) (argb >> 8));
+            buffer.put((byte) argb);
+        }
+    }
+}
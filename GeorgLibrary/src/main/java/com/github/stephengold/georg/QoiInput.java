@@ -0,0 +1,133 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.logging.Logger;
+
+/**
+ * Buffered, reusable input for QoiLoader: reads bytes from a stream in
+ * chunks, without allocating after construction.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class QoiInput {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * size of the input chunk (in bytes)
+     */
+    final private static int chunkBytes = 8192;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(QoiInput.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * bytes read from the stream but not yet decoded
+     */
+    final private byte[] chunk = new byte[chunkBytes];
+    /**
+     * number of valid bytes in the chunk
+     */
+    private int chunkLength;
+    /**
+     * index of the next byte to decode in the chunk
+     */
+    private int chunkPosition;
+    /**
+     * stream being read, or null if idle
+     */
+    private InputStream source;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Create an exception for malformed or truncated input.
+     *
+     * @param message the detail message (not null)
+     * @return a new exception, wrapping a new IOException (not null)
+     */
+    static UncheckedIOException malformed(String message) {
+        UncheckedIOException result
+                = new UncheckedIOException(new IOException(message));
+        return result;
+    }
+
+    /**
+     * Start reading from the specified stream, or stop reading.
+     *
+     * @param stream the stream to read, or null to release the current one
+     */
+    void open(InputStream stream) {
+        this.source = stream;
+        this.chunkLength = 0;
+        this.chunkPosition = 0;
+    }
+
+    /**
+     * Read the next byte from the stream, refilling the chunk if needed.
+     *
+     * @return the unsigned value (&ge;0, &le;255)
+     * @throws UncheckedIOException wrapping an IOException, if the stream
+     * can't be read or ends prematurely
+     */
+    int readByte() {
+        if (chunkPosition == chunkLength) {
+            try {
+                this.chunkLength = source.read(chunk);
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+            if (chunkLength <= 0) {
+                throw malformed("truncated QOI stream");
+            }
+            this.chunkPosition = 0;
+        }
+        int result = chunk[chunkPosition] & 0xFF;
+        ++chunkPosition;
+
+        return result;
+    }
+
+    /**
+     * Read a big-endian integer from the stream.
+     *
+     * @return the value
+     */
+    int readInt() {
+        int result = readByte() << 24 | readByte() << 16 | readByte() << 8
+                | readByte();
+        return result;
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import com.jme3.asset.AssetInfo;
+import com.jme3.asset.AssetKey;
+import com.jme3.asset.AssetLoader;
+import com.jme3.asset.TextureKey;
+import com.jme3.texture.Image;
+import com.jme3.texture.image.ColorSpace;
+import com.jme3.util.BufferUtils;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+/**
+ * A jMonkeyEngine asset loader for images in the "Quite OK Image" (QOI)
+ * format. Register it with
+ * {@code assetManager.registerLoader(QoiLoader.class, "qoi")}.
+ * <p>
+ * Pixels are decoded straight into a direct buffer, as RGB8 or RGBA8. Apart
+ * from that buffer and the Image, loading allocates nothing: the input chunk
+ * and the table of recent pixels are reused by later loads.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class QoiLoader implements AssetLoader {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(QoiLoader.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * reusable input for the stream being decoded
+     */
+    final private QoiInput input = new QoiInput();
+    /**
+     * table of recently seen pixels, indexed by hash
+     */
+    final private int[] table = new int[QoiEncoder.tableSize];
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Decode a QOI stream.
+     *
+     * @param stream the stream to read (not null)
+     * @param flipY true to store the bottom row first, as OpenGL expects
+     * @return a new image in RGB8 or RGBA8 format (not null)
+     * @throws UncheckedIOException wrapping an IOException, if the stream
+     * can't be read or isn't valid QOI
+     */
+    public Image decode(InputStream stream, boolean flipY) {
+        input.open(stream);
+        try {
+            Image result = decodeInput(flipY);
+            return result;
+        } finally {
+            input.open(null);
+        }
+    }
+    // *************************************************************************
+    // AssetLoader methods
+
+    /**
+     * Load a QOI asset, flipping it if the key requests that.
+     *
+     * @param assetInfo the located asset (not null)
+     * @return a new Image (not null)
+     * @throws IOException if the asset can't be read or isn't valid QOI
+     */
+    @Override
+    public Object load(AssetInfo assetInfo) throws IOException {
+        AssetKey<?> key = assetInfo.getKey();
+        boolean flipY = key instanceof TextureKey
+                && ((TextureKey) key).isFlipY();
+        try (InputStream stream = assetInfo.openStream()) {
+            Image result = decode(stream, flipY);
+            return result;
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Decode the input, from its header onward.
+     *
+     * @param flipY true to store the bottom row first, as OpenGL expects
+     * @return a new image in RGB8 or RGBA8 format (not null)
+     */
+    private Image decodeInput(boolean flipY) {
+        if (input.readInt() != QoiEncoder.magic) {
+            throw QoiInput.malformed("not a QOI stream");
+        }
+        int width = input.readInt();
+        int height = input.readInt();
+        int channels = input.readByte();
+        input.readByte(); // color space, which doesn't affect decoding
+        if (width <= 0 || height <= 0 || (channels != 3 && channels != 4)
+                || (long) width * height * channels > Integer.MAX_VALUE) {
+            throw QoiInput.malformed("invalid QOI header");
+        }
+
+        int stride = width * channels;
+        ByteBuffer data = BufferUtils.createByteBuffer(stride * height);
+        Arrays.fill(table, 0);
+        int pixel = 0xFF000000;
+        int run = 0;
+        for (int row = 0; row < height; ++row) {
+            int destRow = flipY ? height - 1 - row : row;
+            int position = destRow * stride;
+            for (int column = 0; column < width; ++column) {
+                if (run > 0) {
+                    --run;
+                } else {
+                    int op = input.readByte();
+                    if ((op & QoiEncoder.opRun) == QoiEncoder.opRun
+                            && op < QoiEncoder.opRgb) {
+                        run = op & 0x3F;
+                    } else {
+                        pixel = nextPixel(op, pixel);
+                    }
+                    table[QoiEncoder.hash(pixel)] = pixel;
+                }
+                data.put(position, (byte) (pixel >> 16));
+                data.put(position + 1, (byte) (pixel >> 8));
+                data.put(position + 2, (byte) pixel);
+                if (channels == 4) {
+                    data.put(position + 3, (byte) (pixel >>> 24));
+                }
+                position += channels;
+            }
+        }
+
+        Image.Format format
+                = (channels == 3) ? Image.Format.RGB8 : Image.Format.RGBA8;
+        Image result = new Image(format, width, height, data, ColorSpace.sRGB);
+
+        return result;
+    }
+
+    /**
+     * Decode a pixel from any op other than a run.
+     *
+     * @param op the first byte of the op
+     * @param previous the previous pixel's color and alpha
+     * @return the pixel's color and alpha
+     */
+    private int nextPixel(int op, int previous) {
+        int a = previous >>> 24;
+        int r = (previous >> 16) & 0xFF;
+        int g = (previous >> 8) & 0xFF;
+        int b = previous & 0xFF;
+        int tag = op & 0xC0;
+        if (op == QoiEncoder.opRgb || op == QoiEncoder.opRgba) {
+            r = input.readByte();
+            g = input.readByte();
+            b = input.readByte();
+            if (op == QoiEncoder.opRgba) {
+                a = input.readByte();
+            }
+        } else if (tag == QoiEncoder.opIndex) {
+            int result = table[op];
+            return result;
+        } else if (tag == QoiEncoder.opDiff) {
+            r += ((op >> 4) & 0x3) - 2;
+            g += ((op >> 2) & 0x3) - 2;
+            b += (op & 0x3) - 2;
+        } else { // opLuma
+            int next = input.readByte();
+            int dg = (op & 0x3F) - 32;
+            r += dg - 8 + (next >> 4);
+            g += dg;
+            b += dg - 8 + (next & 0xF);
+        }
+        int result = a << 24 | (r & 0xFF) << 16 | (g & 0xFF) << 8 | b & 0xFF;
+
+        return result;
+    }
+}
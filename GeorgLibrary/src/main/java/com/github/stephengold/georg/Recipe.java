@@ -0,0 +1,218 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.awt.Graphics2D;
+import java.util.Arrays;
+import jme3utilities.Validate;
+
+/**
+ * Describe how to generate a texture asset: what to draw on a supersampled
+ * master image and the dimensions of the final texture.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+abstract public class Recipe {
+    // *************************************************************************
+    // fields
+
+    /**
+     * alpha cutoff whose coverage is preserved in mipmaps, or 0 if the texture
+     * isn't alpha tested
+     */
+    private float alphaCutoff;
+    /**
+     * height of the final texture (in pixels)
+     */
+    final private int finalHeight;
+    /**
+     * width of the final texture (in pixels)
+     */
+    final private int finalWidth;
+    /**
+     * height of the supersampled master image (in pixels)
+     */
+    final private int masterHeight;
+    /**
+     * width of the supersampled master image (in pixels)
+     */
+    final private int masterWidth;
+    /**
+     * scale factors of the variants to generate, or null to use the ladder
+     * configured by {@link ExportSettings#scales()}
+     */
+    private int[] scales;
+    /**
+     * name of the asset, without any suffix or extension
+     */
+    final private String assetName;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a recipe with the specified name and dimensions.
+     *
+     * @param assetName the name of the asset, without any extension (not
+     * null, not empty)
+     * @param masterWidth the width of the master image (in pixels, &gt;0)
+     * @param masterHeight the height of the master image (in pixels, &gt;0)
+     * @param finalWidth the width of the final texture (in pixels, &gt;0)
+     * @param finalHeight the height of the final texture (in pixels, &gt;0)
+     */
+    protected Recipe(String assetName, int masterWidth, int masterHeight,
+            int finalWidth, int finalHeight) {
+        Validate.nonEmpty(assetName, "asset name");
+        Validate.positive(masterWidth, "master width");
+        Validate.positive(masterHeight, "master height");
+        Validate.positive(finalWidth, "final width");
+        Validate.positive(finalHeight, "final height");
+
+        this.assetName = assetName;
+        this.masterWidth = masterWidth;
+        this.masterHeight = masterHeight;
+        this.finalWidth = finalWidth;
+        this.finalHeight = finalHeight;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the alpha cutoff whose coverage should be preserved in mipmaps.
+     *
+     * @return the cutoff (&ge;0, &lt;1) or 0 if the texture isn't alpha tested
+     */
+    public float getAlphaCutoff() {
+        return alphaCutoff;
+    }
+
+    /**
+     * Return the name of the asset.
+     *
+     * @return the name, without any suffix or extension (not null, not empty)
+     */
+    public String getAssetName() {
+        return assetName;
+    }
+
+    /**
+     * Return the height of the final texture.
+     *
+     * @return the height (in pixels, &gt;0)
+     */
+    public int getFinalHeight() {
+        return finalHeight;
+    }
+
+    /**
+     * Return the width of the final texture.
+     *
+     * @return the width (in pixels, &gt;0)
+     */
+    public int getFinalWidth() {
+        return finalWidth;
+    }
+
+    /**
+     * Return the height of the supersampled master image.
+     *
+     * @return the height (in pixels, &gt;0)
+     */
+    public int getMasterHeight() {
+        return masterHeight;
+    }
+
+    /**
+     * Return the width of the supersampled master image.
+     *
+     * @return the width (in pixels, &gt;0)
+     */
+    public int getMasterWidth() {
+        return masterWidth;
+    }
+
+    /**
+     * Return the scale factors of the variants to generate. A factor of 1
+     * denotes the final texture itself.
+     *
+     * @return a new array of factors (not null, not empty, each &ge;1)
+     */
+    public int[] getScales() {
+        int[] result;
+        if (scales == null) {
+            result = ExportSettings.scales();
+        } else {
+            result = Arrays.copyOf(scales, scales.length);
+        }
+
+        return result;
+    }
+
+    /**
+     * Test whether the master image should lack an alpha channel.
+     *
+     * @return true if opaque, otherwise false
+     */
+    public boolean isOpaque() {
+        return false;
+    }
+
+    /**
+     * Draw the master image. The canvas is initially transparent black (or
+     * opaque black if {@link #isOpaque()} returns true).
+     *
+     * @param graphics the graphics context on which to draw (not null)
+     */
+    abstract public void render(Graphics2D graphics);
+
+    /**
+     * Declare that the texture will be alpha tested (as a cutout) so that its
+     * mipmaps should preserve the fraction of pixels that pass the test.
+     *
+     * @param cutoff the alpha cutoff used at runtime (&ge;0, &lt;1) or 0 to
+     * disable coverage preservation
+     */
+    public void setAlphaCutoff(float cutoff) {
+        Validate.inRange(cutoff, "cutoff", 0f, 1f);
+        Validate.require(cutoff < 1f, "cutoff less than 1");
+        this.alphaCutoff = cutoff;
+    }
+
+    /**
+     * Declare the scale factors of the variants to generate. For instance,
+     * factors {1, 2, 4} yield @1x, @2x, and @4x variants.
+     *
+     * @param factors the desired factors (not null, not empty, each &ge;1)
+     */
+    public void setScales(int... factors) {
+        Validate.nonEmpty(factors, "factors");
+        for (int factor : factors) {
+            Validate.positive(factor, "factor");
+        }
+
+        this.scales = Arrays.copyOf(factors, factors.length);
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Utility methods to record how long each recipe took to generate, in a
+ * java.util.Properties file that maps asset names to milliseconds, and to
+ * order jobs longest first based on those records.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class RecipeCosts {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(RecipeCosts.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private RecipeCosts() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Sort the specified jobs by decreasing cost, so that the longest jobs
+     * start first. Jobs without a recorded cost are estimated from their
+     * memory estimates, at the average rate of those with one. Ties keep their
+     * original order.
+     *
+     * @param jobs the jobs to sort (not null, modified)
+     */
+    static void order(RecipeJob[] jobs) {
+        Map<String, Long> recorded = load();
+        double knownMillis = 0.0;
+        double knownBytes = 0.0;
+        for (RecipeJob job : jobs) {
+            Long millis = recorded.get(job.getAssetName());
+            if (millis != null) {
+                knownMillis += millis;
+                knownBytes += job.estimateBytes();
+            }
+        }
+        double rate = (knownBytes > 0.0) ? knownMillis / knownBytes : 1.0;
+
+        final Map<RecipeJob, Double> costs = new IdentityHashMap<>();
+        for (RecipeJob job : jobs) {
+            Long millis = recorded.get(job.getAssetName());
+            double cost = (millis == null)
+                    ? rate * job.estimateBytes() : millis;
+            costs.put(job, cost);
+        }
+        Arrays.sort(jobs, new Comparator<RecipeJob>() {
+            @Override
+            public int compare(RecipeJob a, RecipeJob b) {
+                return Double.compare(costs.get(b), costs.get(a));
+            }
+        });
+    }
+
+    /**
+     * Merge the measured costs of the specified jobs into the file of
+     * recorded costs, if recording is enabled.
+     *
+     * @param jobs the completed jobs (not null, unaffected)
+     */
+    static void record(RecipeJob[] jobs) {
+        String filePath = PipelineSettings.costsPath();
+        if (filePath == null) {
+            return;
+        }
+
+        Map<String, Long> costs = load();
+        for (RecipeJob job : jobs) {
+            long millis = Math.max(1L, job.elapsedNanos() / 1_000_000L);
+            costs.put(job.getAssetName(), millis);
+        }
+
+        StringBuilder text = new StringBuilder(32 * costs.size() + 64);
+        text.append("# milliseconds to generate each recipe\n");
+        for (Map.Entry<String, Long> entry : costs.entrySet()) {
+            // Escape the characters that would end a key, such as spaces:
+            String key = entry.getKey()
+                    .replaceAll("([ \\\\=:#!])", "\\\\$1");
+            text.append(String.format(Locale.ROOT, "%s=%d\n",
+                    key, entry.getValue()));
+        }
+        OutputFiles.writeText(filePath, text.toString());
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Read the recorded costs.
+     *
+     * @return a new map from asset names to milliseconds, sorted by name
+     * (empty if recording is disabled or there's no file yet)
+     */
+    private static Map<String, Long> load() {
+        Map<String, Long> result = new TreeMap<>();
+        String filePath = PipelineSettings.costsPath();
+        if (filePath == null || !new File(filePath).isFile()) {
+            return result;
+        }
+
+        Properties properties = new Properties();
+        try (InputStream stream = new FileInputStream(filePath);
+                Reader reader = new InputStreamReader(
+                        stream, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException exception) {
+            logger.log(Level.WARNING, "Ignored unreadable costs in {0}.",
+                    filePath);
+            return result;
+        }
+        for (String name : properties.stringPropertyNames()) {
+            try {
+                long millis = Long.parseLong(
+                        properties.getProperty(name).trim());
+                result.put(name, millis);
+            } catch (NumberFormatException exception) {
+                logger.log(Level.WARNING, "Ignored the cost of {0}.", name);
+            }
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.awt.Color;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Utility methods to compute a hash that identifies the master image of a
+ * recipe.
+ * <p>
+ * The hash covers the bytecode of the recipe's class (and its superclasses
+ * below {@link Recipe}), the values of their instance fields, and the
+ * dimensions and opacity of the master. It deliberately excludes the final
+ * size and scale factors, which affect only downsampling.
+ * <p>
+ * Where the bytecode isn't available as a resource (on Android, for
+ * instance) the hash covers only the class names in its place, so it won't
+ * change when a recipe's code does: persistent caches must then be
+ * invalidated by hand.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class RecipeHash {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * version of the hash algorithm, to be incremented whenever the inputs
+     * change
+     */
+    final private static int hashVersion = 1;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(RecipeHash.class.getName());
+    /**
+     * hashes computed by memoized(), weakly keyed so that unused recipes can
+     * be collected (Recipe doesn't override equals(), so keys are compared
+     * by identity)
+     */
+    final private static Map<Recipe, String> memo = new WeakHashMap<>(16);
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private RecipeHash() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the hash of the specified recipe, computing it only the first
+     * time the instance is hashed. The recipe mustn't be modified afterward.
+     *
+     * @param recipe the recipe to hash (not null, unaffected)
+     * @return a string of 64 hexadecimal digits (not null)
+     */
+    public static String memoized(Recipe recipe) {
+        String result;
+        synchronized (memo) {
+            result = memo.get(recipe);
+        }
+        if (result == null) {
+            result = of(recipe);
+            synchronized (memo) {
+                memo.put(recipe, result);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Compute the hash of the specified recipe.
+     *
+     * @param recipe the recipe to hash (not null, unaffected)
+     * @return a string of 64 hexadecimal digits (not null)
+     */
+    public static String of(Recipe recipe) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exception) {
+            throw new RuntimeException(exception);
+        }
+
+        String header = String.format(Locale.ROOT,
+                "v%d %s %dx%d opaque=%s", hashVersion,
+                recipe.getAssetName(), recipe.getMasterWidth(),
+                recipe.getMasterHeight(), recipe.isOpaque());
+        update(digest, header);
+
+        for (Class<?> c = recipe.getClass(); c != Recipe.class;
+                c = c.getSuperclass()) {
+            update(digest, c.getName());
+            byte[] bytecode = classBytes(c);
+            if (bytecode == null) {
+                update(digest, "no bytecode");
+            } else {
+                digest.update(bytecode);
+            }
+            Field[] fields = c.getDeclaredFields();
+            Arrays.sort(fields, new Comparator<Field>() {
+                @Override
+                public int compare(Field a, Field b) {
+                    return a.getName().compareTo(b.getName());
+                }
+            });
+            for (Field field : fields) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    String value = describe(field, recipe);
+                    update(digest, field.getName() + "=" + value);
+                }
+            }
+        }
+
+        byte[] bytes = digest.digest();
+        StringBuilder result = new StringBuilder(2 * bytes.length);
+        for (byte b : bytes) {
+            result.append(String.format(Locale.ROOT, "%02x", b & 0xFF));
+        }
+
+        return result.toString();
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Read the bytecode of the specified class.
+     *
+     * @param c the class to read (not null)
+     * @return a new array of bytes, or null if the bytecode isn't available
+     */
+    private static byte[] classBytes(Class<?> c) {
+        String resourceName = c.getName().replace('.', '/') + ".class";
+        ClassLoader loader = c.getClassLoader();
+        if (loader == null) {
+            loader = ClassLoader.getSystemClassLoader();
+        }
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (InputStream stream = loader.getResourceAsStream(resourceName)) {
+            if (stream == null) { // for instance, a dex runtime
+                logger.log(Level.FINE, "no bytecode for {0}", c.getName());
+                return null;
+            }
+            byte[] buffer = new byte[8192];
+            int numRead = stream.read(buffer);
+            while (numRead > 0) {
+                result.write(buffer, 0, numRead);
+                numRead = stream.read(buffer);
+            }
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+
+        return result.toByteArray();
+    }
+
+    /**
+     * Describe the value of an instance field.
+     *
+     * @param field the field to describe (not null)
+     * @param recipe the recipe that owns the field (not null, unaffected)
+     * @return descriptive text (not null)
+     */
+    private static String describe(Field field, Recipe recipe) {
+        field.setAccessible(true);
+        Object value;
+        try {
+            value = field.get(recipe);
+        } catch (IllegalAccessException exception) {
+            throw new RuntimeException(exception);
+        }
+
+        String result;
+        if (value instanceof Color) { // Color.toString() omits alpha
+            int argb = ((Color) value).getRGB();
+            result = String.format(Locale.ROOT, "#%08x", argb);
+        } else if (value instanceof Recipe) { // a wrapped recipe
+            result = of((Recipe) value);
+        } else {
+            result = Arrays.deepToString(new Object[]{value});
+        }
+
+        return result;
+    }
+
+    /**
+     * Feed a string of text to the specified digest.
+     *
+     * @param digest the digest to update (not null, modified)
+     * @param text the text to feed (not null)
+     */
+    private static void update(MessageDigest digest, String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        digest.update(bytes);
+        digest.update((byte) 0); // separator
+    }
+}
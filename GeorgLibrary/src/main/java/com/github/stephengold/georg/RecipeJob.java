@@ -0,0 +1,248 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.Semaphore;
+import java.util.logging.Logger;
+
+/**
+ * The work of generating all variants of a single recipe, divided into steps
+ * that run in order: render, downsample, and encode. The steps are invoked
+ * either directly or, in a Pipeline, by running the job once per stage. Each
+ * step releases the images that later steps no longer need.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class RecipeJob implements Runnable {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(RecipeJob.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * supersampled image, or null if not rendered yet or already downsampled
+     */
+    private BufferedImage master;
+    /**
+     * downsampled variants, or null if not downsampled yet or already encoded
+     */
+    private BufferedImage[] variants;
+    /**
+     * mipmap chain of each variant (elements null if mipmaps are disabled)
+     */
+    private BufferedImage[][] levels;
+    /**
+     * number of memory permits to release after encoding
+     */
+    private int permits;
+    /**
+     * number of steps already run by run() (&ge;0, &le;3)
+     */
+    private int stepsRun;
+    /**
+     * total time spent in run() (in nanoseconds)
+     */
+    private long elapsedNanos;
+    /**
+     * memory budget to release the permits to, or null if none
+     */
+    private Semaphore budget;
+    /**
+     * recipe to generate, after any re-targeting
+     */
+    private Recipe target;
+    /**
+     * name of each variant
+     */
+    private String[] names;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a job for the specified recipe.
+     *
+     * @param recipe the recipe to generate (alias created)
+     */
+    RecipeJob(Recipe recipe) {
+        this.target = recipe;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Downsample the master image to every selected scale and generate any
+     * mipmap chains, then return the master to the CanvasPool.
+     */
+    void downsample() {
+        int[] scales = Generator.selectScales(target);
+        int numVariants = scales.length;
+        int[] widths = new int[numVariants];
+        int[] heights = new int[numVariants];
+        for (int i = 0; i < numVariants; ++i) {
+            widths[i] = scales[i] * target.getFinalWidth();
+            heights[i] = scales[i] * target.getFinalHeight();
+        }
+        this.variants = Downsampler.cascade(master, widths, heights);
+
+        String assetName = target.getAssetName();
+        this.names = new String[numVariants];
+        this.levels = new BufferedImage[numVariants][];
+        boolean isShared = false; // is the master also a variant?
+        for (int i = 0; i < numVariants; ++i) {
+            names[i] = Generator.variantName(assetName, scales[i]);
+            if (ExportSettings.mipmaps()) {
+                levels[i] = MipChain.generate(
+                        variants[i], target.getAlphaCutoff());
+            }
+            isShared |= variants[i] == master;
+        }
+        if (!isShared) {
+            CanvasPool.release(master);
+        }
+        this.master = null;
+    }
+
+    /**
+     * Return the time spent running steps via run().
+     *
+     * @return the total (in nanoseconds, &ge;0)
+     */
+    long elapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Encode each variant and write it to files, then release the variants.
+     */
+    void encode() {
+        for (int i = 0; i < variants.length; ++i) {
+            VariantWriter.write(names[i], variants[i], levels[i]);
+        }
+        this.variants = null;
+        this.levels = null;
+    }
+
+    /**
+     * Roughly estimate the job's peak memory use from the recipe's canvas
+     * sizes: the master plus ImgScalr's intermediate images while
+     * downsampling, and the variants and mipmaps plus the encoders' buffers
+     * while encoding.
+     *
+     * @return the estimate (in bytes, &gt;0)
+     */
+    long estimateBytes() {
+        long masterPixels
+                = (long) target.getMasterWidth() * target.getMasterHeight();
+        long finalPixels
+                = (long) target.getFinalWidth() * target.getFinalHeight();
+        long variantPixels = 0L;
+        for (int scale : target.getScales()) {
+            variantPixels += scale * scale * finalPixels;
+        }
+        if (ExportSettings.mipmaps()) {
+            variantPixels += variantPixels / 3;
+        }
+        long result = 4L * (2L * masterPixels + 4L * variantPixels);
+
+        return result;
+    }
+
+    /**
+     * Return the name of the asset, for log messages.
+     *
+     * @return the name (not null, not empty)
+     */
+    String getAssetName() {
+        String result = target.getAssetName();
+        return result;
+    }
+
+    /**
+     * Re-target the recipe if a power-of-two mode is configured, then obtain
+     * its master image.
+     */
+    void render() {
+        PowerOfTwo mode = ExportSettings.powerOfTwo();
+        Recipe recipe = target;
+        this.target = RetargetedRecipe.retarget(recipe, mode);
+        if (mode == PowerOfTwo.Pad && target != recipe) {
+            String uvs = ((RetargetedRecipe) target).describeUvs();
+            String fileName = recipe.getAssetName() + ".uv.properties";
+            OutputFiles.writeText(OutputFiles.path(fileName), uvs);
+        }
+
+        this.master = Generator.obtainMaster(target);
+    }
+
+    /**
+     * Record memory permits that the job holds, to be released after it's
+     * encoded.
+     *
+     * @param budget the budget the permits were acquired from (not null,
+     * alias created)
+     * @param permits the number of permits held (&ge;0)
+     */
+    void setPermits(Semaphore budget, int permits) {
+        this.budget = budget;
+        this.permits = permits;
+    }
+    // *************************************************************************
+    // Runnable methods
+
+    /**
+     * Run the next step of the job.
+     */
+    @Override
+    public void run() {
+        long startNanos = System.nanoTime();
+        switch (stepsRun) {
+            case 0:
+                render();
+                break;
+            case 1:
+                downsample();
+                break;
+            case 2:
+                encode();
+                if (budget != null) {
+                    budget.release(permits);
+                }
+                break;
+            default:
+                throw new IllegalStateException("job already completed");
+        }
+        ++stepsRun;
+        elapsedNanos += System.nanoTime() - startNanos;
+    }
+}
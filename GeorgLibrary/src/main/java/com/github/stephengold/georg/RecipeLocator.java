@@ -0,0 +1,233 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import com.jme3.asset.AssetInfo;
+import com.jme3.asset.AssetKey;
+import com.jme3.asset.AssetLoadException;
+import com.jme3.asset.AssetLocator;
+import com.jme3.asset.AssetManager;
+import com.jme3.texture.Image;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * An AssetLocator that generates registered textures on demand, so apps
+ * needn't ship the PNG files. Each texture is rendered the first time it's
+ * located and written to a disk cache (the root path), where later launches
+ * find it. A cached file is regenerated whenever its recipe's RecipeHash
+ * changes.
+ * <p>
+ * For example:
+ * <pre>
+ * RecipeLocator.register("Textures/georg/", recipe);
+ * assetManager.registerLocator("georg-cache", RecipeLocator.class);
+ * </pre>
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class RecipeLocator implements AssetLocator {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(RecipeLocator.class.getName());
+    /**
+     * registered recipes, keyed by asset path
+     */
+    final private static Map<String, Recipe> registry = new HashMap<>(64);
+    // *************************************************************************
+    // fields
+
+    /**
+     * directory of the disk cache
+     */
+    private File cacheDir;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Register recipes to be located as PNG assets in the specified folder.
+     * For instance, a recipe whose asset name is "raft2" in folder
+     * "Textures/georg/" is located as "Textures/georg/raft2.png".
+     *
+     * @param folder the asset folder, ending with a slash, or "" for the root
+     * (not null)
+     * @param recipes the recipes to register (not null, aliases created)
+     */
+    public static void register(String folder, Recipe... recipes) {
+        Validate.nonNull(folder, "folder");
+        Validate.require(folder.isEmpty() || folder.endsWith("/"),
+                "a folder ending with a slash");
+
+        synchronized (registry) {
+            for (Recipe recipe : recipes) {
+                String assetPath = folder + recipe.getAssetName() + ".png";
+                registry.put(assetPath, recipe);
+            }
+        }
+    }
+    // *************************************************************************
+    // AssetLocator methods
+
+    /**
+     * Locate the specified asset, generating it if it isn't cached or its
+     * cached file is out of date.
+     *
+     * @param manager the asset manager (may be null)
+     * @param key the key of the asset (not null)
+     * @return a new AssetInfo, or null if no recipe is registered for the
+     * asset
+     */
+    @Override
+    @SuppressWarnings("rawtypes")
+    public AssetInfo locate(AssetManager manager, AssetKey key) {
+        String assetPath = key.getName();
+        Recipe recipe;
+        synchronized (registry) {
+            recipe = registry.get(assetPath);
+        }
+        if (recipe == null) {
+            return null;
+        }
+
+        final File file = new File(cacheDir, assetPath);
+        File hashFile = new File(cacheDir, assetPath + ".hash");
+        String hash = RecipeHash.memoized(recipe);
+        synchronized (RecipeLocator.class) {
+            if (!file.isFile() || !hash.equals(readText(hashFile))) {
+                generate(recipe, file);
+                OutputFiles.writeText(hashFile.getPath(), hash);
+            }
+        }
+
+        AssetInfo result = new AssetInfo(manager, key) {
+            @Override
+            public InputStream openStream() {
+                try {
+                    return new FileInputStream(file);
+                } catch (FileNotFoundException exception) {
+                    throw new AssetLoadException(
+                            "failed to open " + file, exception);
+                }
+            }
+        };
+
+        return result;
+    }
+
+    /**
+     * Configure the directory of the disk cache.
+     *
+     * @param rootPath the filesystem path to the directory (not null, not
+     * empty)
+     */
+    @Override
+    public void setRootPath(String rootPath) {
+        Validate.nonEmpty(rootPath, "root path");
+        this.cacheDir = new File(rootPath);
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Render the specified recipe at its final size and write it to a PNG
+     * file, replacing the file atomically if possible. The pixels and format
+     * match those written by the build. The master is rendered on a canvas
+     * of its own, not one from the CanvasPool, so it can be collected as
+     * soon as the file is written.
+     *
+     * @param recipe the recipe to render (not null)
+     * @param file the file to write (not null)
+     */
+    private static void generate(Recipe recipe, File file) {
+        BufferedImage master = new BufferedImage(recipe.getMasterWidth(),
+                recipe.getMasterHeight(), Generator.imageType(recipe));
+        Graphics2D graphics = master.createGraphics();
+        recipe.render(graphics);
+        graphics.dispose();
+
+        BufferedImage image = Downsampler.resize(
+                master, recipe.getFinalWidth(), recipe.getFinalHeight());
+        int tolerance = ExportSettings.channelTolerance();
+        Image.Format format = ChannelReducer.minimalFormat(image, tolerance);
+        BufferedImage reduced = ChannelReducer.reduce(image, format);
+        String tmpPath = file.getPath() + ".tmp";
+        Generator.writeImage(tmpPath, reduced);
+
+        Path tmp = new File(tmpPath).toPath();
+        try {
+            try {
+                Files.move(tmp, file.toPath(), StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException exception) {
+                Files.move(tmp, file.toPath(),
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+        logger.log(Level.INFO, "generated {0}", file);
+    }
+
+    /**
+     * Read a small text file, encoded in UTF-8.
+     *
+     * @param file the file to read (not null)
+     * @return a new string, or null if the file couldn't be read
+     */
+    private static String readText(File file) {
+        if (!file.isFile()) {
+            return null;
+        }
+        try {
+            byte[] bytes = Files.readAllBytes(file.toPath());
+            String result = new String(bytes, StandardCharsets.UTF_8);
+            return result;
+        } catch (IOException exception) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.awt.Graphics2D;
+import java.util.Locale;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * A recipe that wraps another recipe to produce a texture whose dimensions
+ * are powers of two. The wrapped recipe draws on a re-targeted canvas, so no
+ * finished image is ever resampled to change its size.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class RetargetedRecipe extends Recipe {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(RetargetedRecipe.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * how the canvas is re-targeted (not null, not Off)
+     */
+    final private PowerOfTwo mode;
+    /**
+     * recipe being wrapped (not null)
+     */
+    final private Recipe base;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a wrapper with the specified dimensions.
+     *
+     * @param base the recipe to wrap (not null, alias created)
+     * @param mode how to re-target the canvas (not null, not Off)
+     * @param masterSize the dimensions of the master image (not null, length
+     * 2)
+     * @param finalSize the dimensions of the final texture (not null, length
+     * 2)
+     */
+    private RetargetedRecipe(
+            Recipe base, PowerOfTwo mode, int[] masterSize, int[] finalSize) {
+        super(base.getAssetName(), masterSize[0], masterSize[1],
+                finalSize[0], finalSize[1]);
+        this.base = base;
+        this.mode = mode;
+
+        setAlphaCutoff(base.getAlphaCutoff());
+        setScales(base.getScales());
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Describe the UV region occupied by the content of the wrapped recipe,
+     * with V measured upward from the bottom edge as in jMonkeyEngine.
+     *
+     * @return descriptive text in properties format (not null, not empty)
+     */
+    public String describeUvs() {
+        float maxU = base.getMasterWidth() / (float) getMasterWidth();
+        float maxV = base.getMasterHeight() / (float) getMasterHeight();
+        String result = String.format(Locale.ROOT,
+                "# UV region of the content in %s%n"
+                + "minU=0%nminV=0%nmaxU=%s%nmaxV=%s%n",
+                getAssetName(), maxU, maxV);
+
+        return result;
+    }
+
+    /**
+     * Return the re-targeting mode.
+     *
+     * @return the enum value (not null, not Off)
+     */
+    public PowerOfTwo getMode() {
+        return mode;
+    }
+
+    /**
+     * Wrap the specified recipe if its final dimensions aren't powers of two.
+     *
+     * @param recipe the recipe to wrap (not null, alias created)
+     * @param mode how to re-target the canvas (not null)
+     * @return a new wrapper, or the argument if no change is needed
+     */
+    public static Recipe retarget(Recipe recipe, PowerOfTwo mode) {
+        Validate.nonNull(recipe, "recipe");
+        Validate.nonNull(mode, "mode");
+
+        int width = recipe.getFinalWidth();
+        int height = recipe.getFinalHeight();
+        int[] finalSize;
+        switch (mode) {
+            case Off:
+                return recipe;
+            case Pad:
+                finalSize = new int[]{
+                    PowerOfTwo.ceiling(width), PowerOfTwo.ceiling(height)
+                };
+                break;
+            case Scale:
+                finalSize = new int[]{
+                    PowerOfTwo.nearest(width), PowerOfTwo.nearest(height)
+                };
+                break;
+            default:
+                throw new IllegalArgumentException("mode = " + mode);
+        }
+        if (finalSize[0] == width && finalSize[1] == height) {
+            return recipe;
+        }
+
+        // Preserve the supersampling ratio of each dimension:
+        int[] masterSize = {
+            (int) Math.round(recipe.getMasterWidth()
+            * (double) finalSize[0] / width),
+            (int) Math.round(recipe.getMasterHeight()
+            * (double) finalSize[1] / height)
+        };
+        Recipe result
+                = new RetargetedRecipe(recipe, mode, masterSize, finalSize);
+
+        return result;
+    }
+    // *************************************************************************
+    // Recipe methods
+
+    /**
+     * Test whether the master image should lack an alpha channel.
+     *
+     * @return true if the wrapped recipe is opaque, otherwise false
+     */
+    @Override
+    public boolean isOpaque() {
+        boolean result = base.isOpaque();
+        return result;
+    }
+
+    /**
+     * Draw the master image by transforming the graphics context and then
+     * invoking the wrapped recipe.
+     *
+     * @param graphics the graphics context on which to draw (not null)
+     */
+    @Override
+    public void render(Graphics2D graphics) {
+        int baseWidth = base.getMasterWidth();
+        int baseHeight = base.getMasterHeight();
+        if (mode == PowerOfTwo.Pad) {
+            // Anchor the content to the bottom-left corner, where V=0:
+            graphics.translate(0, getMasterHeight() - baseHeight);
+            graphics.clipRect(0, 0, baseWidth, baseHeight);
+        } else {
+            graphics.scale(getMasterWidth() / (double) baseWidth,
+                    getMasterHeight() / (double) baseHeight);
+        }
+
+        base.render(graphics);
+    }
+}
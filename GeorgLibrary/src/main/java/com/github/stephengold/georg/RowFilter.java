@@ -0,0 +1,164 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.util.logging.Logger;
+
+/**
+ * Utility methods to apply PNG row filters.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class RowFilter {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * number of filter types defined by the PNG specification
+     */
+    final private static int numTypes = 5;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(RowFilter.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private RowFilter() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Filter a row of raw bytes and store the result, preceded by its
+     * filter-type byte.
+     *
+     * @param mode the filter heuristic (not null)
+     * @param row the raw bytes of the row (not null, unaffected)
+     * @param prior the raw bytes of the previous row, or all zeros for the
+     * first row (not null, same length as row, unaffected)
+     * @param bpp the number of bytes per complete pixel (&ge;1)
+     * @param dest the destination array (not null, modified)
+     * @param destPos the index of the filter-type byte in dest (&ge;0)
+     */
+    static void filter(PngFilter mode, byte[] row, byte[] prior, int bpp,
+            byte[] dest, int destPos) {
+        int type;
+        if (mode == PngFilter.Adaptive) {
+            type = 0;
+            long bestScore = Long.MAX_VALUE;
+            for (int trial = 0; trial < numTypes; ++trial) {
+                long score = score(trial, row, prior, bpp);
+                if (score < bestScore) {
+                    bestScore = score;
+                    type = trial;
+                }
+            }
+        } else {
+            type = mode.ordinal(); // None through Paeth are in type order
+        }
+
+        dest[destPos] = (byte) type;
+        for (int i = 0; i < row.length; ++i) {
+            int residual = (row[i] & 0xFF) - predict(type, row, prior, bpp, i);
+            dest[destPos + 1 + i] = (byte) residual;
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Predict the indexed byte of a row.
+     *
+     * @param type the filter type (0 to 4)
+     * @param row the raw bytes of the row (not null, unaffected)
+     * @param prior the raw bytes of the previous row (not null, unaffected)
+     * @param bpp the number of bytes per complete pixel (&ge;1)
+     * @param i the index of the byte (&ge;0)
+     * @return the predicted value (&ge;0, &le;255)
+     */
+    private static int predict(
+            int type, byte[] row, byte[] prior, int bpp, int i) {
+        int left = (i >= bpp) ? row[i - bpp] & 0xFF : 0;
+        int up = prior[i] & 0xFF;
+        int result;
+        switch (type) {
+            case 0:
+                result = 0;
+                break;
+            case 1:
+                result = left;
+                break;
+            case 2:
+                result = up;
+                break;
+            case 3:
+                result = (left + up) >>> 1;
+                break;
+            default:
+                int upLeft = (i >= bpp) ? prior[i - bpp] & 0xFF : 0;
+                int estimate = left + up - upLeft;
+                int dLeft = Math.abs(estimate - left);
+                int dUp = Math.abs(estimate - up);
+                int dUpLeft = Math.abs(estimate - upLeft);
+                if (dLeft <= dUp && dLeft <= dUpLeft) {
+                    result = left;
+                } else if (dUp <= dUpLeft) {
+                    result = up;
+                } else {
+                    result = upLeft;
+                }
+        }
+
+        return result;
+    }
+
+    /**
+     * Score a filter type for a row: the sum of the absolute values of its
+     * residuals, interpreted as signed bytes. Lower scores tend to compress
+     * better.
+     *
+     * @param type the filter type (0 to 4)
+     * @param row the raw bytes of the row (not null, unaffected)
+     * @param prior the raw bytes of the previous row (not null, unaffected)
+     * @param bpp the number of bytes per complete pixel (&ge;1)
+     * @return the score (&ge;0)
+     */
+    private static long score(int type, byte[] row, byte[] prior, int bpp) {
+        long result = 0L;
+        for (int i = 0; i < row.length; ++i) {
+            int residual = (row[i] & 0xFF) - predict(type, row, prior, bpp, i);
+            result += Math.abs((int) (byte) residual);
+        }
+
+        return result;
+    }
+}
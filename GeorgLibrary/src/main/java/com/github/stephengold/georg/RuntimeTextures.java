@@ -0,0 +1,126 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import com.jme3.texture.Image;
+import com.jme3.texture.Texture2D;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * Utility methods to generate textures in memory at runtime, for apps that
+ * would rather run recipes at startup than ship and decode image files.
+ * <p>
+ * Each image is rendered via a DirectCanvas, so its pixels are stored
+ * off-heap, bottom row first, ready for upload.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class RuntimeTextures {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(RuntimeTextures.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private RuntimeTextures() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Generate an image from the specified recipe, at its final size.
+     *
+     * @param recipe the recipe to use (not null)
+     * @return a new image in the sRGB color space (not null)
+     */
+    public static Image image(Recipe recipe) {
+        Validate.nonNull(recipe, "recipe");
+
+        Image result = DirectCanvas.render(recipe).toImage();
+        return result;
+    }
+
+    /**
+     * Generate an image from the specified recipe, at the specified size.
+     *
+     * @param recipe the recipe to use (not null)
+     * @param width the width of the image (in pixels, &gt;0, &le;the
+     * recipe's master width)
+     * @param height the height of the image (in pixels, &gt;0, &le;the
+     * recipe's master height)
+     * @return a new image in the sRGB color space (not null)
+     */
+    public static Image image(Recipe recipe, int width, int height) {
+        Validate.nonNull(recipe, "recipe");
+
+        Image result = DirectCanvas.render(recipe, width, height).toImage();
+        return result;
+    }
+
+    /**
+     * Generate a texture from the specified recipe, at its final size. The
+     * texture is named after the recipe's asset.
+     *
+     * @param recipe the recipe to use (not null)
+     * @return a new texture (not null)
+     */
+    public static Texture2D texture(Recipe recipe) {
+        Image image = image(recipe);
+        Texture2D result = new Texture2D(image);
+        result.setName(recipe.getAssetName());
+
+        return result;
+    }
+
+    /**
+     * Generate a texture from the specified recipe, at the specified size.
+     * The texture is named after the recipe's asset.
+     *
+     * @param recipe the recipe to use (not null)
+     * @param width the width of the texture (in pixels, &gt;0, &le;the
+     * recipe's master width)
+     * @param height the height of the texture (in pixels, &gt;0, &le;the
+     * recipe's master height)
+     * @return a new texture (not null)
+     */
+    public static Texture2D texture(Recipe recipe, int width, int height) {
+        Image image = image(recipe, width, height);
+        Texture2D result = new Texture2D(image);
+        result.setName(recipe.getAssetName());
+
+        return result;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.util.logging.Logger;
+
+/**
+ * Utility methods to encode one channel of single 4x4 blocks in BC4 (RGTC1)
+ * format, which is also the first half of a BC3 (DXT5) block.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class ScalarBlock {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(ScalarBlock.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private ScalarBlock() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Encode one channel of a block in BC4 8-value mode, using the block's
+     * extreme values as endpoints.
+     *
+     * @param values the 16 samples, in row-major order (not null, each &ge;0
+     * and &le;255, unaffected)
+     * @param dest the destination array (not null, modified)
+     * @param destPos the index of the block's first byte in dest (&ge;0)
+     */
+    static void encode(int[] values, byte[] dest, int destPos) {
+        int max = 0;
+        int min = 255;
+        for (int value : values) {
+            max = Math.max(max, value);
+            min = Math.min(min, value);
+        }
+        int[] palette = BlockDecoder.scalarPalette(max, min);
+
+        long bits = 0L;
+        for (int i = BlockRows.blockPixels - 1; i >= 0; --i) {
+            int best = 0;
+            for (int k = 1; k < 8 && max > min; ++k) {
+                if (Math.abs(values[i] - palette[k])
+                        < Math.abs(values[i] - palette[best])) {
+                    best = k;
+                }
+            }
+            bits = (bits << 3) | best;
+        }
+
+        dest[destPos] = (byte) max;
+        dest[destPos + 1] = (byte) min;
+        for (int i = 0; i < 6; ++i) {
+            dest[destPos + 2 + i] = (byte) (bits >>> (8 * i));
+        }
+    }
+}
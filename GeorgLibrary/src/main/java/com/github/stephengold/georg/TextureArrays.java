@@ -0,0 +1,144 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import com.jme3.texture.Image;
+import com.jme3.texture.TextureArray;
+import com.jme3.texture.image.ColorSpace;
+import com.jme3.texture.plugins.ktx.KTXWriter;
+import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * Utility methods to generate texture arrays, so that many same-sized images
+ * (such as tiles) can share a single texture bind and a single file.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class TextureArrays {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(TextureArrays.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private TextureArrays() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Render the specified recipes into the layers of a texture array and
+     * write it to a KTX file, along with a table of layer indices. One array
+     * is generated for each configured scale factor.
+     * <p>
+     * Mipmaps aren't included, because jMonkeyEngine's KTX loader misreads
+     * mipmapped arrays.
+     *
+     * @param arrayName the name of the array, without any suffix or extension
+     * (not null, not empty)
+     * @param recipes the recipes to render, in layer order (not null, not
+     * empty, all with the same final dimensions and scale factors)
+     */
+    public static void generate(String arrayName, Recipe... recipes) {
+        Validate.nonEmpty(arrayName, "array name");
+        Validate.nonEmpty(recipes, "recipes");
+        int width = recipes[0].getFinalWidth();
+        int height = recipes[0].getFinalHeight();
+        for (Recipe recipe : recipes) {
+            Validate.require(recipe.getFinalWidth() == width
+                    && recipe.getFinalHeight() == height,
+                    "recipes with the same final dimensions");
+        }
+
+        int[] scales = Generator.selectScales(recipes);
+        int numLayers = recipes.length;
+        int[] widths = new int[scales.length];
+        int[] heights = new int[scales.length];
+        for (int j = 0; j < scales.length; ++j) {
+            widths[j] = scales[j] * width;
+            heights[j] = scales[j] * height;
+        }
+        BufferedImage[][] layers = new BufferedImage[scales.length][numLayers];
+        for (int i = 0; i < numLayers; ++i) {
+            BufferedImage master = Generator.obtainMaster(recipes[i]);
+            BufferedImage[] variants
+                    = Downsampler.cascade(master, widths, heights);
+            for (int j = 0; j < scales.length; ++j) {
+                layers[j][i] = variants[j];
+            }
+        }
+
+        StringBuilder table = new StringBuilder(32 * (numLayers + 1));
+        table.append("# layer name\n");
+        for (int i = 0; i < numLayers; ++i) {
+            table.append(i).append(' ')
+                    .append(recipes[i].getAssetName()).append('\n');
+        }
+
+        for (int j = 0; j < scales.length; ++j) {
+            String name = Generator.variantName(arrayName, scales[j]);
+            writeKtx(name + ".ktx", layers[j]);
+            OutputFiles.writeText(
+                    OutputFiles.path(name + ".layers"), table.toString());
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Write a texture array to a KTX file in the output directory/folder.
+     *
+     * @param fileName the name of the file (not null, not empty)
+     * @param layers the images of the layers (not null, not empty, all the
+     * same size, unaffected)
+     */
+    private static void writeKtx(String fileName, BufferedImage[] layers) {
+        ArrayList<ByteBuffer> data = new ArrayList<>(layers.length);
+        for (BufferedImage layer : layers) {
+            data.add(ImageConverter.toRgba8(layer));
+        }
+        Image image = new Image(Image.Format.RGBA8, layers[0].getWidth(),
+                layers[0].getHeight(), 0, data, ColorSpace.sRGB);
+
+        String filePath = OutputFiles.path(fileName);
+        OutputFiles.createParent(filePath);
+        KTXWriter writer = new KTXWriter(ExportSettings.outputDirPath());
+        writer.write(image, TextureArray.class, fileName);
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import com.jme3.texture.Image;
+import com.jme3.texture.Texture2D;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * A bounded, thread-safe cache of textures generated at runtime, keyed by
+ * each recipe's RecipeHash (computed once per recipe instance) and the
+ * requested size. When the cached pixels
+ * exceed the byte budget, the least recently used textures are evicted.
+ * <p>
+ * Concurrent requests for the same texture are merged: the first caller
+ * renders it while the others wait for its result, so each texture is
+ * rendered only once.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class TextureCache {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(TextureCache.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * total size of the cached pixels (in bytes)
+     */
+    private long bytesUsed;
+    /**
+     * maximum total size of the cached pixels (in bytes)
+     */
+    final private long maxBytes;
+    /**
+     * cached textures, least recently used first
+     */
+    final private Map<String, Texture2D> entries
+            = new LinkedHashMap<>(16, 0.75f, true);
+    /**
+     * renders in progress
+     */
+    final private Map<String, FutureTask<Texture2D>> inFlight
+            = new HashMap<>(16);
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty cache with the specified budget.
+     *
+     * @param maxBytes the maximum total size of the cached pixels (in bytes,
+     * &gt;0)
+     */
+    public TextureCache(long maxBytes) {
+        Validate.require(maxBytes > 0L, "a positive budget");
+        this.maxBytes = maxBytes;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the total size of the cached pixels.
+     *
+     * @return the total (in bytes, &ge;0)
+     */
+    synchronized public long bytesUsed() {
+        return bytesUsed;
+    }
+
+    /**
+     * Remove all cached textures. Renders in progress are unaffected.
+     */
+    synchronized public void clear() {
+        entries.clear();
+        this.bytesUsed = 0L;
+    }
+
+    /**
+     * Obtain the texture for the specified recipe, at its final size,
+     * rendering it only if it isn't cached or in progress.
+     *
+     * @param recipe the recipe to use (not null)
+     * @return a texture (not null)
+     */
+    public Texture2D get(Recipe recipe) {
+        Texture2D result = get(
+                recipe, recipe.getFinalWidth(), recipe.getFinalHeight());
+        return result;
+    }
+
+    /**
+     * Obtain the texture for the specified recipe, at the specified size,
+     * rendering it only if it isn't cached or in progress.
+     *
+     * @param recipe the recipe to use (not null)
+     * @param width the width of the texture (in pixels, &gt;0, &le;the
+     * recipe's master width)
+     * @param height the height of the texture (in pixels, &gt;0, &le;the
+     * recipe's master height)
+     * @return a texture (not null)
+     */
+    public Texture2D get(final Recipe recipe, final int width,
+            final int height) {
+        Validate.nonNull(recipe, "recipe");
+
+        String key = RecipeHash.memoized(recipe) + " " + width + "x" + height;
+        FutureTask<Texture2D> task;
+        boolean isOwner = false;
+        synchronized (this) {
+            Texture2D cached = entries.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            task = inFlight.get(key);
+            if (task == null) {
+                task = new FutureTask<>(new Callable<Texture2D>() {
+                    @Override
+                    public Texture2D call() {
+                        return RuntimeTextures.texture(recipe, width, height);
+                    }
+                });
+                inFlight.put(key, task);
+                isOwner = true;
+            }
+        }
+
+        if (isOwner) {
+            task.run();
+        }
+        Texture2D result;
+        try {
+            result = task.get();
+        } catch (ExecutionException exception) {
+            if (isOwner) {
+                synchronized (this) {
+                    inFlight.remove(key);
+                }
+            }
+            Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else {
+                throw new RuntimeException(cause);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(exception);
+        }
+
+        if (isOwner) {
+            synchronized (this) {
+                entries.put(key, result);
+                this.bytesUsed += countBytes(result);
+                inFlight.remove(key);
+                evict();
+            }
+        }
+
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Count the bytes of pixel data in the specified texture.
+     *
+     * @param texture the texture to measure (not null, unaffected)
+     * @return the count (&ge;0)
+     */
+    private static long countBytes(Texture2D texture) {
+        Image image = texture.getImage();
+        long result = 0L;
+        for (ByteBuffer data : image.getData()) {
+            result += data.capacity();
+        }
+
+        return result;
+    }
+
+    /**
+     * Evict least recently used textures until the cache fits its budget,
+     * always keeping the most recent one.
+     */
+    private void evict() {
+        Iterator<Texture2D> iterator = entries.values().iterator();
+        while (bytesUsed > maxBytes && entries.size() > 1) {
+            Texture2D texture = iterator.next();
+            iterator.remove();
+            this.bytesUsed -= countBytes(texture);
+            if (logger.isLoggable(Level.FINE)) {
+                logger.log(Level.FINE, "evicted {0}", texture.getName());
+            }
+        }
+    }
+}
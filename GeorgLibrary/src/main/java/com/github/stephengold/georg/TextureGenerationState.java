@@ -0,0 +1,249 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import com.jme3.app.Application;
+import com.jme3.app.state.BaseAppState;
+import com.jme3.renderer.RenderManager;
+import com.jme3.renderer.Renderer;
+import com.jme3.texture.Texture;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * An AppState to generate textures without stalling the render thread, for
+ * instance while a loading screen animates. Recipes are rendered on a pool
+ * of background threads, and the finished textures are uploaded on the
+ * render thread, as many per frame as fit within a time budget.
+ * <p>
+ * Uploads pause while the state is disabled. When the state is detached,
+ * unfinished requests are canceled, including any still being generated,
+ * and the state may later be re-attached.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class TextureGenerationState extends BaseAppState {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(TextureGenerationState.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * executor that generates the textures, or null if not initialized
+     */
+    private ExecutorService executor;
+    /**
+     * maximum time to spend uploading in each frame (in nanoseconds)
+     */
+    final private long budgetNanos;
+    /**
+     * generated requests awaiting upload
+     */
+    final private Queue<TextureRequest> ready
+            = new ConcurrentLinkedQueue<>();
+    /**
+     * cache shared by the requests, or null for none
+     */
+    final private TextureCache cache;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an enabled state that leaves one processor free for the
+     * render thread.
+     *
+     * @param cache the cache to obtain textures from, or null to render every
+     * request (alias created)
+     * @param budgetMillis the maximum time to spend uploading textures in
+     * each frame (in milliseconds, &ge;0). At least one texture is
+     * uploaded per frame, regardless.
+     */
+    public TextureGenerationState(TextureCache cache, float budgetMillis) {
+        Validate.nonNegative(budgetMillis, "upload budget");
+
+        this.cache = cache;
+        this.budgetNanos = Math.round(budgetMillis * 1e6);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Request a texture generated from the specified recipe, at its final
+     * size. May be invoked from any thread.
+     *
+     * @param recipe the recipe to use (not null, alias created)
+     * @return a future that completes on the render thread, once the texture
+     * is uploaded (not null)
+     */
+    public CompletableFuture<Texture> request(Recipe recipe) {
+        CompletableFuture<Texture> result = request(
+                recipe, recipe.getFinalWidth(), recipe.getFinalHeight());
+        return result;
+    }
+
+    /**
+     * Request a texture generated from the specified recipe, at the
+     * specified size. May be invoked from any thread. Requests made while
+     * the state is detached are uploaded once it's attached.
+     *
+     * @param recipe the recipe to use (not null, alias created)
+     * @param width the width of the texture (in pixels, &gt;0, &le;the
+     * recipe's master width)
+     * @param height the height of the texture (in pixels, &gt;0, &le;the
+     * recipe's master height)
+     * @return a future that completes on the render thread, once the texture
+     * is uploaded (not null)
+     */
+    public CompletableFuture<Texture> request(
+            Recipe recipe, int width, int height) {
+        Validate.nonNull(recipe, "recipe");
+        Validate.inRange(width, "width", 1, recipe.getMasterWidth());
+        Validate.inRange(height, "height", 1, recipe.getMasterHeight());
+
+        ExecutorService service = obtainExecutor();
+        TextureRequest request = new TextureRequest(
+                recipe, width, height, cache, ready, service);
+        request.submit();
+        CompletableFuture<Texture> result = request.getFuture();
+
+        return result;
+    }
+    // *************************************************************************
+    // BaseAppState methods
+
+    /**
+     * Callback invoked after this state is detached or during application
+     * shutdown. Cancels all unfinished requests.
+     *
+     * @param application the application instance (not null)
+     */
+    @Override
+    protected void cleanup(Application application) {
+        ExecutorService service;
+        synchronized (this) {
+            service = executor;
+            this.executor = null;
+        }
+        if (service != null) {
+            for (Runnable unstarted : service.shutdownNow()) {
+                ((TextureRequest) unstarted).getFuture().cancel(false);
+            }
+        }
+        TextureRequest request = ready.poll();
+        while (request != null) {
+            request.getFuture().cancel(false);
+            request = ready.poll();
+        }
+    }
+
+    /**
+     * Callback invoked when this state is attached, on the render thread.
+     *
+     * @param application the application instance (not null)
+     */
+    @Override
+    protected void initialize(Application application) {
+        obtainExecutor();
+    }
+
+    /**
+     * Callback invoked whenever this state ceases to be both attached and
+     * enabled.
+     */
+    @Override
+    protected void onDisable() {
+        // do nothing
+    }
+
+    /**
+     * Callback invoked whenever this state becomes both attached and
+     * enabled.
+     */
+    @Override
+    protected void onEnable() {
+        // do nothing
+    }
+
+    /**
+     * Upload generated textures, until the queue is empty or the frame's
+     * budget is spent. Invoked once per frame on the render thread, while
+     * the state is enabled.
+     *
+     * @param renderManager the render manager (not null)
+     */
+    @Override
+    public void render(RenderManager renderManager) {
+        Renderer renderer = renderManager.getRenderer();
+        long startNanos = System.nanoTime();
+        TextureRequest request = ready.poll();
+        while (request != null) {
+            request.upload(renderer);
+            if (System.nanoTime() - startNanos >= budgetNanos) {
+                break;
+            }
+            request = ready.poll();
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Access the executor, creating it if necessary.
+     *
+     * @return the pre-existing or new instance (not null)
+     */
+    synchronized private ExecutorService obtainExecutor() {
+        if (executor == null) {
+            int numThreads = Math.max(
+                    1, Runtime.getRuntime().availableProcessors() - 1);
+            ThreadFactory factory = new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread result = new Thread(runnable, "georg-generate");
+                    result.setDaemon(true);
+                    result.setPriority(Thread.NORM_PRIORITY - 1);
+                    return result;
+                }
+            };
+            this.executor = Executors.newFixedThreadPool(numThreads, factory);
+        }
+
+        return executor;
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import com.jme3.renderer.Renderer;
+import com.jme3.renderer.TextureUnitException;
+import com.jme3.texture.Texture;
+import com.jme3.texture.Texture2D;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.logging.Logger;
+
+/**
+ * A request to generate a texture in the background and then upload it on
+ * the render thread, on behalf of a TextureGenerationState.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class TextureRequest implements Runnable {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(TextureRequest.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * future to complete after the upload
+     */
+    final private CompletableFuture<Texture> future
+            = new CompletableFuture<>();
+    /**
+     * requested height (in pixels)
+     */
+    final private int height;
+    /**
+     * requested width (in pixels)
+     */
+    final private int width;
+    /**
+     * queue to add the request to once it's generated (not null)
+     */
+    final private Queue<TextureRequest> ready;
+    /**
+     * recipe to generate
+     */
+    final private Recipe recipe;
+    /**
+     * generated texture, or null if not generated yet
+     */
+    private volatile Texture2D texture;
+    /**
+     * cache to obtain the texture from, or null to always render it
+     */
+    final private TextureCache cache;
+    /**
+     * executor that runs the request: once it's shut down, the request is
+     * canceled instead of being queued for upload
+     */
+    final private ExecutorService executor;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a request.
+     *
+     * @param recipe the recipe to generate (not null, alias created)
+     * @param width the requested width (in pixels, &gt;0)
+     * @param height the requested height (in pixels, &gt;0)
+     * @param cache the cache to use, or null for none (alias created)
+     * @param ready the queue of generated requests (not null, alias created)
+     * @param executor the executor that will run the request (not null,
+     * alias created)
+     */
+    TextureRequest(Recipe recipe, int width, int height, TextureCache cache,
+            Queue<TextureRequest> ready, ExecutorService executor) {
+        this.recipe = recipe;
+        this.width = width;
+        this.height = height;
+        this.cache = cache;
+        this.ready = ready;
+        this.executor = executor;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Access the future that completes once the texture is uploaded.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    CompletableFuture<Texture> getFuture() {
+        return future;
+    }
+
+    /**
+     * Hand the request to its executor. If the executor has already been shut
+     * down (because the state was detached concurrently), the future is
+     * canceled instead.
+     */
+    void submit() {
+        try {
+            executor.execute(this);
+        } catch (RejectedExecutionException exception) {
+            future.cancel(false);
+        }
+    }
+
+    /**
+     * Upload the generated texture and complete the future. Invoked on the
+     * render thread.
+     *
+     * @param renderer the renderer to use (not null)
+     */
+    void upload(Renderer renderer) {
+        try {
+            renderer.setTexture(0, texture);
+        } catch (TextureUnitException exception) {
+            future.completeExceptionally(exception);
+            return;
+        }
+        future.complete(texture);
+    }
+    // *************************************************************************
+    // Runnable methods
+
+    /**
+     * Generate the texture (on a background thread) and queue it for
+     * upload. If generation fails, the future completes exceptionally. If
+     * the executor has been shut down (because the state was detached), the
+     * future is canceled.
+     */
+    @Override
+    public void run() {
+        if (future.isDone()) { // canceled
+            return;
+        }
+        Callable<Texture2D> generate = new Callable<Texture2D>() {
+            @Override
+            public Texture2D call() {
+                Texture2D result = (cache == null)
+                        ? RuntimeTextures.texture(recipe, width, height)
+                        : cache.get(recipe, width, height);
+                return result;
+            }
+        };
+        FutureTask<Texture2D> task = new FutureTask<>(generate);
+        task.run();
+        try {
+            this.texture = task.get();
+        } catch (ExecutionException exception) {
+            future.completeExceptionally(exception.getCause());
+            return;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            future.completeExceptionally(exception);
+            return;
+        }
+        /*
+         * Check for shutdown after queuing, so that either this check or
+         * the state's cleanup() sees the request.
+         */
+        ready.add(this);
+        if (executor.isShutdown()) {
+            ready.remove(this);
+            future.cancel(false);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import com.jme3.texture.Image;
+import java.awt.image.BufferedImage;
+import java.util.Locale;
+import java.util.logging.Logger;
+
+/**
+ * Utility methods to write a single variant of a texture, along with its
+ * format metadata and (optionally) its mipmap chain, using the format with
+ * the fewest channels that can represent it.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class VariantWriter {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(VariantWriter.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private VariantWriter() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Write the specified variant to "name.png", its format to
+     * "name.format.properties", and its mipmap chain (if any) to "name.dds".
+     * BC compression writes "name.dds" even without mipmaps, and ETC
+     * compression writes "name.ktx", recording its error in the metadata.
+     * Optionally, the variant is also written to "name.qoi", and the variant
+     * or its mipmap chain to "name.j3o".
+     *
+     * @param name the name of the variant (not null, not empty)
+     * @param variant the downsampled image (not null, unaffected)
+     * @param levels the mipmap chain, largest first, or null for none
+     * (unaffected)
+     */
+    static void write(String name, BufferedImage variant,
+            BufferedImage[] levels) {
+        int tolerance = ExportSettings.channelTolerance();
+        Image.Format format = ChannelReducer.minimalFormat(variant, tolerance);
+        BufferedImage reduced = ChannelReducer.reduce(variant, format);
+
+        String fileName = name + ".png";
+        if (PngSettings.stream()) {
+            streamPng(OutputFiles.path(fileName), reduced, format);
+        } else {
+            Generator.writeImage(OutputFiles.path(fileName), reduced);
+        }
+        String metadata = ChannelReducer.describe(fileName, format, reduced);
+        if (OutputSettings.qoi()) {
+            QoiEncoder.write(OutputFiles.path(name + ".qoi"), variant);
+        }
+
+        BufferedImage[] chain = levels;
+        if (chain == null) {
+            chain = new BufferedImage[]{variant};
+        }
+        if (OutputSettings.j3o()) {
+            J3oWriter.write(OutputFiles.path(name + ".j3o"), chain, format);
+        }
+        Compression compression = ExportSettings.compression();
+        if (levels != null || compression == Compression.Bc) {
+            Image.Format ddsFormat = compression.select(format);
+            DdsWriter.write(OutputFiles.path(name + ".dds"), chain, ddsFormat);
+            metadata += "ddsFormat=" + ddsFormat + "\n";
+        }
+        if (compression == Compression.Etc) {
+            EtcFormat ktxFormat = EtcFormat.select(format);
+            double rmse = KtxWriter.write(
+                    OutputFiles.path(name + ".ktx"), chain, ktxFormat);
+            metadata += String.format(Locale.ROOT,
+                    "ktxFormat=%s\nktxRmse=%.3f\n", ktxFormat, rmse);
+        }
+        OutputFiles.writeText(
+                OutputFiles.path(name + ".format.properties"), metadata);
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Write the specified image to a PNG file in bands of rows, using the
+     * same color type as PngEncoder without optimization.
+     *
+     * @param filePath the filesystem path to the file (not null, not empty)
+     * @param image the image to write (not null, unaffected)
+     * @param format the format found by ChannelReducer (not null)
+     */
+    private static void streamPng(
+            String filePath, BufferedImage image, Image.Format format) {
+        int colorType;
+        if (format == Image.Format.Luminance8
+                || format == Image.Format.RGB8) {
+            colorType = 2;
+        } else {
+            colorType = 6;
+        }
+
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int bandHeight = Math.max(1, 64 * 1024 / width);
+        int[] band = new int[bandHeight * width];
+        try (PngRowWriter writer = new PngRowWriter(filePath, width, height,
+                colorType, PngSettings.level(), PngSettings.filter())) {
+            for (int y = 0; y < height; y += bandHeight) {
+                int numRows = Math.min(bandHeight, height - y);
+                image.getRGB(0, y, width, numRows, band, 0, width);
+                writer.writeRows(band, numRows);
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.georg;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.logging.Logger;
+
+/**
+ * A shared pool of daemon worker threads for data-parallel tasks, sized to
+ * the number of available processors.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class Workers {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * number of worker threads
+     */
+    final static int numThreads = Runtime.getRuntime().availableProcessors();
+    /**
+     * true on the worker threads, so that nested tasks can run inline instead
+     * of waiting on the (possibly exhausted) pool
+     */
+    final private static ThreadLocal<Boolean> isWorker = new ThreadLocal<>();
+    /**
+     * executor that runs the tasks
+     */
+    final private static ExecutorService executor
+            = Executors.newFixedThreadPool(numThreads, new ThreadFactory() {
+                @Override
+                public Thread newThread(final Runnable runnable) {
+                    Runnable body = new Runnable() {
+                        @Override
+                        public void run() {
+                            isWorker.set(true);
+                            runnable.run();
+                        }
+                    };
+                    Thread result = new Thread(body, "georg-worker");
+                    result.setDaemon(true);
+                    return result;
+                }
+            });
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(Workers.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private Workers() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Run the specified tasks in parallel and wait for all of them to
+     * complete. A single task, or tasks submitted from a worker thread, are
+     * run on the calling thread.
+     *
+     * @param tasks the tasks to run (not null)
+     * @return a new array of results, in task order
+     */
+    static byte[][] run(List<Callable<byte[]>> tasks) {
+        int numTasks = tasks.size();
+        byte[][] result = new byte[numTasks][];
+        try {
+            List<Future<byte[]>> futures = new ArrayList<>(numTasks);
+            if (numTasks == 1 || isWorker.get() != null) {
+                for (Callable<byte[]> task : tasks) {
+                    FutureTask<byte[]> future = new FutureTask<>(task);
+                    future.run();
+                    futures.add(future);
+                }
+            } else {
+                for (Callable<byte[]> task : tasks) {
+                    futures.add(executor.submit(task));
+                }
+            }
+            for (int i = 0; i < numTasks; ++i) {
+                result[i] = futures.get(i).get();
+            }
+
+        } catch (ExecutionException exception) {
+            throw new RuntimeException(exception.getCause());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(exception);
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package jme3utilities.debug.textures;
+
+import com.github.stephengold.georg.Recipe;
+import java.util.logging.Logger;
+
+/**
+ * Public factories for the recipes of the Heart textures, so apps can
+ * generate them at runtime (for instance via RuntimeTextures) instead of
+ * loading PNG files.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class HeartRecipes {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(HeartRecipes.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private HeartRecipes() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Instantiate a recipe for the "cross" texture.
+     *
+     * @return a new recipe (not null)
+     */
+    public static Recipe cross() {
+        Recipe result = new MakeCross();
+        return result;
+    }
+
+    /**
+     * Instantiate a recipe for the "lozenge" texture.
+     *
+     * @return a new recipe (not null)
+     */
+    public static Recipe lozenge() {
+        Recipe result = new MakeLozenge();
+        return result;
+    }
+
+    /**
+     * Instantiate a recipe for the "mascle" texture.
+     *
+     * @return a new recipe (not null)
+     */
+    public static Recipe mascle() {
+        Recipe result = new MakeMascle();
+        return result;
+    }
+
+    /**
+     * Instantiate a recipe for the "pin" texture.
+     *
+     * @return a new recipe (not null)
+     */
+    public static Recipe pin() {
+        Recipe result = new MakePin();
+        return result;
+    }
+
+    /**
+     * Instantiate a recipe for the "ring" texture.
+     *
+     * @return a new recipe (not null)
+     */
+    public static Recipe ring() {
+        Recipe result = new MakeRing();
+        return result;
+    }
+
+    /**
+     * Instantiate a recipe for the "saltire" texture.
+     *
+     * @return a new recipe (not null)
+     */
+    public static Recipe saltire() {
+        Recipe result = new MakeSaltire();
+        return result;
+    }
+
+    /**
+     * Instantiate a recipe for the "solid circle" texture.
+     *
+     * @return a new recipe (not null)
+     */
+    public static Recipe solidCircle() {
+        Recipe result = new MakeSolidCircle();
+        return result;
+    }
+
+    /**
+     * Instantiate a recipe for the "square" texture.
+     *
+     * @return a new recipe (not null)
+     */
+    public static Recipe square() {
+        Recipe result = new MakeSquare();
+        return result;
+    }
+}
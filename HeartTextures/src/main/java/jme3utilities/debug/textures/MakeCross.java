@@ -26,22 +26,21 @@
  */
 package jme3utilities.debug.textures;
 
+import com.github.stephengold.georg.Pipeline;
+import com.github.stephengold.georg.Recipe;
 import java.awt.Color;
 import java.awt.Graphics2D;
-import java.awt.image.BufferedImage;
-import java.io.IOException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import jme3utilities.Heart;
 import jme3utilities.MyString;
-import org.imgscalr.Scalr;
 
 /**
  * A console application to generate the "cross.png" texture.
  *
  * @author Stephen Gold sgold@sonic.net
  */
-final class MakeCross {
+final class MakeCross extends Recipe {
     // *************************************************************************
     // constants and loggers
 
@@ -55,10 +54,16 @@ final class MakeCross {
      */
     final private static Logger logger
             = Logger.getLogger(MakeCross.class.getName());
+    // *************************************************************************
+    // constructors
+
     /**
-     * filesystem path to the asset directory/folder for output
+     * Instantiate the recipe.
      */
-    final private static String assetDirPath = "build";
+    MakeCross() {
+        super("cross", textureSize, textureSize, finalSize, finalSize);
+        setAlphaCutoff(0.5f); // used as a cutout
+    }
     // *************************************************************************
     // new methods exposed
 
@@ -77,10 +82,6 @@ final class MakeCross {
          */
         //logger.setLevel(Level.INFO);
         //Logger.getLogger(Heart.class.getName()).setLevel(Level.INFO);
-        /*
-         * Instantiate the application.
-         */
-        MakeCross application = new MakeCross();
         /*
          * Log the working directory.
          */
@@ -90,22 +91,28 @@ final class MakeCross {
         /*
          * Generate a color image map.
          */
-        application.makeCross("cross.png");
+        Pipeline.generate(recipes());
     }
-    // *************************************************************************
-    // private methods
 
     /**
-     * Generate an image map for an equal-armed cross.
+     * Instantiate the recipe of this application.
+     *
+     * @return a new array (not null, not empty)
      */
-    private void makeCross(String assetPath) {
-        /*
-         * Create a blank, color buffered image for the texture map.
-         */
-        BufferedImage image = new BufferedImage(textureSize, textureSize,
-                BufferedImage.TYPE_4BYTE_ABGR);
-        Graphics2D graphics = image.createGraphics();
+    static Recipe[] recipes() {
+        Recipe[] result = {new MakeCross()};
+        return result;
+    }
+    // *************************************************************************
+    // Recipe methods
 
+    /**
+     * Draw the master image for an equal-armed cross.
+     *
+     * @param graphics the graphics context on which to draw (not null)
+     */
+    @Override
+    public void render(Graphics2D graphics) {
         float brightness = 1f;
         float opacity = 1f;
         Color white = new Color(brightness, brightness, brightness, opacity);
@@ -119,20 +126,5 @@ final class MakeCross {
         };
         int numPoints = xPoints.length;
         graphics.fillPolygon(xPoints, yPoints, numPoints);
-        /*
-         * Downsample the image to the desired final size.
-         */
-        BufferedImage downsampledImage = Scalr.resize(image,
-                Scalr.Method.ULTRA_QUALITY, Scalr.Mode.AUTOMATIC, finalSize,
-                finalSize, Scalr.OP_ANTIALIAS);
-        /*
-         * Write the downsampled image to the asset file.
-         */
-        String filePath = String.format("%s/%s", assetDirPath, assetPath);
-        try {
-            Heart.writeImage(filePath, downsampledImage);
-        } catch (IOException exception) {
-            throw new RuntimeException(exception);
-        }
     }
 }
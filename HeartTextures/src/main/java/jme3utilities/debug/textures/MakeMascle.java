@@ -26,22 +26,21 @@
  */
 package jme3utilities.debug.textures;
 
+import com.github.stephengold.georg.Pipeline;
+import com.github.stephengold.georg.Recipe;
 import java.awt.Color;
 import java.awt.Graphics2D;
-import java.awt.image.BufferedImage;
-import java.io.IOException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import jme3utilities.Heart;
 import jme3utilities.MyString;
-import org.imgscalr.Scalr;
 
 /**
  * A console application to generate the "mascle.png" texture.
  *
  * @author Stephen Gold sgold@sonic.net
  */
-final class MakeMascle {
+final class MakeMascle extends Recipe {
     // *************************************************************************
     // constants and loggers
 
@@ -55,10 +54,15 @@ final class MakeMascle {
      */
     final private static Logger logger
             = Logger.getLogger(MakeMascle.class.getName());
+    // *************************************************************************
+    // constructors
+
     /**
-     * filesystem path to the asset directory/folder for output
+     * Instantiate the recipe.
      */
-    final private static String assetDirPath = "build";
+    MakeMascle() {
+        super("mascle", textureSize, textureSize, finalSize, finalSize);
+    }
     // *************************************************************************
     // new methods exposed
 
@@ -77,10 +81,6 @@ final class MakeMascle {
          */
         //logger.setLevel(Level.INFO);
         //Logger.getLogger(Heart.class.getName()).setLevel(Level.INFO);
-        /*
-         * Instantiate the application.
-         */
-        MakeMascle application = new MakeMascle();
         /*
          * Log the working directory.
          */
@@ -90,22 +90,28 @@ final class MakeMascle {
         /*
          * Generate a color image map.
          */
-        application.makeMascle("mascle.png");
+        Pipeline.generate(recipes());
     }
-    // *************************************************************************
-    // private methods
 
     /**
-     * Generate an image map for a mascle.
+     * Instantiate the recipe of this application.
+     *
+     * @return a new array (not null, not empty)
      */
-    private void makeMascle(String assetPath) {
-        /*
-         * Create a blank, color buffered image for the texture map.
-         */
-        BufferedImage image = new BufferedImage(textureSize, textureSize,
-                BufferedImage.TYPE_4BYTE_ABGR);
-        Graphics2D graphics = image.createGraphics();
+    static Recipe[] recipes() {
+        Recipe[] result = {new MakeMascle()};
+        return result;
+    }
+    // *************************************************************************
+    // Recipe methods
 
+    /**
+     * Draw the master image for a mascle.
+     *
+     * @param graphics the graphics context on which to draw (not null)
+     */
+    @Override
+    public void render(Graphics2D graphics) {
         float brightness = 1f;
         float opacity = 1f;
         Color white = new Color(brightness, brightness, brightness, opacity);
@@ -120,20 +126,5 @@ final class MakeMascle {
         int[] yPoints2 = {310, 630, 310, 310, 520, 310};
         int numPoints2 = xPoints2.length;
         graphics.fillPolygon(xPoints2, yPoints2, numPoints2);
-        /*
-         * Downsample the image to the desired final size.
-         */
-        BufferedImage downsampledImage = Scalr.resize(image,
-                Scalr.Method.ULTRA_QUALITY, Scalr.Mode.AUTOMATIC, finalSize,
-                finalSize, Scalr.OP_ANTIALIAS);
-        /*
-         * Write the downsampled image to the asset file.
-         */
-        String filePath = String.format("%s/%s", assetDirPath, assetPath);
-        try {
-            Heart.writeImage(filePath, downsampledImage);
-        } catch (IOException exception) {
-            throw new RuntimeException(exception);
-        }
     }
 }
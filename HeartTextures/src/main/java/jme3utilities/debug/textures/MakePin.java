@@ -26,22 +26,21 @@
  */
 package jme3utilities.debug.textures;
 
+import com.github.stephengold.georg.Pipeline;
+import com.github.stephengold.georg.Recipe;
 import java.awt.Color;
 import java.awt.Graphics2D;
-import java.awt.image.BufferedImage;
-import java.io.IOException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import jme3utilities.Heart;
 import jme3utilities.MyString;
-import org.imgscalr.Scalr;
 
 /**
  * A console application to generate the "pin.png" texture.
  *
  * @author Stephen Gold sgold@sonic.net
  */
-final class MakePin {
+final class MakePin extends Recipe {
     // *************************************************************************
     // constants and loggers
 
@@ -55,10 +54,16 @@ final class MakePin {
      */
     final private static Logger logger
             = Logger.getLogger(MakePin.class.getName());
+    // *************************************************************************
+    // constructors
+
     /**
-     * filesystem path to the asset directory/folder for output
+     * Instantiate the recipe.
      */
-    final private static String assetDirPath = "build";
+    MakePin() {
+        super("pin", textureSize, textureSize, finalSize, finalSize);
+        setAlphaCutoff(0.5f); // used as a cutout
+    }
     // *************************************************************************
     // new methods exposed
 
@@ -77,10 +82,6 @@ final class MakePin {
          */
         //logger.setLevel(Level.INFO);
         //Logger.getLogger(Heart.class.getName()).setLevel(Level.INFO);
-        /*
-         * Instantiate the application.
-         */
-        MakePin application = new MakePin();
         /*
          * Log the working directory.
          */
@@ -90,22 +91,28 @@ final class MakePin {
         /*
          * Generate a color image map.
          */
-        application.makePin("pin.png");
+        Pipeline.generate(recipes());
     }
-    // *************************************************************************
-    // private methods
 
     /**
-     * Generate an image map for a pinned soft-body node, an inverted teardrop.
+     * Instantiate the recipe of this application.
+     *
+     * @return a new array (not null, not empty)
      */
-    private void makePin(String assetPath) {
-        /*
-         * Create a blank, color buffered image for the texture map.
-         */
-        BufferedImage image = new BufferedImage(textureSize, textureSize,
-                BufferedImage.TYPE_4BYTE_ABGR);
-        Graphics2D graphics = image.createGraphics();
+    static Recipe[] recipes() {
+        Recipe[] result = {new MakePin()};
+        return result;
+    }
+    // *************************************************************************
+    // Recipe methods
 
+    /**
+     * Draw the master image for a pinned soft-body node, an inverted teardrop.
+     *
+     * @param graphics the graphics context on which to draw (not null)
+     */
+    @Override
+    public void render(Graphics2D graphics) {
         float brightness = 1f;
         float opacity = 1f;
         Color white = new Color(brightness, brightness, brightness, opacity);
@@ -117,20 +124,5 @@ final class MakePin {
         int[] yPoints = new int[]{300, 640, 300};
         int nPoints = xPoints.length;
         graphics.fillPolygon(xPoints, yPoints, nPoints);
-        /*
-         * Downsample the image to the desired final size.
-         */
-        BufferedImage downsampledImage = Scalr.resize(image,
-                Scalr.Method.ULTRA_QUALITY, Scalr.Mode.AUTOMATIC, finalSize,
-                finalSize, Scalr.OP_ANTIALIAS);
-        /*
-         * Write the downsampled image to the asset file.
-         */
-        String filePath = String.format("%s/%s", assetDirPath, assetPath);
-        try {
-            Heart.writeImage(filePath, downsampledImage);
-        } catch (IOException exception) {
-            throw new RuntimeException(exception);
-        }
     }
 }
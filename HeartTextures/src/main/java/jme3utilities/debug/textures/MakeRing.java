@@ -26,22 +26,21 @@
  */
 package jme3utilities.debug.textures;
 
+import com.github.stephengold.georg.Pipeline;
+import com.github.stephengold.georg.Recipe;
 import java.awt.Color;
 import java.awt.Graphics2D;
-import java.awt.image.BufferedImage;
-import java.io.IOException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import jme3utilities.Heart;
 import jme3utilities.MyString;
-import org.imgscalr.Scalr;
 
 /**
  * A console application to generate the "ring.png" texture.
  *
  * @author Stephen Gold sgold@sonic.net
  */
-final class MakeRing {
+final class MakeRing extends Recipe {
     // *************************************************************************
     // constants and loggers
 
@@ -75,10 +74,15 @@ final class MakeRing {
      */
     final private static Logger logger
             = Logger.getLogger(MakeRing.class.getName());
+    // *************************************************************************
+    // constructors
+
     /**
-     * filesystem path to the asset directory/folder for output
+     * Instantiate the recipe.
      */
-    final private static String assetDirPath = "build";
+    MakeRing() {
+        super("ring", textureSize, textureSize, finalSize, finalSize);
+    }
     // *************************************************************************
     // new methods exposed
 
@@ -97,10 +101,6 @@ final class MakeRing {
          */
         //logger.setLevel(Level.INFO);
         //Logger.getLogger(Heart.class.getName()).setLevel(Level.INFO);
-        /*
-         * Instantiate the application.
-         */
-        MakeRing application = new MakeRing();
         /*
          * Log the working directory.
          */
@@ -110,22 +110,28 @@ final class MakeRing {
         /*
          * Generate a color image map.
          */
-        application.makeRing("ring.png");
+        Pipeline.generate(recipes());
     }
-    // *************************************************************************
-    // private methods
 
     /**
-     * Generate an image map for a ring.
+     * Instantiate the recipe of this application.
+     *
+     * @return a new array (not null, not empty)
      */
-    private void makeRing(String assetPath) {
-        /*
-         * Create a blank, color buffered image for the texture map.
-         */
-        BufferedImage image = new BufferedImage(textureSize, textureSize,
-                BufferedImage.TYPE_4BYTE_ABGR);
-        Graphics2D graphics = image.createGraphics();
+    static Recipe[] recipes() {
+        Recipe[] result = {new MakeRing()};
+        return result;
+    }
+    // *************************************************************************
+    // Recipe methods
 
+    /**
+     * Draw the master image for a ring.
+     *
+     * @param graphics the graphics context on which to draw (not null)
+     */
+    @Override
+    public void render(Graphics2D graphics) {
         float brightness = 1f;
         float opacity = 1f;
         Color white = new Color(brightness, brightness, brightness, opacity);
@@ -133,22 +139,9 @@ final class MakeRing {
 
         fillSection(graphics, 0.0, Math.PI);
         fillSection(graphics, Math.PI, 2.0 * Math.PI);
-        /*
-         * Downsample the image to the desired final size.
-         */
-        BufferedImage downsampledImage = Scalr.resize(image,
-                Scalr.Method.ULTRA_QUALITY, Scalr.Mode.AUTOMATIC, finalSize,
-                finalSize, Scalr.OP_ANTIALIAS);
-        /*
-         * Write the downsampled image to the asset file.
-         */
-        String filePath = String.format("%s/%s", assetDirPath, assetPath);
-        try {
-            Heart.writeImage(filePath, downsampledImage);
-        } catch (IOException exception) {
-            throw new RuntimeException(exception);
-        }
     }
+    // *************************************************************************
+    // private methods
 
     /**
      * Fill a section of the ring.
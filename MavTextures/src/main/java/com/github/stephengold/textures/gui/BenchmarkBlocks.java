@@ -0,0 +1,145 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.textures.gui;
+
+import com.github.stephengold.georg.BlockCompressor;
+import com.github.stephengold.georg.BlockDecoder;
+import com.github.stephengold.georg.ChannelReducer;
+import com.github.stephengold.georg.Compression;
+import com.github.stephengold.georg.Generator;
+import com.github.stephengold.georg.OutputFiles;
+import com.github.stephengold.georg.Recipe;
+import com.jme3.texture.Image;
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.Locale;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jme3utilities.Heart;
+
+/**
+ * A console application to benchmark the block compressor on the master
+ * images of the GUI textures, writing a report to "bcn-benchmark.txt".
+ * <p>
+ * The single-threaded encoder serves as the reference for timing, and the
+ * uncompressed master serves as the reference for quality.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class BenchmarkBlocks {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * number of timed runs of each encoder, of which the fastest is reported
+     */
+    final private static int numRuns = 3;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(BenchmarkBlocks.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private BenchmarkBlocks() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Main entry point for the BenchmarkBlocks application.
+     *
+     * @param arguments array of command-line arguments (not null)
+     */
+    public static void main(String[] arguments) {
+        /*
+         * Mute the chatty loggers found in some imported packages.
+         */
+        Heart.setLoggingLevels(Level.WARNING);
+
+        List<Recipe> recipes = MakeAtlas.guiRecipes();
+
+        StringBuilder report = new StringBuilder(2048);
+        report.append("# asset format size serialMs parallelMs speedup")
+                .append(" rmse psnrDb\n");
+        long totalSerial = 0L;
+        long totalParallel = 0L;
+        for (Recipe recipe : recipes) {
+            BufferedImage master = Generator.obtainMaster(recipe);
+            Image.Format minimal = ChannelReducer.minimalFormat(master, 0);
+            Image.Format format = Compression.Bc.select(minimal);
+
+            byte[] blocks = BlockCompressor.compress(master, format, true);
+            long serial = bestTime(master, format, false);
+            long parallel = bestTime(master, format, true);
+            totalSerial += serial;
+            totalParallel += parallel;
+            double rmse = BlockDecoder.rmse(master, blocks, format);
+            double psnr = 20.0 * Math.log10(255.0 / rmse);
+
+            report.append(String.format(Locale.ROOT,
+                    "%s %s %dx%d %.1f %.1f %.2f %.2f %.1f\n",
+                    recipe.getAssetName(), format, master.getWidth(),
+                    master.getHeight(), serial / 1e6, parallel / 1e6,
+                    serial / (double) parallel, rmse, psnr));
+        }
+        report.append(String.format(Locale.ROOT,
+                "# total %.1f %.1f %.2f\n", totalSerial / 1e6,
+                totalParallel / 1e6, totalSerial / (double) totalParallel));
+
+        OutputFiles.writeText(
+                OutputFiles.path("bcn-benchmark.txt"), report.toString());
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Time the compression of an image, after one untimed warm-up run.
+     *
+     * @param image the image to compress (not null, unaffected)
+     * @param format the compressed format (not null)
+     * @param parallel true to encode block rows in parallel
+     * @return the fastest of the timed runs (in nanoseconds)
+     */
+    private static long bestTime(
+            BufferedImage image, Image.Format format, boolean parallel) {
+        BlockCompressor.compress(image, format, parallel);
+
+        long result = Long.MAX_VALUE;
+        for (int run = 0; run < numRuns; ++run) {
+            long start = System.nanoTime();
+            BlockCompressor.compress(image, format, parallel);
+            result = Math.min(result, System.nanoTime() - start);
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.textures.gui;
+
+import com.github.stephengold.georg.Generator;
+import com.github.stephengold.georg.OutputFiles;
+import com.github.stephengold.georg.Pipeline;
+import com.github.stephengold.georg.Recipe;
+import java.util.List;
+import java.util.Locale;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jme3utilities.Heart;
+
+/**
+ * A console application to compare generating the GUI textures one recipe at
+ * a time with generating them in a Pipeline, writing a report to
+ * "pipeline-benchmark.txt".
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class BenchmarkPipeline {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * number of timed runs of each approach, of which the fastest is reported
+     */
+    final private static int numRuns = 2;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(BenchmarkPipeline.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private BenchmarkPipeline() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Main entry point for the BenchmarkPipeline application.
+     *
+     * @param arguments array of command-line arguments (not null)
+     */
+    public static void main(String[] arguments) {
+        /*
+         * Mute the chatty loggers found in some imported packages.
+         */
+        Heart.setLoggingLevels(Level.WARNING);
+
+        List<Recipe> recipeList = MakeAtlas.guiRecipes();
+        final Recipe[] recipes = recipeList.toArray(new Recipe[0]);
+        long serialNanos = bestTime(new Runnable() {
+            @Override
+            public void run() {
+                for (Recipe recipe : recipes) {
+                    Generator.generate(recipe);
+                }
+            }
+        });
+        long pipelineNanos = bestTime(new Runnable() {
+            @Override
+            public void run() {
+                Pipeline.generate(recipes);
+            }
+        });
+
+        String report = String.format(Locale.ROOT,
+                "# %d GUI recipes on %d processors\n"
+                + "serialMs=%.1f\npipelineMs=%.1f\n"
+                + "# pipeline speedup: %.2fx\n",
+                recipes.length, Runtime.getRuntime().availableProcessors(),
+                serialNanos / 1e6, pipelineNanos / 1e6,
+                serialNanos / (double) pipelineNanos);
+        OutputFiles.writeText(
+                OutputFiles.path("pipeline-benchmark.txt"), report);
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Time a task, after one untimed warm-up run.
+     *
+     * @param task the task to time (not null)
+     * @return the fastest of several runs (in nanoseconds)
+     */
+    private static long bestTime(Runnable task) {
+        task.run();
+        long result = Long.MAX_VALUE;
+        for (int runIndex = 0; runIndex < numRuns; ++runIndex) {
+            long startTime = System.nanoTime();
+            task.run();
+            long elapsed = System.nanoTime() - startTime;
+            result = Math.min(result, elapsed);
+        }
+
+        return result;
+    }
+}
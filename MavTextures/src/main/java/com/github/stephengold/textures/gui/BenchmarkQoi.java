@@ -0,0 +1,222 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.textures.gui;
+
+import com.github.stephengold.georg.Generator;
+import com.github.stephengold.georg.ImageConverter;
+import com.github.stephengold.georg.OutputFiles;
+import com.github.stephengold.georg.QoiEncoder;
+import com.github.stephengold.georg.QoiLoader;
+import com.github.stephengold.georg.Recipe;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Locale;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.imageio.ImageIO;
+import jme3utilities.Heart;
+
+/**
+ * A console application to compare QOI with PNG on the master images of the
+ * GUI textures, writing a report to "qoi-benchmark.txt".
+ * <p>
+ * PNG files are written using Heart.writeImage() and decoded the way jME's
+ * AWTLoader does: ImageIO followed by a copy into a direct buffer. QOI files
+ * are written using QoiEncoder and decoded using QoiLoader.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class BenchmarkQoi {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * number of timed runs of each codec, of which the fastest is reported
+     */
+    final private static int numRuns = 3;
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(BenchmarkQoi.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private BenchmarkQoi() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Main entry point for the BenchmarkQoi application.
+     *
+     * @param arguments array of command-line arguments (not null)
+     */
+    public static void main(String[] arguments) {
+        /*
+         * Mute the chatty loggers found in some imported packages.
+         */
+        Heart.setLoggingLevels(Level.WARNING);
+
+        List<Recipe> recipes = MakeAtlas.guiRecipes();
+        final String pngPath = OutputFiles.path("qoi-benchmark.png");
+        final String qoiPath = OutputFiles.path("qoi-benchmark.qoi");
+        final QoiLoader loader = new QoiLoader();
+
+        StringBuilder report = new StringBuilder(2048);
+        report.append("# asset size pngBytes qoiBytes pngEncodeMs")
+                .append(" qoiEncodeMs pngDecodeMs qoiDecodeMs\n");
+        long[] totals = new long[4];
+        for (Recipe recipe : recipes) {
+            final BufferedImage master = Generator.obtainMaster(recipe);
+            long[] times = new long[4];
+            times[0] = bestTime(new Runnable() {
+                @Override
+                public void run() {
+                    writePng(pngPath, master);
+                }
+            });
+            times[1] = bestTime(new Runnable() {
+                @Override
+                public void run() {
+                    QoiEncoder.write(qoiPath, master);
+                }
+            });
+            final byte[] png = readBytes(pngPath);
+            final byte[] qoi = readBytes(qoiPath);
+            times[2] = bestTime(new Runnable() {
+                @Override
+                public void run() {
+                    decodePng(png);
+                }
+            });
+            times[3] = bestTime(new Runnable() {
+                @Override
+                public void run() {
+                    loader.decode(new ByteArrayInputStream(qoi), true);
+                }
+            });
+            for (int i = 0; i < times.length; ++i) {
+                totals[i] += times[i];
+            }
+
+            report.append(String.format(Locale.ROOT,
+                    "%s %dx%d %d %d %.1f %.1f %.1f %.1f\n",
+                    recipe.getAssetName(), master.getWidth(),
+                    master.getHeight(), png.length, qoi.length,
+                    times[0] / 1e6, times[1] / 1e6, times[2] / 1e6,
+                    times[3] / 1e6));
+        }
+        report.append(String.format(Locale.ROOT,
+                "# total %.1f %.1f %.1f %.1f\n", totals[0] / 1e6,
+                totals[1] / 1e6, totals[2] / 1e6, totals[3] / 1e6));
+        report.append(String.format(Locale.ROOT,
+                "# QOI speedup: encode %.2fx, decode %.2fx\n",
+                totals[0] / (double) totals[1],
+                totals[2] / (double) totals[3]));
+
+        new File(pngPath).delete();
+        new File(qoiPath).delete();
+        OutputFiles.writeText(
+                OutputFiles.path("qoi-benchmark.txt"), report.toString());
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Time a task, after one untimed warm-up run.
+     *
+     * @param task the task to time (not null)
+     * @return the fastest of the timed runs (in nanoseconds)
+     */
+    private static long bestTime(Runnable task) {
+        task.run();
+
+        long result = Long.MAX_VALUE;
+        for (int run = 0; run < numRuns; ++run) {
+            long start = System.nanoTime();
+            task.run();
+            result = Math.min(result, System.nanoTime() - start);
+        }
+
+        return result;
+    }
+
+    /**
+     * Decode PNG data into a direct buffer in RGBA8 format, with the bottom
+     * row first.
+     *
+     * @param png the encoded data (not null, unaffected)
+     * @return a new direct buffer (not null)
+     */
+    private static ByteBuffer decodePng(byte[] png) {
+        try {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+            ByteBuffer result = ImageConverter.toRgba8(image);
+            return result;
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    /**
+     * Read the entire contents of a file.
+     *
+     * @param filePath the filesystem path to the file (not null)
+     * @return a new array (not null)
+     */
+    private static byte[] readBytes(String filePath) {
+        try {
+            byte[] result = Files.readAllBytes(new File(filePath).toPath());
+            return result;
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    /**
+     * Write an image to a PNG file using Heart.
+     *
+     * @param filePath the filesystem path to the file (not null)
+     * @param image the image to write (not null, unaffected)
+     */
+    private static void writePng(String filePath, BufferedImage image) {
+        try {
+            Heart.writeImage(filePath, image);
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.textures.gui;
+
+import com.github.stephengold.georg.Atlas;
+import com.github.stephengold.georg.Recipe;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jme3utilities.Heart;
+import jme3utilities.MyString;
+
+/**
+ * A console application to pack the GUI textures into the "gui" atlas:
+ * "gui-0.png" plus a "gui.atlas" index of UV coordinates.
+ * <p>
+ * The skidmark and smoke textures are omitted because they're applied to
+ * meshes and particles, not to the GUI.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class MakeAtlas {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(MakeAtlas.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private MakeAtlas() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Main entry point for the MakeAtlas application.
+     *
+     * @param arguments array of command-line arguments (not null)
+     */
+    public static void main(String[] arguments) {
+        /*
+         * Mute the chatty loggers found in some imported packages.
+         */
+        Heart.setLoggingLevels(Level.WARNING);
+        /*
+         * Set the logging level for this class and also for writeImage().
+         */
+        //logger.setLevel(Level.INFO);
+        //Logger.getLogger(Heart.class.getName()).setLevel(Level.INFO);
+        /*
+         * Log the working directory.
+         */
+        String userDir = System.getProperty("user.dir");
+        logger.log(Level.INFO, "working directory is {0}",
+                MyString.quote(userDir));
+        /*
+         * Generate the atlas.
+         */
+        List<Recipe> recipes = guiRecipes();
+        Recipe[] array = new Recipe[recipes.size()];
+        Atlas.generate("gui", recipes.toArray(array));
+    }
+
+    /**
+     * Collect the recipes of the GUI textures.
+     *
+     * @return a new list (not null, not empty)
+     */
+    static List<Recipe> guiRecipes() {
+        List<Recipe> result = new ArrayList<>(16);
+        Collections.addAll(result, MakeCompass.recipes());
+        Collections.addAll(result, MakeDials.recipes());
+        Collections.addAll(result, MakeHorn.recipes());
+        Collections.addAll(result, MakeLeftTriangle.recipes());
+        Collections.addAll(result, MakeLoading.recipes());
+        Collections.addAll(result, MakeMute.recipes());
+        Collections.addAll(result, MakeNeedle.recipes());
+        Collections.addAll(result, MakePause.recipes());
+        Collections.addAll(result, MakePower.recipes());
+        Collections.addAll(result, MakeRun.recipes());
+        Collections.addAll(result, MakeSingleStep.recipes());
+        Collections.addAll(result, MakeSound.recipes());
+        Collections.addAll(result, MakeSteering.recipes());
+
+        return result;
+    }
+}
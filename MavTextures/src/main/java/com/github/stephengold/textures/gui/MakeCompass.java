@@ -26,24 +26,23 @@
  */
 package com.github.stephengold.textures.gui;
 
+import com.github.stephengold.georg.Pipeline;
+import com.github.stephengold.georg.Recipe;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.FontMetrics;
 import java.awt.Graphics2D;
-import java.awt.image.BufferedImage;
-import java.io.IOException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import jme3utilities.Heart;
 import jme3utilities.MyString;
-import org.imgscalr.Scalr;
 
 /**
  * A console application to generate the "compass.png" texture.
  *
  * @author Stephen Gold sgold@sonic.net
  */
-final class MakeCompass {
+final class MakeCompass extends Recipe {
     // *************************************************************************
     // constants and loggers
 
@@ -57,10 +56,33 @@ final class MakeCompass {
      */
     final private static Logger logger
             = Logger.getLogger(MakeCompass.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * color of the background
+     */
+    final private Color bgColor;
+    /**
+     * color of the foreground shapes
+     */
+    final private Color fgColor;
+    // *************************************************************************
+    // constructors
+
     /**
-     * filesystem path to the asset directory/folder for output
+     * Instantiate a recipe for a compass.
+     *
+     * @param fgColor the color of the foreground shapes (not null)
+     * @param bgColor the color of the background (not null)
+     * @param assetName the name of the asset (not null, not empty)
      */
-    final private static String assetDirPath = "build";
+    MakeCompass(Color fgColor, Color bgColor, String assetName) {
+        super(assetName, textureWidth, textureHeight,
+                textureWidth / 10, textureHeight / 10);
+        this.fgColor = fgColor;
+        this.bgColor = bgColor;
+    }
     // *************************************************************************
     // new methods exposed
 
@@ -79,10 +101,6 @@ final class MakeCompass {
          */
         //logger.setLevel(Level.INFO);
         //Logger.getLogger(Heart.class.getName()).setLevel(Level.INFO);
-        /*
-         * Instantiate the application.
-         */
-        MakeCompass application = new MakeCompass();
         /*
          * Log the working directory.
          */
@@ -90,29 +108,36 @@ final class MakeCompass {
         logger.log(Level.INFO, "working directory is {0}",
                 MyString.quote(userDir));
         /*
-         * Define colors.
+         * Generate a color image map.
          */
+        Pipeline.generate(recipes());
+    }
+
+    /**
+     * Instantiate the recipe of this application.
+     *
+     * @return a new array (not null, not empty)
+     */
+    static Recipe[] recipes() {
         float opacity = 1f;
         Color white = new Color(1f, 1f, 1f, opacity);
         Color black = new Color(0f, 0f, 0f, opacity);
-        /*
-         * Generate a color image map.
-         */
-        application.makeCompass(white, black, "compass.png");
+        Recipe[] result = {
+            new MakeCompass(white, black, "compass")
+        };
+
+        return result;
     }
     // *************************************************************************
-    // private methods
+    // Recipe methods
 
     /**
-     * Generate an image map for a compass.
+     * Draw the master image for a compass.
+     *
+     * @param graphics the graphics context on which to draw (not null)
      */
-    private void makeCompass(Color fgColor, Color bgColor, String assetPath) {
-        /*
-         * Create a blank, color buffered image for the texture map.
-         */
-        BufferedImage image = new BufferedImage(textureWidth, textureHeight,
-                BufferedImage.TYPE_4BYTE_ABGR);
-        Graphics2D graphics = image.createGraphics();
+    @Override
+    public void render(Graphics2D graphics) {
         /*
          * Start with all pixels bgColor.
          */
@@ -167,23 +192,6 @@ final class MakeCompass {
         drawString(graphics, "SE", 3 / 8.0, baseY);
         drawString(graphics, "SW", 5 / 8.0, baseY);
         drawString(graphics, "NW", 7 / 8.0, baseY);
-        /*
-         * Downsample the image (by 10x) to the desired final size.
-         */
-        int finalHeight = textureHeight / 10;
-        int finalWidth = textureWidth / 10;
-        BufferedImage downsampledImage = Scalr.resize(image,
-                Scalr.Method.ULTRA_QUALITY, Scalr.Mode.AUTOMATIC, finalWidth,
-                finalHeight, Scalr.OP_ANTIALIAS);
-        /*
-         * Write the downsampled image to the asset file.
-         */
-        String filePath = String.format("%s/%s", assetDirPath, assetPath);
-        try {
-            Heart.writeImage(filePath, downsampledImage);
-        } catch (IOException exception) {
-            throw new RuntimeException(exception);
-        }
     }
     // *************************************************************************
     // private methods
@@ -26,6 +26,8 @@
  */
 package com.github.stephengold.textures.gui;
 
+import com.github.stephengold.georg.Pipeline;
+import com.github.stephengold.georg.Recipe;
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.util.logging.Level;
@@ -49,10 +51,24 @@ final class MakeDials extends MakeSquareTexture {
     final private static Logger logger
             = Logger.getLogger(MakeDials.class.getName());
     // *************************************************************************
+    // fields
+
+    /**
+     * color of the redzone
+     */
+    final private Color redzoneColor;
+    // *************************************************************************
     // constructors
 
-    private MakeDials() {
-        super(2048);
+    /**
+     * Instantiate a recipe for the background of a dial.
+     *
+     * @param redzoneColor the color of the redzone (not null)
+     * @param assetName the name of the asset (not null, not empty)
+     */
+    MakeDials(Color redzoneColor, String assetName) {
+        super(assetName, 2048, 201, null);
+        this.redzoneColor = redzoneColor;
     }
     // *************************************************************************
     // new methods exposed
@@ -72,10 +88,6 @@ final class MakeDials extends MakeSquareTexture {
          */
         //logger.setLevel(Level.INFO);
         //Logger.getLogger(Heart.class.getName()).setLevel(Level.INFO);
-        /*
-         * Instantiate the application.
-         */
-        MakeDials application = new MakeDials();
         /*
          * Log the working directory.
          */
@@ -83,25 +95,37 @@ final class MakeDials extends MakeSquareTexture {
         logger.log(Level.INFO, "working directory is {0}",
                 MyString.quote(userDir));
         /*
-         * Define colors.
+         * Generate color image maps.
          */
+        Pipeline.generate(recipes());
+    }
+
+    /**
+     * Instantiate the recipes of this application.
+     *
+     * @return a new array (not null, not empty)
+     */
+    static Recipe[] recipes() {
         float opacity = 1f;
         Color red = new Color(0.7f, 0f, 0f, opacity);
         Color black = new Color(0f, 0f, 0f, opacity);
-        /*
-         * Generate color image maps.
-         */
-        application.makeDial(black, "speedo_bg_2.png");
-        application.makeDial(red, "tachometer_bg.png");
+        Recipe[] result = {
+            new MakeDials(black, "speedo_bg_2"),
+            new MakeDials(red, "tachometer_bg")
+        };
+
+        return result;
     }
     // *************************************************************************
-    // private methods
+    // MakeSquareTexture methods
 
     /**
-     * Generate an image map for the background of a dial.
+     * Draw the master image for the background of a dial.
+     *
+     * @param graphics the graphics context on which to draw (not null)
      */
-    private void makeDial(Color redzoneColor, String fileName) {
-        Graphics2D graphics = createBufferedImage();
+    @Override
+    protected void draw(Graphics2D graphics) {
         /*
          * Fill the (cyan) outer edge.
          */
@@ -132,8 +156,5 @@ final class MakeDials extends MakeSquareTexture {
         graphics.setColor(redzoneColor);
         TexUtils.fillSection(graphics, redzoneRadius, outerRadius,
                 halfPi - 1.0, halfPi, textureSize);
-
-        int finalSize = 201;
-        downsampleAndWrite(finalSize, fileName);
     }
 }
@@ -26,6 +26,8 @@
  */
 package com.github.stephengold.textures.gui;
 
+import com.github.stephengold.georg.Pipeline;
+import com.github.stephengold.georg.Recipe;
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.util.logging.Level;
@@ -49,10 +51,30 @@ final class MakeHorn extends MakeSquareTexture {
     final private static Logger logger
             = Logger.getLogger(MakeHorn.class.getName());
     // *************************************************************************
+    // fields
+
+    /**
+     * color of the circular background
+     */
+    final private Color bgColor;
+    /**
+     * color of the foreground shapes
+     */
+    final private Color fgColor;
+    // *************************************************************************
     // constructors
 
-    private MakeHorn() {
-        super(2048);
+    /**
+     * Instantiate a recipe for a horn button.
+     *
+     * @param fgColor the color of the foreground shapes (not null)
+     * @param bgColor the color of the circular background (not null)
+     * @param assetName the name of the asset (not null, not empty)
+     */
+    MakeHorn(Color fgColor, Color bgColor, String assetName) {
+        super(assetName, 2048, 128, new Color(1f, 1f, 1f, 1f));
+        this.fgColor = fgColor;
+        this.bgColor = bgColor;
     }
     // *************************************************************************
     // new methods exposed
@@ -72,10 +94,6 @@ final class MakeHorn extends MakeSquareTexture {
          */
         //logger.setLevel(Level.INFO);
         //Logger.getLogger(Heart.class.getName()).setLevel(Level.INFO);
-        /*
-         * Instantiate the application.
-         */
-        MakeHorn application = new MakeHorn();
         /*
          * Log the working directory.
          */
@@ -83,28 +101,38 @@ final class MakeHorn extends MakeSquareTexture {
         logger.log(Level.INFO, "working directory is {0}",
                 MyString.quote(userDir));
         /*
-         * Define colors.
+         * Generate color image maps.
          */
+        Pipeline.generate(recipes());
+    }
+
+    /**
+     * Instantiate the recipes of this application.
+     *
+     * @return a new array (not null, not empty)
+     */
+    static Recipe[] recipes() {
         float opacity = 1f;
         Color black = new Color(0f, 0f, 0f, opacity);
         Color red = new Color(0.5f, 0f, 0f, opacity);
         Color yellow = new Color(0.7f, 0.7f, 0f, opacity);
-        /*
-         * Generate color image maps.
-         */
-        application.makeHorn(yellow, black, "horn-silent.png");
-        application.makeHorn(yellow, red, "horn-sound.png");
+        Recipe[] result = {
+            new MakeHorn(yellow, black, "horn-silent"),
+            new MakeHorn(yellow, red, "horn-sound")
+        };
+
+        return result;
     }
     // *************************************************************************
-    // private methods
+    // MakeSquareTexture methods
 
     /**
-     * Generate an image map for a horn button.
+     * Draw the master image for a horn button.
+     *
+     * @param graphics the graphics context on which to draw (not null)
      */
-    private void makeHorn(Color fgColor, Color bgColor, String fileName) {
-        Color white = new Color(1f, 1f, 1f, 1f);
-        Graphics2D graphics = createOpaque(white);
-
+    @Override
+    protected void draw(Graphics2D graphics) {
         // circular background for the button itself
         double r = 0.44;
         int xy = (int) Math.round(textureSize * (0.5 - r));
@@ -188,8 +216,5 @@ final class MakeHorn extends MakeSquareTexture {
             yPoints[i] = (int) Math.round(textureSize * (c4y - rcos));
         }
         graphics.fillPolygon(xPoints, yPoints, numPoints);
-
-        int finalSize = 128;
-        downsampleAndWrite(finalSize, fileName);
     }
 }
@@ -26,15 +26,14 @@
  */
 package com.github.stephengold.textures.gui;
 
+import com.github.stephengold.georg.Pipeline;
+import com.github.stephengold.georg.Recipe;
 import java.awt.Color;
 import java.awt.Graphics2D;
-import java.awt.image.BufferedImage;
-import java.io.IOException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import jme3utilities.Heart;
 import jme3utilities.MyString;
-import org.imgscalr.Scalr;
 
 /**
  * A console application to generate the "left-triangle.png" texture for a
@@ -42,23 +41,46 @@ import org.imgscalr.Scalr;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-final class MakeLeftTriangle {
+final class MakeLeftTriangle extends Recipe {
     // *************************************************************************
     // constants and loggers
 
     /**
      * size of the texture map (pixels per side)
      */
+    final private static int finalSize = 128;
     final private static int textureSize = 2048;
     /**
      * message logger for this class
      */
     final private static Logger logger
             = Logger.getLogger(MakeLeftTriangle.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * color of the background
+     */
+    final private Color bgColor;
     /**
-     * filesystem path to the asset directory/folder for output
+     * color of the foreground shapes
      */
-    final private static String assetDirPath = "build";
+    final private Color fgColor;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a recipe for a left-pointing triangle.
+     *
+     * @param fgColor the color of the foreground shapes (not null)
+     * @param bgColor the color of the background (not null)
+     * @param assetName the name of the asset (not null, not empty)
+     */
+    MakeLeftTriangle(Color fgColor, Color bgColor, String assetName) {
+        super(assetName, textureSize, textureSize, finalSize, finalSize);
+        this.fgColor = fgColor;
+        this.bgColor = bgColor;
+    }
     // *************************************************************************
     // new methods exposed
 
@@ -77,10 +99,6 @@ final class MakeLeftTriangle {
          */
         //logger.setLevel(Level.INFO);
         //Logger.getLogger(Heart.class.getName()).setLevel(Level.INFO);
-        /*
-         * Instantiate the application.
-         */
-        MakeLeftTriangle application = new MakeLeftTriangle();
         /*
          * Log the working directory.
          */
@@ -88,31 +106,36 @@ final class MakeLeftTriangle {
         logger.log(Level.INFO, "working directory is {0}",
                 MyString.quote(userDir));
         /*
-         * Define colors.
+         * Generate a color image map.
          */
+        Pipeline.generate(recipes());
+    }
+
+    /**
+     * Instantiate the recipe of this application.
+     *
+     * @return a new array (not null, not empty)
+     */
+    static Recipe[] recipes() {
         float opacity = 1f;
         Color gray = new Color(0.3f, 0.3f, 0.3f, opacity);
         Color black = new Color(0f, 0f, 0f, opacity);
-        /*
-         * Generate a color image map.
-         */
-        application.makeLeftTriangle(gray, black, "left-triangle.png");
+        Recipe[] result = {
+            new MakeLeftTriangle(gray, black, "left-triangle")
+        };
+
+        return result;
     }
     // *************************************************************************
-    // private methods
+    // Recipe methods
 
     /**
-     * Generate an image map for a slider background.
+     * Draw the master image for a slider background.
+     *
+     * @param graphics the graphics context on which to draw (not null)
      */
-    private void makeLeftTriangle(Color fgColor, Color bgColor,
-            String assetPath) {
-        /*
-         * Create a blank, color buffered image for the texture map.
-         */
-        BufferedImage image = new BufferedImage(textureSize, textureSize,
-                BufferedImage.TYPE_4BYTE_ABGR);
-        Graphics2D graphics = image.createGraphics();
-
+    @Override
+    public void render(Graphics2D graphics) {
         // Start with all pixels bgColor.
         graphics.setColor(bgColor);
         graphics.fillRect(0, 0, textureSize, textureSize);
@@ -131,21 +154,5 @@ final class MakeLeftTriangle {
         yPoints[2] = (int) Math.round(textureSize * (0.5));
         graphics.setColor(fgColor);
         graphics.fillPolygon(xPoints, yPoints, numPoints);
-        /*
-         * Downsample the image to the desired final size.
-         */
-        int finalSize = 128;
-        BufferedImage downsampledImage = Scalr.resize(image,
-                Scalr.Method.ULTRA_QUALITY, Scalr.Mode.AUTOMATIC, finalSize,
-                finalSize, Scalr.OP_ANTIALIAS);
-        /*
-         * Write the downsampled image to the asset file.
-         */
-        String filePath = String.format("%s/%s", assetDirPath, assetPath);
-        try {
-            Heart.writeImage(filePath, downsampledImage);
-        } catch (IOException exception) {
-            throw new RuntimeException(exception);
-        }
     }
 }
@@ -26,6 +26,8 @@
  */
 package com.github.stephengold.textures.gui;
 
+import com.github.stephengold.georg.Pipeline;
+import com.github.stephengold.georg.Recipe;
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.util.logging.Level;
@@ -48,10 +50,24 @@ final class MakeLoading extends MakeSquareTexture {
     final private static Logger logger
             = Logger.getLogger(MakeLoading.class.getName());
     // *************************************************************************
+    // fields
+
+    /**
+     * color of the foreground shapes
+     */
+    final private Color fgColor;
+    // *************************************************************************
     // constructors
 
-    private MakeLoading() {
-        super(2048);
+    /**
+     * Instantiate a recipe for a loading animation.
+     *
+     * @param fgColor the color of the foreground shapes (not null)
+     * @param assetName the name of the asset (not null, not empty)
+     */
+    MakeLoading(Color fgColor, String assetName) {
+        super(assetName, 2048, 200, null);
+        this.fgColor = fgColor;
     }
     // *************************************************************************
     // new methods exposed
@@ -71,10 +87,6 @@ final class MakeLoading extends MakeSquareTexture {
          */
         //logger.setLevel(Level.INFO);
         //Logger.getLogger(Heart.class.getName()).setLevel(Level.INFO);
-        /*
-         * Instantiate the application.
-         */
-        MakeLoading application = new MakeLoading();
         /*
          * Log the working directory.
          */
@@ -82,23 +94,35 @@ final class MakeLoading extends MakeSquareTexture {
         logger.log(Level.INFO, "working directory is {0}",
                 MyString.quote(userDir));
         /*
-         * Define colors.
+         * Generate a color image map.
          */
+        Pipeline.generate(recipes());
+    }
+
+    /**
+     * Instantiate the recipe of this application.
+     *
+     * @return a new array (not null, not empty)
+     */
+    static Recipe[] recipes() {
         float opacity = 1f;
         Color salmon = new Color(0.9f, 0.35f, 0.35f, opacity);
-        /*
-         * Generate a color image map.
-         */
-        application.makeLoading(salmon, "loading.png");
+        Recipe[] result = {
+            new MakeLoading(salmon, "loading")
+        };
+
+        return result;
     }
     // *************************************************************************
-    // private methods
+    // MakeSquareTexture methods
 
     /**
-     * Generate an image map for a loading animation.
+     * Draw the master image for a loading animation.
+     *
+     * @param graphics the graphics context on which to draw (not null)
      */
-    private void makeLoading(Color fgColor, String fileName) {
-        Graphics2D graphics = createBufferedImage();
+    @Override
+    protected void draw(Graphics2D graphics) {
         /*
          * Fill the circular arc.
          */
@@ -107,8 +131,5 @@ final class MakeLoading extends MakeSquareTexture {
         graphics.setColor(fgColor);
         TexUtils.fillSection(graphics, innerRadius, outerRadius,
                 -Math.PI, 0.5 * Math.PI, textureSize);
-
-        int finalSize = 200;
-        downsampleAndWrite(finalSize, fileName);
     }
 }
@@ -26,6 +26,8 @@
  */
 package com.github.stephengold.textures.gui;
 
+import com.github.stephengold.georg.Pipeline;
+import com.github.stephengold.georg.Recipe;
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.util.logging.Level;
@@ -48,10 +50,30 @@ final class MakeMute extends MakeSquareTexture {
     final private static Logger logger
             = Logger.getLogger(MakeMute.class.getName());
     // *************************************************************************
+    // fields
+
+    /**
+     * color of the circular background
+     */
+    final private Color bgColor;
+    /**
+     * color of the foreground shapes
+     */
+    final private Color fgColor;
+    // *************************************************************************
     // constructors
 
-    private MakeMute() {
-        super(2048);
+    /**
+     * Instantiate a recipe for a mute button.
+     *
+     * @param fgColor the color of the foreground shapes (not null)
+     * @param bgColor the color of the circular background (not null)
+     * @param assetName the name of the asset (not null, not empty)
+     */
+    MakeMute(Color fgColor, Color bgColor, String assetName) {
+        super(assetName, 2048, 128, fgColor);
+        this.fgColor = fgColor;
+        this.bgColor = bgColor;
     }
     // *************************************************************************
     // new methods exposed
@@ -71,10 +93,6 @@ final class MakeMute extends MakeSquareTexture {
          */
         //logger.setLevel(Level.INFO);
         //Logger.getLogger(Heart.class.getName()).setLevel(Level.INFO);
-        /*
-         * Instantiate the application.
-         */
-        MakeMute application = new MakeMute();
         /*
          * Log the working directory.
          */
@@ -82,25 +100,36 @@ final class MakeMute extends MakeSquareTexture {
         logger.log(Level.INFO, "working directory is {0}",
                 MyString.quote(userDir));
         /*
-         * Define colors.
+         * Generate a color image map.
          */
+        Pipeline.generate(recipes());
+    }
+
+    /**
+     * Instantiate the recipe of this application.
+     *
+     * @return a new array (not null, not empty)
+     */
+    static Recipe[] recipes() {
         float opacity = 1f;
         Color yellow = new Color(1f, 1f, 0f, opacity);
         Color black = new Color(0f, 0f, 0f, opacity);
-        /*
-         * Generate a color image map.
-         */
-        application.makeMute(yellow, black, "mute.png");
+        Recipe[] result = {
+            new MakeMute(yellow, black, "mute")
+        };
+
+        return result;
     }
     // *************************************************************************
-    // private methods
+    // MakeSquareTexture methods
 
     /**
-     * Generate an image map for a mute button.
+     * Draw the master image for a mute button.
+     *
+     * @param graphics the graphics context on which to draw (not null)
      */
-    private void makeMute(Color fgColor, Color bgColor, String fileName) {
-        Graphics2D graphics = createOpaque(fgColor);
-
+    @Override
+    protected void draw(Graphics2D graphics) {
         // circular background for the button itself
         double r = 0.44;
         int xy = (int) Math.round(textureSize * (0.5 - r));
@@ -139,8 +168,5 @@ final class MakeMute extends MakeSquareTexture {
             yPoints[3 * armIndex + 2] = (int) Math.round(textureSize * y2);
         }
         graphics.fillPolygon(xPoints, yPoints, numPoints);
-
-        int finalSize = 128;
-        downsampleAndWrite(finalSize, fileName);
     }
 }
@@ -26,15 +26,14 @@
  */
 package com.github.stephengold.textures.gui;
 
+import com.github.stephengold.georg.Pipeline;
+import com.github.stephengold.georg.Recipe;
 import java.awt.Color;
 import java.awt.Graphics2D;
-import java.awt.image.BufferedImage;
-import java.io.IOException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import jme3utilities.Heart;
 import jme3utilities.MyString;
-import org.imgscalr.Scalr;
 
 /**
  * A console application to generate the "speedo_needle_2.png" texture for an
@@ -42,13 +41,15 @@ import org.imgscalr.Scalr;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-final class MakeNeedle {
+final class MakeNeedle extends Recipe {
     // *************************************************************************
     // constants and loggers
 
     /**
      * size of the texture map (pixels per side)
      */
+    final private static int finalHeight = 90;
+    final private static int finalWidth = 12;
     final private static int textureHeight = 900;
     final private static int textureWidth = 120;
     /**
@@ -56,10 +57,32 @@ final class MakeNeedle {
      */
     final private static Logger logger
             = Logger.getLogger(MakeNeedle.class.getName());
+    // *************************************************************************
+    // fields
+
+    /**
+     * color of the needle
+     */
+    final private Color mainColor;
     /**
-     * filesystem path to the asset directory/folder for output
+     * color of the pivot
      */
-    final private static String assetDirPath = "build";
+    final private Color pivotColor;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a recipe for the needle of a dial.
+     *
+     * @param mainColor the color of the needle (not null)
+     * @param pivotColor the color of the pivot (not null)
+     * @param assetName the name of the asset (not null, not empty)
+     */
+    MakeNeedle(Color mainColor, Color pivotColor, String assetName) {
+        super(assetName, textureWidth, textureHeight, finalWidth, finalHeight);
+        this.mainColor = mainColor;
+        this.pivotColor = pivotColor;
+    }
     // *************************************************************************
     // new methods exposed
 
@@ -78,10 +101,6 @@ final class MakeNeedle {
          */
         //logger.setLevel(Level.INFO);
         //Logger.getLogger(Heart.class.getName()).setLevel(Level.INFO);
-        /*
-         * Instantiate the application.
-         */
-        MakeNeedle application = new MakeNeedle();
         /*
          * Log the working directory.
          */
@@ -89,31 +108,36 @@ final class MakeNeedle {
         logger.log(Level.INFO, "working directory is {0}",
                 MyString.quote(userDir));
         /*
-         * Define colors.
+         * Generate a color image map.
          */
+        Pipeline.generate(recipes());
+    }
+
+    /**
+     * Instantiate the recipe of this application.
+     *
+     * @return a new array (not null, not empty)
+     */
+    static Recipe[] recipes() {
         float opacity = 1f;
         Color red = new Color(0.7f, 0f, 0f, opacity);
         Color white = new Color(1f, 1f, 1f, opacity);
-        /*
-         * Generate a color image map.
-         */
-        application.makeNeedle(red, white, "speedo_needle_2.png");
+        Recipe[] result = {
+            new MakeNeedle(red, white, "speedo_needle_2")
+        };
+
+        return result;
     }
     // *************************************************************************
-    // private methods
+    // Recipe methods
 
     /**
-     * Generate an image map for an indicator needle.
+     * Draw the master image for an indicator needle.
+     *
+     * @param graphics the graphics context on which to draw (not null)
      */
-    private void makeNeedle(Color mainColor, Color pivotColor,
-            String assetPath) {
-        /*
-         * Create a blank, color buffered image for the texture map.
-         */
-        BufferedImage image = new BufferedImage(textureWidth, textureHeight,
-                BufferedImage.TYPE_4BYTE_ABGR);
-        Graphics2D graphics = image.createGraphics();
-
+    @Override
+    public void render(Graphics2D graphics) {
         // circular area around the pivot
         graphics.setColor(mainColor);
         graphics.fillOval(0, 700, 120, 120);
@@ -126,22 +150,5 @@ final class MakeNeedle {
         // circular pivot
         graphics.setColor(pivotColor);
         graphics.fillOval(30, 730, 60, 60);
-        /*
-         * Downsample the image to the desired final size.
-         */
-        int finalHeight = 90;
-        int finalWidth = 12;
-        BufferedImage downsampledImage = Scalr.resize(image,
-                Scalr.Method.ULTRA_QUALITY, Scalr.Mode.AUTOMATIC, finalWidth,
-                finalHeight, Scalr.OP_ANTIALIAS);
-        /*
-         * Write the downsampled image to the asset file.
-         */
-        String filePath = String.format("%s/%s", assetDirPath, assetPath);
-        try {
-            Heart.writeImage(filePath, downsampledImage);
-        } catch (IOException exception) {
-            throw new RuntimeException(exception);
-        }
     }
 }
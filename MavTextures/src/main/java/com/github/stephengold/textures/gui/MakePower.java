@@ -26,6 +26,8 @@
  */
 package com.github.stephengold.textures.gui;
 
+import com.github.stephengold.georg.Pipeline;
+import com.github.stephengold.georg.Recipe;
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.util.logging.Level;
@@ -49,10 +51,30 @@ final class MakePower extends MakeSquareTexture {
     final private static Logger logger
             = Logger.getLogger(MakePower.class.getName());
     // *************************************************************************
+    // fields
+
+    /**
+     * color of the circular background
+     */
+    final private Color bgColor;
+    /**
+     * color of the foreground shapes
+     */
+    final private Color fgColor;
+    // *************************************************************************
     // constructors
 
-    private MakePower() {
-        super(2048);
+    /**
+     * Instantiate a recipe for a power button.
+     *
+     * @param fgColor the color of the foreground shapes (not null)
+     * @param bgColor the color of the circular background (not null)
+     * @param assetName the name of the asset (not null, not empty)
+     */
+    MakePower(Color fgColor, Color bgColor, String assetName) {
+        super(assetName, 2048, 128, fgColor);
+        this.fgColor = fgColor;
+        this.bgColor = bgColor;
     }
     // *************************************************************************
     // new methods exposed
@@ -72,10 +94,6 @@ final class MakePower extends MakeSquareTexture {
          */
         //logger.setLevel(Level.INFO);
         //Logger.getLogger(Heart.class.getName()).setLevel(Level.INFO);
-        /*
-         * Instantiate the application.
-         */
-        MakePower application = new MakePower();
         /*
          * Log the working directory.
          */
@@ -83,27 +101,38 @@ final class MakePower extends MakeSquareTexture {
         logger.log(Level.INFO, "working directory is {0}",
                 MyString.quote(userDir));
         /*
-         * Define colors.
+         * Generate color image maps.
          */
+        Pipeline.generate(recipes());
+    }
+
+    /**
+     * Instantiate the recipes of this application.
+     *
+     * @return a new array (not null, not empty)
+     */
+    static Recipe[] recipes() {
         float opacity = 1f;
         Color white = new Color(1f, 1f, 1f, opacity);
         Color red = new Color(0.3f, 0f, 0f, opacity);
         Color green = new Color(0f, 0.7f, 0f, opacity);
-        /*
-         * Generate color image maps.
-         */
-        application.makePower(white, red, "power-off.png");
-        application.makePower(white, green, "power-on.png");
+        Recipe[] result = {
+            new MakePower(white, red, "power-off"),
+            new MakePower(white, green, "power-on")
+        };
+
+        return result;
     }
     // *************************************************************************
-    // private methods
+    // MakeSquareTexture methods
 
     /**
-     * Generate an image map for a power button.
+     * Draw the master image for a power button.
+     *
+     * @param graphics the graphics context on which to draw (not null)
      */
-    private void makePower(Color fgColor, Color bgColor, String fileName) {
-        Graphics2D graphics = createOpaque(fgColor);
-
+    @Override
+    protected void draw(Graphics2D graphics) {
         // circular background for the button itself
         double r = 0.44;
         int xy = (int) Math.round(textureSize * (0.5 - r));
@@ -143,8 +172,5 @@ final class MakePower extends MakeSquareTexture {
         y2 = (int) Math.round(textureSize * 0.47);
         graphics.setColor(fgColor);
         graphics.fillRect(x1, y1, x2 - x1, y2 - y1);
-
-        int finalSize = 128;
-        downsampleAndWrite(finalSize, fileName);
     }
 }
@@ -26,10 +26,10 @@
  */
 package com.github.stephengold.textures.gui;
 
+import com.github.stephengold.georg.Generator;
+import com.github.stephengold.georg.Recipe;
 import com.jme3.math.FastMath;
 import java.awt.Graphics2D;
-import java.awt.image.BufferedImage;
-import java.io.IOException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import jme3utilities.Heart;
@@ -40,7 +40,7 @@ import jme3utilities.MyString;
  *
  * @author Stephen Gold sgold@sonic.net
  */
-final class MakeSkidmark {
+final class MakeSkidmark extends Recipe {
     // *************************************************************************
     // constants and loggers
 
@@ -54,10 +54,18 @@ final class MakeSkidmark {
      */
     final private static Logger logger
             = Logger.getLogger(MakeSkidmark.class.getName());
+    // *************************************************************************
+    // constructors
+
     /**
-     * filesystem path to the asset directory/folder for output
+     * Instantiate a recipe for a skidmark.
+     *
+     * @param assetName the name of the asset (not null, not empty)
      */
-    final private static String assetDirPath = "build";
+    MakeSkidmark(String assetName) {
+        super(assetName, textureWidth, textureHeight, textureWidth,
+                textureHeight);
+    }
     // *************************************************************************
     // new methods exposed
 
@@ -76,10 +84,6 @@ final class MakeSkidmark {
          */
         //logger.setLevel(Level.INFO);
         //Logger.getLogger(Heart.class.getName()).setLevel(Level.INFO);
-        /*
-         * Instantiate the application.
-         */
-        MakeSkidmark application = new MakeSkidmark();
         /*
          * Log the working directory.
          */
@@ -89,22 +93,18 @@ final class MakeSkidmark {
         /*
          * Generate a color image map.
          */
-        application.makeSkidmark("skidmark.png");
+        Generator.generate(new MakeSkidmark("skidmark"));
     }
     // *************************************************************************
-    // private methods
+    // Recipe methods
 
     /**
-     * Generate an image map for a skidmark.
+     * Draw the master image for a skidmark.
+     *
+     * @param graphics the graphics context on which to draw (not null)
      */
-    private void makeSkidmark(String fileName) {
-        /*
-         * Create a blank, color buffered image for the texture map.
-         */
-        BufferedImage image = new BufferedImage(textureWidth, textureHeight,
-                BufferedImage.TYPE_4BYTE_ABGR);
-        Graphics2D graphics = image.createGraphics();
-
+    @Override
+    public void render(Graphics2D graphics) {
         float x1 = 0.22f;
         float x2 = 0.36f;
         float x3 = 0.5f;
@@ -138,14 +138,5 @@ final class MakeSkidmark {
                 Heart.setGrayPixel(graphics, columnIndex, rowIndex, 1f, alpha);
             }
         }
-        /*
-         * Write the image to the asset file.
-         */
-        String filePath = String.format("%s/%s", assetDirPath, fileName);
-        try {
-            Heart.writeImage(filePath, image);
-        } catch (IOException exception) {
-            throw new RuntimeException(exception);
-        }
     }
 }
@@ -26,6 +26,7 @@
  */
 package com.github.stephengold.textures.gui;
 
+import com.github.stephengold.georg.Generator;
 import com.jme3.math.FastMath;
 import java.awt.Graphics2D;
 import java.util.logging.Level;
@@ -51,8 +52,13 @@ final class MakeSmoke extends MakeSquareTexture {
     // *************************************************************************
     // constructors
 
-    private MakeSmoke() {
-        super(64);
+    /**
+     * Instantiate a recipe for a smoke particle.
+     *
+     * @param assetName the name of the asset (not null, not empty)
+     */
+    MakeSmoke(String assetName) {
+        super(assetName, 64, 32, null);
     }
     // *************************************************************************
     // new methods exposed
@@ -72,10 +78,6 @@ final class MakeSmoke extends MakeSquareTexture {
          */
         //logger.setLevel(Level.INFO);
         //Logger.getLogger(Heart.class.getName()).setLevel(Level.INFO);
-        /*
-         * Instantiate the application.
-         */
-        MakeSmoke application = new MakeSmoke();
         /*
          * Log the working directory.
          */
@@ -85,16 +87,18 @@ final class MakeSmoke extends MakeSquareTexture {
         /*
          * Generate a color image map.
          */
-        application.makeSmoke("smoke.png");
+        Generator.generate(new MakeSmoke("smoke"));
     }
     // *************************************************************************
-    // private methods
+    // MakeSquareTexture methods
 
     /**
-     * Generate a color image map for a smoke particle.
+     * Draw the master image for a smoke particle.
+     *
+     * @param graphics the graphics context on which to draw (not null)
      */
-    private void makeSmoke(String fileName) {
-        Graphics2D graphics = createBufferedImage();
+    @Override
+    protected void draw(Graphics2D graphics) {
         /*
          * Set the opacity of each pixel.
          */
@@ -107,8 +111,5 @@ final class MakeSmoke extends MakeSquareTexture {
                 Heart.setGrayPixel(graphics, x, y, 1f, alpha);
             }
         }
-
-        int finalSize = 32;
-        downsampleAndWrite(finalSize, fileName);
     }
 }
@@ -26,21 +26,18 @@
  */
 package com.github.stephengold.textures.gui;
 
+import com.github.stephengold.georg.Recipe;
 import java.awt.Color;
 import java.awt.FontMetrics;
 import java.awt.Graphics2D;
-import java.awt.image.BufferedImage;
-import java.io.IOException;
 import java.util.logging.Logger;
-import jme3utilities.Heart;
-import org.imgscalr.Scalr;
 
 /**
- * A console application to generate square textures.
+ * A recipe for a square texture.
  *
  * @author Stephen Gold sgold@sonic.net
  */
-class MakeSquareTexture {
+abstract class MakeSquareTexture extends Recipe {
     // *************************************************************************
     // constants and loggers
 
@@ -49,18 +46,13 @@ class MakeSquareTexture {
      */
     final private static Logger logger
             = Logger.getLogger(MakeSquareTexture.class.getName());
-    /**
-     * filesystem path to the asset directory/folder for output
-     */
-    final private static String assetDirPath = "build";
     // *************************************************************************
     // fields
 
-    private BufferedImage image;
     /**
-     * graphics context
+     * background color of an opaque texture, or null for a transparent one
      */
-    private Graphics2D graphics;
+    final private Color background;
     /**
      * size of the texture map (pixels per side)
      */
@@ -69,78 +61,74 @@ class MakeSquareTexture {
     // constructors
 
     /**
-     * Instantiate for the specified texture size.
+     * Instantiate a recipe for the specified sizes.
      *
-     * @param textureSize the number of pixels along each edge (&gt;0)
+     * @param assetName the name of the asset (not null, not empty)
+     * @param textureSize the number of pixels along each edge of the master
+     * image (&gt;0)
+     * @param finalSize the number of pixels along each edge of the final
+     * texture (&gt;0)
+     * @param background the background color for an opaque texture, or null
+     * for a transparent one
      */
-    protected MakeSquareTexture(int textureSize) {
+    protected MakeSquareTexture(String assetName, int textureSize,
+            int finalSize, Color background) {
+        super(assetName, textureSize, textureSize, finalSize, finalSize);
         this.textureSize = textureSize;
+        this.background = background;
     }
     // *************************************************************************
-    // protected methods
+    // new methods exposed
 
     /**
-     * Create a blank, color-buffered, opaque image for the texture map.
+     * Draw the master image, apart from its background.
      *
-     * @param color the desired color (not null)
-     * @return a new graphics context (not null)
+     * @param graphics the graphics context on which to draw (not null)
      */
-    protected Graphics2D createOpaque(Color color) {
-        this.image = new BufferedImage(
-                textureSize, textureSize, BufferedImage.TYPE_3BYTE_BGR);
-
-        this.graphics = image.createGraphics();
-        graphics.setColor(color);
-        graphics.fillRect(0, 0, textureSize, textureSize);
-
-        return graphics;
-    }
+    abstract protected void draw(Graphics2D graphics);
 
     /**
-     * Create a blank, color-buffered, transparent image for the texture map.
+     * Draw a string of text centered at the specified X coordinate.
      *
-     * @return a new graphics context (not null)
+     * @param graphics the graphics context on which to draw (not null)
+     * @param text the text to draw (not null)
+     * @param centerX the X coordinate for the center (&ge;0, &le;1)
+     * @param baseY the Y coordinate for the baseline (&ge;0, &le;1)
      */
-    protected Graphics2D createBufferedImage() {
-        this.image = new BufferedImage(textureSize, textureSize,
-                BufferedImage.TYPE_4BYTE_ABGR);
-        graphics = image.createGraphics();
+    protected void drawString(
+            Graphics2D graphics, String text, double centerX, double baseY) {
+        FontMetrics fontMetrics = graphics.getFontMetrics();
+        int width = fontMetrics.stringWidth(text);
 
-        return graphics;
+        int x = (int) Math.round(textureSize * centerX - width / 2.0);
+        int y = (int) Math.round(textureSize * baseY);
+        graphics.drawString(text, x, y);
     }
+    // *************************************************************************
+    // Recipe methods
 
     /**
-     * Downsample the image to the desired final size and write it to a file.
+     * Test whether the master image should lack an alpha channel.
      *
-     * @param finalSize the desired image size (pixels per side, &gt;0)
-     * @param fileName the name of the file to create (not null, not empty)
+     * @return true if opaque, otherwise false
      */
-    protected void downsampleAndWrite(int finalSize, String fileName) {
-        BufferedImage downsampledImage = Scalr.resize(image,
-                Scalr.Method.ULTRA_QUALITY, Scalr.Mode.AUTOMATIC, finalSize,
-                finalSize, Scalr.OP_ANTIALIAS);
-
-        String filePath = String.format("%s/%s", assetDirPath, fileName);
-        try {
-            Heart.writeImage(filePath, downsampledImage);
-        } catch (IOException exception) {
-            throw new RuntimeException(exception);
-        }
+    @Override
+    public boolean isOpaque() {
+        boolean result = (background != null);
+        return result;
     }
 
     /**
-     * Draw a string of text centered at the specified X coordinate.
+     * Fill the background (if any) and then draw the rest of the master image.
      *
-     * @param text the text to draw (not null)
-     * @param centerX the X coordinate for the center (&ge;0, &le;1)
-     * @param baseY the Y coordinate for the baseline (&ge;0, &le;1)
+     * @param graphics the graphics context on which to draw (not null)
      */
-    protected void drawString(String text, double centerX, double baseY) {
-        FontMetrics fontMetrics = graphics.getFontMetrics();
-        int width = fontMetrics.stringWidth(text);
-
-        int x = (int) Math.round(textureSize * centerX - width / 2.0);
-        int y = (int) Math.round(textureSize * baseY);
-        graphics.drawString(text, x, y);
+    @Override
+    final public void render(Graphics2D graphics) {
+        if (background != null) {
+            graphics.setColor(background);
+            graphics.fillRect(0, 0, textureSize, textureSize);
+        }
+        draw(graphics);
     }
 }
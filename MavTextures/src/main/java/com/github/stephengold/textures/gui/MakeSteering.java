@@ -26,6 +26,8 @@
  */
 package com.github.stephengold.textures.gui;
 
+import com.github.stephengold.georg.Pipeline;
+import com.github.stephengold.georg.Recipe;
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.util.logging.Level;
@@ -49,10 +51,24 @@ final class MakeSteering extends MakeSquareTexture {
     final private static Logger logger
             = Logger.getLogger(MakeSteering.class.getName());
     // *************************************************************************
+    // fields
+
+    /**
+     * color of the foreground shapes
+     */
+    final private Color fgColor;
+    // *************************************************************************
     // constructors
 
-    private MakeSteering() {
-        super(2048);
+    /**
+     * Instantiate a recipe for a steering-wheel indicator.
+     *
+     * @param fgColor the color of the foreground shapes (not null)
+     * @param assetName the name of the asset (not null, not empty)
+     */
+    MakeSteering(Color fgColor, String assetName) {
+        super(assetName, 2048, 256, null);
+        this.fgColor = fgColor;
     }
     // *************************************************************************
     // new methods exposed
@@ -72,10 +88,6 @@ final class MakeSteering extends MakeSquareTexture {
          */
         //logger.setLevel(Level.INFO);
         //Logger.getLogger(Heart.class.getName()).setLevel(Level.INFO);
-        /*
-         * Instantiate the application.
-         */
-        MakeSteering application = new MakeSteering();
         /*
          * Log the working directory.
          */
@@ -83,23 +95,35 @@ final class MakeSteering extends MakeSquareTexture {
         logger.log(Level.INFO, "working directory is {0}",
                 MyString.quote(userDir));
         /*
-         * Define colors.
+         * Generate a color image map.
          */
+        Pipeline.generate(recipes());
+    }
+
+    /**
+     * Instantiate the recipe of this application.
+     *
+     * @return a new array (not null, not empty)
+     */
+    static Recipe[] recipes() {
         float opacity = 1f;
         Color black = new Color(0f, 0f, 0f, opacity);
-        /*
-         * Generate a color image map.
-         */
-        application.makeSteering(black, "steering.png");
+        Recipe[] result = {
+            new MakeSteering(black, "steering")
+        };
+
+        return result;
     }
     // *************************************************************************
-    // private methods
+    // MakeSquareTexture methods
 
     /**
-     * Generate an image map for a steering-wheel indicator.
+     * Draw the master image for a steering-wheel indicator.
+     *
+     * @param graphics the graphics context on which to draw (not null)
      */
-    private void makeSteering(Color fgColor, String fileName) {
-        Graphics2D graphics = createBufferedImage();
+    @Override
+    protected void draw(Graphics2D graphics) {
         /*
          * Fill the (black) circular rim.
          */
@@ -133,8 +157,5 @@ final class MakeSteering extends MakeSquareTexture {
         xPoints[5] = (int) Math.round(textureSize * (1.0 - x3));
         yPoints[5] = (int) Math.round(textureSize * y3);
         graphics.fillPolygon(xPoints, yPoints, numPoints);
-
-        int finalSize = 256;
-        downsampleAndWrite(finalSize, fileName);
     }
 }
@@ -0,0 +1,179 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.textures.gui;
+
+import com.github.stephengold.georg.Recipe;
+import java.awt.Color;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * Public factories for the recipes of the round More Advanced Vehicles
+ * buttons, so apps can generate them at runtime with any colors.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class MavButtonRecipes {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(MavButtonRecipes.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private MavButtonRecipes() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Instantiate a recipe for a horn button.
+     *
+     * @param fgColor the color of the foreground shapes (not null)
+     * @param bgColor the color of the circular background (not null)
+     * @param assetName the name of the asset (not null, not empty)
+     * @return a new recipe (not null)
+     */
+    public static Recipe horn(Color fgColor, Color bgColor, String assetName) {
+        Validate.nonNull(fgColor, "foreground color");
+        Validate.nonNull(bgColor, "background color");
+        Validate.nonEmpty(assetName, "asset name");
+
+        Recipe result = new MakeHorn(fgColor, bgColor, assetName);
+        return result;
+    }
+
+    /**
+     * Instantiate a recipe for a mute button.
+     *
+     * @param fgColor the color of the foreground shapes (not null)
+     * @param bgColor the color of the circular background (not null)
+     * @param assetName the name of the asset (not null, not empty)
+     * @return a new recipe (not null)
+     */
+    public static Recipe mute(Color fgColor, Color bgColor, String assetName) {
+        Validate.nonNull(fgColor, "foreground color");
+        Validate.nonNull(bgColor, "background color");
+        Validate.nonEmpty(assetName, "asset name");
+
+        Recipe result = new MakeMute(fgColor, bgColor, assetName);
+        return result;
+    }
+
+    /**
+     * Instantiate a recipe for a pause button.
+     *
+     * @param fgColor the color of the foreground shapes (not null)
+     * @param bgColor the color of the circular background (not null)
+     * @param assetName the name of the asset (not null, not empty)
+     * @return a new recipe (not null)
+     */
+    public static Recipe pause(Color fgColor, Color bgColor, String assetName) {
+        Validate.nonNull(fgColor, "foreground color");
+        Validate.nonNull(bgColor, "background color");
+        Validate.nonEmpty(assetName, "asset name");
+
+        Recipe result = new MakePause(fgColor, bgColor, assetName);
+        return result;
+    }
+
+    /**
+     * Instantiate a recipe for a power button.
+     *
+     * @param fgColor the color of the foreground shapes (not null)
+     * @param bgColor the color of the circular background (not null)
+     * @param assetName the name of the asset (not null, not empty)
+     * @return a new recipe (not null)
+     */
+    public static Recipe power(Color fgColor, Color bgColor, String assetName) {
+        Validate.nonNull(fgColor, "foreground color");
+        Validate.nonNull(bgColor, "background color");
+        Validate.nonEmpty(assetName, "asset name");
+
+        Recipe result = new MakePower(fgColor, bgColor, assetName);
+        return result;
+    }
+
+    /**
+     * Instantiate a recipe for a "run" button.
+     *
+     * @param fgColor the color of the foreground shapes (not null)
+     * @param bgColor the color of the circular background (not null)
+     * @param assetName the name of the asset (not null, not empty)
+     * @return a new recipe (not null)
+     */
+    public static Recipe run(Color fgColor, Color bgColor, String assetName) {
+        Validate.nonNull(fgColor, "foreground color");
+        Validate.nonNull(bgColor, "background color");
+        Validate.nonEmpty(assetName, "asset name");
+
+        Recipe result = new MakeRun(fgColor, bgColor, assetName);
+        return result;
+    }
+
+    /**
+     * Instantiate a recipe for a single-step button.
+     *
+     * @param fgColor the color of the foreground shapes (not null)
+     * @param bgColor the color of the circular background (not null)
+     * @param assetName the name of the asset (not null, not empty)
+     * @return a new recipe (not null)
+     */
+    public static Recipe singleStep(
+            Color fgColor, Color bgColor, String assetName) {
+        Validate.nonNull(fgColor, "foreground color");
+        Validate.nonNull(bgColor, "background color");
+        Validate.nonEmpty(assetName, "asset name");
+
+        Recipe result = new MakeSingleStep(fgColor, bgColor, assetName);
+        return result;
+    }
+
+    /**
+     * Instantiate a recipe for a sound button.
+     *
+     * @param fgColor the color of the foreground shapes (not null)
+     * @param bgColor the color of the circular background (not null)
+     * @param assetName the name of the asset (not null, not empty)
+     * @return a new recipe (not null)
+     */
+    public static Recipe sound(Color fgColor, Color bgColor, String assetName) {
+        Validate.nonNull(fgColor, "foreground color");
+        Validate.nonNull(bgColor, "background color");
+        Validate.nonEmpty(assetName, "asset name");
+
+        Recipe result = new MakeSound(fgColor, bgColor, assetName);
+        return result;
+    }
+}
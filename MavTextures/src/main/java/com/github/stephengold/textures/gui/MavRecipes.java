@@ -0,0 +1,185 @@
+/*
+ Copyright (c) 2026, Stephen Gold
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met:
+ * Redistributions of source code must retain the above copyright
+ notice, this list of conditions and the following disclaimer.
+ * Redistributions in binary form must reproduce the above copyright
+ notice, this list of conditions and the following disclaimer in the
+ documentation and/or other materials provided with the distribution.
+ * Neither the name of the copyright holder nor the names of its contributors
+ may be used to endorse or promote products derived from this software without
+ specific prior written permission.
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.github.stephengold.textures.gui;
+
+import com.github.stephengold.georg.Recipe;
+import java.awt.Color;
+import java.util.logging.Logger;
+import jme3utilities.Validate;
+
+/**
+ * Public factories for the recipes of the More Advanced Vehicles GUI
+ * textures, so apps can generate them at runtime with any colors. The round
+ * buttons are in MavButtonRecipes.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class MavRecipes {
+    // *************************************************************************
+    // constants and loggers
+
+    /**
+     * message logger for this class
+     */
+    final private static Logger logger
+            = Logger.getLogger(MavRecipes.class.getName());
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private MavRecipes() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Instantiate a recipe for a compass.
+     *
+     * @param fgColor the color of the foreground shapes (not null)
+     * @param bgColor the color of the background (not null)
+     * @param assetName the name of the asset (not null, not empty)
+     * @return a new recipe (not null)
+     */
+    public static Recipe compass(
+            Color fgColor, Color bgColor, String assetName) {
+        Validate.nonNull(fgColor, "foreground color");
+        Validate.nonNull(bgColor, "background color");
+        Validate.nonEmpty(assetName, "asset name");
+
+        Recipe result = new MakeCompass(fgColor, bgColor, assetName);
+        return result;
+    }
+
+    /**
+     * Instantiate a recipe for the background of a dial.
+     *
+     * @param redzoneColor the color of the redzone (not null)
+     * @param assetName the name of the asset (not null, not empty)
+     * @return a new recipe (not null)
+     */
+    public static Recipe dial(Color redzoneColor, String assetName) {
+        Validate.nonNull(redzoneColor, "redzone color");
+        Validate.nonEmpty(assetName, "asset name");
+
+        Recipe result = new MakeDials(redzoneColor, assetName);
+        return result;
+    }
+
+    /**
+     * Instantiate a recipe for a left-pointing triangle.
+     *
+     * @param fgColor the color of the foreground shapes (not null)
+     * @param bgColor the color of the background (not null)
+     * @param assetName the name of the asset (not null, not empty)
+     * @return a new recipe (not null)
+     */
+    public static Recipe leftTriangle(
+            Color fgColor, Color bgColor, String assetName) {
+        Validate.nonNull(fgColor, "foreground color");
+        Validate.nonNull(bgColor, "background color");
+        Validate.nonEmpty(assetName, "asset name");
+
+        Recipe result = new MakeLeftTriangle(fgColor, bgColor, assetName);
+        return result;
+    }
+
+    /**
+     * Instantiate a recipe for a loading animation.
+     *
+     * @param fgColor the color of the foreground shapes (not null)
+     * @param assetName the name of the asset (not null, not empty)
+     * @return a new recipe (not null)
+     */
+    public static Recipe loading(Color fgColor, String assetName) {
+        Validate.nonNull(fgColor, "foreground color");
+        Validate.nonEmpty(assetName, "asset name");
+
+        Recipe result = new MakeLoading(fgColor, assetName);
+        return result;
+    }
+
+    /**
+     * Instantiate a recipe for the needle of a dial.
+     *
+     * @param mainColor the color of the needle (not null)
+     * @param pivotColor the color of the pivot (not null)
+     * @param assetName the name of the asset (not null, not empty)
+     * @return a new recipe (not null)
+     */
+    public static Recipe needle(
+            Color mainColor, Color pivotColor, String assetName) {
+        Validate.nonNull(mainColor, "main color");
+        Validate.nonNull(pivotColor, "pivot color");
+        Validate.nonEmpty(assetName, "asset name");
+
+        Recipe result = new MakeNeedle(mainColor, pivotColor, assetName);
+        return result;
+    }
+
+    /**
+     * Instantiate a recipe for a skidmark.
+     *
+     * @param assetName the name of the asset (not null, not empty)
+     * @return a new recipe (not null)
+     */
+    public static Recipe skidmark(String assetName) {
+        Validate.nonEmpty(assetName, "asset name");
+
+        Recipe result = new MakeSkidmark(assetName);
+        return result;
+    }
+
+    /**
+     * Instantiate a recipe for a smoke particle.
+     *
+     * @param assetName the name of the asset (not null, not empty)
+     * @return a new recipe (not null)
+     */
+    public static Recipe smoke(String assetName) {
+        Validate.nonEmpty(assetName, "asset name");
+
+        Recipe result = new MakeSmoke(assetName);
+        return result;
+    }
+
+    /**
+     * Instantiate a recipe for a steering-wheel indicator.
+     *
+     * @param fgColor the color of the foreground shapes (not null)
+     * @param assetName the name of the asset (not null, not empty)
+     * @return a new recipe (not null)
+     */
+    public static Recipe steering(Color fgColor, String assetName) {
+        Validate.nonNull(fgColor, "foreground color");
+        Validate.nonEmpty(assetName, "asset name");
+
+        Recipe result = new MakeSteering(fgColor, assetName);
+        return result;
+    }
+}